@@ -0,0 +1,195 @@
+package com.leon.saintsdragons.test;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.registry.cindervane.CindervaneAbilities;
+import com.leon.saintsdragons.common.registry.raevyx.RaevyxAbilities;
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
+import com.leon.saintsdragons.server.entity.base.DragonEntity;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.monster.Husk;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.storage.ServerLevelData;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeded replays of the beam and volley abilities: the same cast is run twice from the same world state and
+ * both runs must damage the same targets, in the same order, on the same ticks.
+ *
+ * An ability's random is seeded from the world seed, the caster's UUID, the game time and the ability, so
+ * every run spawns the caster with a fixed UUID and rewinds the level's game time to when the first run
+ * started. Targets are AI-less husks with fire resistance, so burning, which draws on the level random,
+ * never shows up in the recorded hits. Each test is its own batch, since the rewind is visible to every
+ * test ticking alongside it.
+ */
+@GameTestHolder(SaintsDragons.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class AbilityReplayTests {
+    private static final String TEMPLATE = "benchmark_arena";
+    private static final int RUNS = 2;
+    private static final int REPLAY_TICKS = 100;
+    private static final UUID CASTER = new UUID(0x5D5D5D5DL, 0x15L);
+    private static final Vec3 CASTER_POS = new Vec3(24.0D, 1.0D, 10.0D);
+    private static final float TARGET_HEALTH = 1000.0F;
+
+    @GameTest(template = TEMPLATE, batch = "saintsdragons_replay_beam", timeoutTicks = 400)
+    public static void raevyxBeamReplays(GameTestHelper helper) {
+        replay(helper, BenchmarkDragon.RAEVYX, RaevyxAbilities.RAEVYX_LIGHTNING_BEAM);
+    }
+
+    @GameTest(template = TEMPLATE, batch = "saintsdragons_replay_volley", timeoutTicks = 400)
+    public static void cindervaneVolleyReplays(GameTestHelper helper) {
+        replay(helper, BenchmarkDragon.CINDERVANE, CindervaneAbilities.FIRE_BREATH_VOLLEY);
+    }
+
+    private static void replay(GameTestHelper helper, BenchmarkDragon dragon, DragonAbilityType<?, ?> ability) {
+        Replay replay = new Replay(helper, dragon, ability);
+        helper.startSequence()
+                .thenWaitUntil(replay::tick)
+                .thenExecute(replay::check)
+                .thenSucceed();
+    }
+
+    private static final class Replay {
+        private final GameTestHelper helper;
+        private final BenchmarkArena arena;
+        private final BenchmarkDragon dragonType;
+        private final DragonAbilityType<?, ?> ability;
+        private final List<List<ReplayHit>> runs = new ArrayList<>();
+
+        private long startTime;
+        private int ticks;
+        @Nullable
+        private DragonEntity caster;
+        @Nullable
+        private ReplayHitRecorder recorder;
+        @Nullable
+        private String failure;
+
+        Replay(GameTestHelper helper, BenchmarkDragon dragonType, DragonAbilityType<?, ?> ability) {
+            this.helper = helper;
+            this.arena = new BenchmarkArena(helper);
+            this.dragonType = dragonType;
+            this.ability = ability;
+            arena.build();
+        }
+
+        /**
+         * Advance the current run by one tick. Throws until every run is recorded, which keeps the sequence waiting.
+         */
+        void tick() {
+            if (failure != null || runs.size() == RUNS) {
+                return;
+            }
+            if (recorder == null) {
+                startRun();
+            } else if (++ticks >= REPLAY_TICKS) {
+                finishRun();
+            }
+            if (failure == null && runs.size() < RUNS) {
+                throw new GameTestAssertException("Replay " + (runs.size() + 1) + " of " + RUNS + " still running");
+            }
+        }
+
+        void check() {
+            if (failure != null) {
+                helper.fail(failure);
+            }
+            List<ReplayHit> expected = runs.get(0);
+            if (expected.isEmpty()) {
+                helper.fail(ability.getName() + " hit no target, nothing to compare");
+            }
+            for (int run = 1; run < RUNS; run++) {
+                List<ReplayHit> actual = runs.get(run);
+                for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+                    ReplayHit want = i < expected.size() ? expected.get(i) : null;
+                    ReplayHit got = i < actual.size() ? actual.get(i) : null;
+                    if (want == null || !want.equals(got)) {
+                        helper.fail(String.format("%s run %d diverged at hit %d: expected %s, got %s",
+                                ability.getName(), run + 1, i, want, got));
+                    }
+                }
+            }
+        }
+
+        private void startRun() {
+            ServerLevel level = helper.getLevel();
+            if (runs.isEmpty()) {
+                startTime = level.getGameTime();
+            } else if (level.getLevelData() instanceof ServerLevelData data) {
+                data.setGameTime(startTime);
+            } else {
+                failure = "Can't rewind the game time of " + level.dimension().location();
+                return;
+            }
+
+            DragonEntity dragon = dragonType.type().create(level);
+            if (dragon == null) {
+                failure = "Failed to create " + dragonType.id();
+                return;
+            }
+            Vec3 pos = helper.absoluteVec(CASTER_POS);
+            dragon.setUUID(CASTER);
+            dragon.moveTo(pos.x, pos.y, pos.z, 0.0F, 0.0F);
+            dragon.setYHeadRot(0.0F);
+            dragon.setYBodyRot(0.0F);
+            dragon.setNoAi(true);
+            level.addFreshEntity(dragon);
+            caster = dragon;
+
+            // Three rows of three in front of the caster; it faces +z
+            List<Husk> targets = new ArrayList<>();
+            for (int row = 0; row < 3; row++) {
+                for (int column = -1; column <= 1; column++) {
+                    Husk husk = arena.spawnExtra(EntityType.HUSK, CASTER_POS.add(column * 3.0D, 0.0D, 6.0D + row * 4.0D));
+                    husk.setNoAi(true);
+                    husk.getAttribute(Attributes.MAX_HEALTH).setBaseValue(TARGET_HEALTH);
+                    husk.setHealth(TARGET_HEALTH);
+                    husk.addEffect(new MobEffectInstance(MobEffects.FIRE_RESISTANCE, REPLAY_TICKS * 4, 0, false, false));
+                    targets.add(husk);
+                }
+            }
+            dragon.setTarget(targets.get(4));
+
+            ticks = 0;
+            recorder = ReplayHitRecorder.start(targets, startTime);
+            dragon.combatManager.tryUseAbility(ability);
+            if (!dragon.combatManager.isAbilityActive(ability)) {
+                failure = dragonType.id() + " could not cast " + ability.getName();
+                recorder.finish();
+            }
+        }
+
+        private void finishRun() {
+            if (caster != null) {
+                caster.combatManager.forceEndActiveAbility();
+            }
+            runs.add(recorder.finish());
+            recorder = null;
+            caster = null;
+
+            // Projectiles, drops and the caster go with the run, fire and any other placed blocks with the interior
+            ServerLevel level = helper.getLevel();
+            for (Entity entity : level.getEntities((Entity) null, helper.getBounds(), e -> !(e instanceof Player))) {
+                entity.discard();
+            }
+            arena.discard();
+            arena.fillInterior(1, BenchmarkArena.HEIGHT - 2, Blocks.AIR.defaultBlockState());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.leon.saintsdragons.test;
+
+import com.leon.saintsdragons.server.entity.base.DragonEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.util.FakePlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One benchmark arena: a stone floor boxed in by barriers, sized to the {@code benchmark_arena} template,
+ * plus every entity a scenario put in it. Dragons stand on a fixed grid so every run starts from the same
+ * layout.
+ */
+public final class BenchmarkArena {
+    /** Outer size of the arena, matching the empty structure template. */
+    public static final int SIZE = 48;
+    public static final int HEIGHT = 32;
+
+    private final GameTestHelper helper;
+    private final List<DragonEntity> dragons = new ArrayList<>();
+    private final List<Entity> extras = new ArrayList<>();
+    private final List<FakePlayer> riders = new ArrayList<>();
+    private int columns = 1;
+
+    public BenchmarkArena(GameTestHelper helper) {
+        this.helper = helper;
+    }
+
+    public ServerLevel level() {
+        return helper.getLevel();
+    }
+
+    public List<DragonEntity> dragons() {
+        return dragons;
+    }
+
+    public List<FakePlayer> riders() {
+        return riders;
+    }
+
+    /**
+     * Floor, walls and ceiling. Barriers keep wandering and flying dragons inside the measured area.
+     */
+    public void build() {
+        fill(0, 0, 0, SIZE - 1, 0, SIZE - 1, Blocks.STONE.defaultBlockState());
+        BlockState barrier = Blocks.BARRIER.defaultBlockState();
+        fill(0, HEIGHT - 1, 0, SIZE - 1, HEIGHT - 1, SIZE - 1, barrier);
+        fill(0, 1, 0, SIZE - 1, HEIGHT - 2, 0, barrier);
+        fill(0, 1, SIZE - 1, SIZE - 1, HEIGHT - 2, SIZE - 1, barrier);
+        fill(0, 1, 1, 0, HEIGHT - 2, SIZE - 2, barrier);
+        fill(SIZE - 1, 1, 1, SIZE - 1, HEIGHT - 2, SIZE - 2, barrier);
+    }
+
+    /**
+     * Fill the layers {@code fromY..toY} inside the walls.
+     */
+    public void fillInterior(int fromY, int toY, BlockState state) {
+        fill(1, fromY, 1, SIZE - 2, toY, SIZE - 2, state);
+    }
+
+    private void fill(int x0, int y0, int z0, int x1, int y1, int z1, BlockState state) {
+        ServerLevel level = level();
+        for (BlockPos pos : BlockPos.betweenClosed(x0, y0, z0, x1, y1, z1)) {
+            level.setBlock(helper.absolutePos(pos), state, Block.UPDATE_CLIENTS);
+        }
+    }
+
+    /**
+     * Spawn {@code count} dragons on an even grid, {@code height} blocks above the floor.
+     */
+    public void spawnDragons(BenchmarkDragon dragon, int count, double height) {
+        columns = Math.max(1, (int) Math.ceil(Math.sqrt(count)));
+        for (int i = 0; i < count; i++) {
+            DragonEntity entity = helper.spawn(dragon.type(), slot(i).add(0.0D, height, 0.0D));
+            entity.setYRot(0.0F);
+            entity.setYBodyRot(0.0F);
+            entity.setYHeadRot(0.0F);
+            dragons.add(entity);
+        }
+    }
+
+    /**
+     * @return floor-level centre of grid cell {@code index}, relative to the arena
+     */
+    public Vec3 slot(int index) {
+        double spacing = (SIZE - 8.0D) / columns;
+        double x = 4.0D + spacing * (index % columns + 0.5D);
+        double z = 4.0D + spacing * (index / columns + 0.5D);
+        return new Vec3(x, 1.0D, z);
+    }
+
+    /**
+     * Spawn a supporting entity (targets, props) that is discarded with the arena.
+     */
+    public <E extends Entity> E spawnExtra(EntityType<E> type, Vec3 relative) {
+        E entity = helper.spawn(type, relative);
+        extras.add(entity);
+        return entity;
+    }
+
+    public void addRider(FakePlayer rider) {
+        riders.add(rider);
+    }
+
+    /**
+     * Remove everything this arena spawned, so later batches don't tick leftovers.
+     */
+    public void discard() {
+        for (Entity entity : extras) {
+            entity.discard();
+        }
+        for (DragonEntity dragon : dragons) {
+            dragon.discard();
+        }
+        extras.clear();
+        dragons.clear();
+        riders.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package com.leon.saintsdragons.test;
+
+import com.leon.saintsdragons.common.registry.ModEntities;
+import com.leon.saintsdragons.server.entity.base.DragonEntity;
+import net.minecraft.world.entity.EntityType;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Dragons covered by the tick benchmarks, with the scenarios they can take part in.
+ */
+public enum BenchmarkDragon {
+    RAEVYX(ModEntities.RAEVYX::get, true, true),
+    CINDERVANE(ModEntities.CINDERVANE::get, true, true),
+    NULLJAW(ModEntities.NULLJAW::get, false, true),
+    STEGONAUT(ModEntities.STEGONAUT::get, false, false);
+
+    private final Supplier<? extends EntityType<? extends DragonEntity>> type;
+    private final boolean flies;
+    private final boolean rideable;
+
+    BenchmarkDragon(Supplier<? extends EntityType<? extends DragonEntity>> type, boolean flies, boolean rideable) {
+        this.type = type;
+        this.flies = flies;
+        this.rideable = rideable;
+    }
+
+    public EntityType<? extends DragonEntity> type() {
+        return type.get();
+    }
+
+    public boolean flies() {
+        return flies;
+    }
+
+    public boolean rideable() {
+        return rideable;
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,149 @@
+package com.leon.saintsdragons.test;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.network.NetworkStats;
+import com.leon.saintsdragons.server.entity.base.DragonEntity;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Samples the server level tick while a benchmark arena is the only thing running in it.
+ *
+ * Each sample covers one {@code ServerLevel.tick}, from the level tick event's START to its END phase:
+ * wall time, bytes allocated on the server thread, mod channel messages encoded, and how many dragons
+ * left the tick with dirty entity data (one entity data packet per tracking player on the next tick).
+ * Only one probe runs at a time; benchmarks each get their own batch.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class BenchmarkProbe {
+    @Nullable
+    private static BenchmarkProbe active;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private final ServerLevel level;
+    private final List<DragonEntity> dragons;
+    private final int warmupTicks;
+    private final long[] tickNanos;
+    private int ticksSeen;
+    private int samples;
+
+    private long tickStartNanos;
+    private long tickStartAllocated;
+    private long allocatedBytes;
+    private long messagesAtStart;
+    private long messagesAtEnd;
+    private long entityDataUpdates;
+
+    private BenchmarkProbe(ServerLevel level, List<DragonEntity> dragons, int warmupTicks, int measuredTicks) {
+        this.level = level;
+        this.dragons = dragons;
+        this.warmupTicks = warmupTicks;
+        this.tickNanos = new long[measuredTicks];
+    }
+
+    /**
+     * Start sampling {@code level}: {@code warmupTicks} ticks are skipped, the next {@code measuredTicks} recorded.
+     */
+    public static BenchmarkProbe start(ServerLevel level, List<DragonEntity> dragons, int warmupTicks, int measuredTicks) {
+        BenchmarkProbe probe = new BenchmarkProbe(level, dragons, warmupTicks, measuredTicks);
+        active = probe;
+        return probe;
+    }
+
+    public boolean isDone() {
+        return samples >= tickNanos.length;
+    }
+
+    /**
+     * Stop sampling and summarize what was recorded.
+     */
+    public BenchmarkResult finish(String name) {
+        if (active == this) {
+            active = null;
+        }
+        long[] sorted = Arrays.copyOf(tickNanos, samples);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long nanos : sorted) {
+            total += nanos;
+        }
+        int n = Math.max(1, samples);
+        long p99 = sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.99D) - 1)];
+        long messages = (isDone() ? messagesAtEnd : totalMessagesSent()) - messagesAtStart;
+        return new BenchmarkResult(name, dragons.size(), samples,
+                (double) total / n,
+                p99,
+                THREADS != null ? (double) allocatedBytes / n : -1.0D,
+                (double) messages / n,
+                (double) entityDataUpdates / n);
+    }
+
+    private void onTickStart() {
+        if (ticksSeen == warmupTicks) {
+            messagesAtStart = totalMessagesSent();
+        }
+        tickStartAllocated = allocatedOnThisThread();
+        tickStartNanos = System.nanoTime();
+    }
+
+    private void onTickEnd() {
+        long nanos = System.nanoTime() - tickStartNanos;
+        long allocated = allocatedOnThisThread() - tickStartAllocated;
+        if (ticksSeen++ < warmupTicks || isDone()) {
+            return;
+        }
+        tickNanos[samples++] = nanos;
+        allocatedBytes += allocated;
+        for (DragonEntity dragon : dragons) {
+            if (dragon.getEntityData().isDirty()) {
+                entityDataUpdates++;
+            }
+        }
+        if (isDone()) {
+            messagesAtEnd = totalMessagesSent();
+        }
+    }
+
+    private static long totalMessagesSent() {
+        long sent = 0;
+        for (NetworkStats.Entry entry : NetworkStats.entries()) {
+            sent += entry.sent();
+        }
+        return sent;
+    }
+
+    private static long allocatedOnThisThread() {
+        return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+    }
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        BenchmarkProbe probe = active;
+        if (probe == null || event.level != probe.level) {
+            return;
+        }
+        if (event.phase == TickEvent.Phase.START) {
+            probe.onTickStart();
+        } else {
+            probe.onTickEnd();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.leon.saintsdragons.test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.leon.saintsdragons.SaintsDragons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects benchmark results into a JSON report and checks them against the checked-in baseline.
+ *
+ * The report is rewritten after every result, so an aborted run still leaves what it measured. It has the
+ * same layout as the baseline ({@code src/gametest/resources/benchmarks/baseline.json}): to accept new
+ * numbers, copy the scenarios from a report taken on the reference machine into the baseline.
+ * Only the metrics present in a baseline entry are gated, each against {@code baseline * tolerance}. A scenario
+ * without an entry fails, so a new scenario can't slip through ungated; run with
+ * {@code -Dsaintsdragons.benchmark.record=true} to skip the gate while taking the report for its entry.
+ */
+public final class BenchmarkReport {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String[] GATED_METRICS = {"meanTickNanos", "p99TickNanos", "allocatedBytesPerTick", "packetsPerTick"};
+    private static final double DEFAULT_TOLERANCE = 1.25D;
+    private static final boolean RECORDING = Boolean.getBoolean("saintsdragons.benchmark.record");
+
+    private static final Map<String, BenchmarkResult> RESULTS = new LinkedHashMap<>();
+    private static JsonObject baseline;
+
+    private BenchmarkReport() {}
+
+    public static synchronized void record(BenchmarkResult result) {
+        RESULTS.put(result.name(), result);
+        write();
+    }
+
+    /**
+     * @return one message per gated metric of {@code result} that exceeds its baseline, or a single message if
+     * the baseline has no entry for it; empty if none do or when recording
+     */
+    public static synchronized List<String> regressions(BenchmarkResult result) {
+        List<String> regressions = new ArrayList<>();
+        if (RECORDING) {
+            return regressions;
+        }
+        JsonObject scenarios = baseline().getAsJsonObject("scenarios");
+        if (scenarios == null || !scenarios.has(result.name())) {
+            regressions.add(result.name() + " has no baseline entry; run with -Dsaintsdragons.benchmark.record=true"
+                    + " and copy it from the report into the baseline");
+            return regressions;
+        }
+        JsonObject expected = scenarios.getAsJsonObject(result.name());
+        JsonObject measured = result.toJson();
+        double tolerance = tolerance();
+        for (String metric : GATED_METRICS) {
+            if (!expected.has(metric) || !measured.has(metric)) continue;
+            double limit = expected.get(metric).getAsDouble() * tolerance;
+            double value = measured.get(metric).getAsDouble();
+            if (value >= 0 && value > limit) {
+                regressions.add(String.format("%s %s = %.1f exceeds baseline %.1f x %.2f",
+                        result.name(), metric, value, expected.get(metric).getAsDouble(), tolerance));
+            }
+        }
+        return regressions;
+    }
+
+    private static double tolerance() {
+        String override = System.getProperty("saintsdragons.benchmark.tolerance");
+        if (override != null) {
+            return Double.parseDouble(override);
+        }
+        JsonElement tolerance = baseline().get("tolerance");
+        return tolerance != null ? tolerance.getAsDouble() : DEFAULT_TOLERANCE;
+    }
+
+    private static JsonObject baseline() {
+        if (baseline == null) {
+            baseline = loadBaseline();
+        }
+        return baseline;
+    }
+
+    private static JsonObject loadBaseline() {
+        String path = System.getProperty("saintsdragons.benchmark.baseline");
+        try {
+            if (path != null) {
+                try (Reader reader = Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8)) {
+                    return JsonParser.parseReader(reader).getAsJsonObject();
+                }
+            }
+            try (InputStream in = BenchmarkReport.class.getResourceAsStream("/benchmarks/baseline.json")) {
+                if (in == null) {
+                    if (!RECORDING) {
+                        SaintsDragons.LOGGER.error("No benchmark baseline found, every benchmark will fail");
+                    }
+                    return new JsonObject();
+                }
+                return JsonParser.parseReader(new InputStreamReader(in, StandardCharsets.UTF_8)).getAsJsonObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read benchmark baseline", e);
+        }
+    }
+
+    private static void write() {
+        JsonObject scenarios = new JsonObject();
+        for (BenchmarkResult result : RESULTS.values()) {
+            scenarios.add(result.name(), result.toJson());
+        }
+        JsonObject report = new JsonObject();
+        report.addProperty("tolerance", tolerance());
+        report.add("scenarios", scenarios);
+
+        Path path = Path.of(System.getProperty("saintsdragons.benchmark.report", "benchmarks/report.json"));
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, GSON.toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            SaintsDragons.LOGGER.error("Failed to write benchmark report to {}", path.toAbsolutePath(), e);
+        }
+    }
+}
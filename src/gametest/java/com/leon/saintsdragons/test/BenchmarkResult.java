@@ -0,0 +1,40 @@
+package com.leon.saintsdragons.test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Measurements for one dragon/scenario pair, all per server tick.
+ *
+ * @param name                  {@code <dragon>_<scenario>}
+ * @param dragons               dragons in the arena
+ * @param ticks                 measured ticks
+ * @param meanTickNanos         mean level tick time
+ * @param p99TickNanos          99th percentile level tick time
+ * @param allocatedBytesPerTick bytes allocated on the server thread, -1 if the JVM can't tell
+ * @param messagesPerTick       mod channel messages encoded
+ * @param entityDataPerTick     dragons whose entity data has to be resent
+ */
+public record BenchmarkResult(String name, int dragons, int ticks, double meanTickNanos, long p99TickNanos,
+                              double allocatedBytesPerTick, double messagesPerTick, double entityDataPerTick) {
+
+    /**
+     * @return outbound packets per tick and per tracking player
+     */
+    public double packetsPerTick() {
+        return messagesPerTick + entityDataPerTick;
+    }
+
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("dragons", dragons);
+        json.addProperty("ticks", ticks);
+        json.addProperty("meanTickNanos", Math.round(meanTickNanos));
+        json.addProperty("p99TickNanos", p99TickNanos);
+        json.addProperty("meanTickNanosPerDragon", Math.round(meanTickNanos / Math.max(1, dragons)));
+        json.addProperty("allocatedBytesPerTick", Math.round(allocatedBytesPerTick));
+        json.addProperty("messagesPerTick", messagesPerTick);
+        json.addProperty("entityDataPerTick", entityDataPerTick);
+        json.addProperty("packetsPerTick", packetsPerTick());
+        return json;
+    }
+}
@@ -0,0 +1,182 @@
+package com.leon.saintsdragons.test;
+
+import com.leon.saintsdragons.common.network.MessageDragonRideInput;
+import com.leon.saintsdragons.server.entity.base.DragonEntity;
+import com.leon.saintsdragons.server.entity.base.RideableDragonBase;
+import com.leon.saintsdragons.server.entity.interfaces.DragonFlightCapable;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.monster.Husk;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * What the dragons in a benchmark arena are doing. Every scenario is scripted from the arena layout alone,
+ * so two runs of the same build see the same setup.
+ */
+public enum BenchmarkScenario {
+    /** Wild dragons left alone on the arena floor. */
+    IDLE {
+        @Override
+        public boolean appliesTo(BenchmarkDragon dragon) {
+            return true;
+        }
+    },
+
+    /** Wild dragons kept airborne halfway up the arena. */
+    FLYING {
+        @Override
+        public boolean appliesTo(BenchmarkDragon dragon) {
+            return dragon.flies();
+        }
+
+        @Override
+        public double spawnHeight() {
+            return 14.0D;
+        }
+
+        @Override
+        public void setup(BenchmarkArena arena) {
+            tick(arena, 0);
+        }
+
+        @Override
+        public void tick(BenchmarkArena arena, int tick) {
+            for (DragonEntity dragon : arena.dragons()) {
+                if (dragon instanceof DragonFlightCapable flier && !flier.isFlying()) {
+                    flier.setFlying(true);
+                }
+            }
+        }
+    },
+
+    /** Every dragon targets its own husk, which is replaced as soon as it dies. */
+    COMBAT {
+        @Override
+        public boolean appliesTo(BenchmarkDragon dragon) {
+            return true;
+        }
+
+        @Override
+        public void setup(BenchmarkArena arena) {
+            tick(arena, 0);
+        }
+
+        @Override
+        public void tick(BenchmarkArena arena, int tick) {
+            for (int i = 0; i < arena.dragons().size(); i++) {
+                DragonEntity dragon = arena.dragons().get(i);
+                LivingEntity target = dragon.getTarget();
+                if (target == null || !target.isAlive()) {
+                    Husk husk = arena.spawnExtra(EntityType.HUSK, arena.slot(i).add(3.0D, 0.0D, 0.0D));
+                    dragon.setTarget(husk);
+                }
+            }
+        }
+    },
+
+    /** Dragons dropped into a pool that fills the arena. */
+    SWIMMING {
+        @Override
+        public boolean appliesTo(BenchmarkDragon dragon) {
+            return true;
+        }
+
+        @Override
+        public double spawnHeight() {
+            return 3.0D;
+        }
+
+        @Override
+        public void prepare(BenchmarkArena arena) {
+            arena.fillInterior(1, POOL_DEPTH, Blocks.WATER.defaultBlockState());
+        }
+    },
+
+    /** Tamed dragons ridden by fake players walking a slow circle. */
+    RIDDEN {
+        @Override
+        public boolean appliesTo(BenchmarkDragon dragon) {
+            return dragon.rideable();
+        }
+
+        @Override
+        public void setup(BenchmarkArena arena) {
+            for (int i = 0; i < arena.dragons().size(); i++) {
+                DragonEntity dragon = arena.dragons().get(i);
+                FakePlayer rider = FakePlayerFactory.get(arena.level(),
+                        new GameProfile(new UUID(0x5D5D5D5DL, i), "benchmark_rider_" + i));
+                dragon.setTame(true);
+                dragon.setOwnerUUID(rider.getUUID());
+                rider.moveTo(dragon.getX(), dragon.getY(), dragon.getZ(), dragon.getYRot(), 0.0F);
+                rider.startRiding(dragon, true);
+                arena.addRider(rider);
+            }
+        }
+
+        @Override
+        public void tick(BenchmarkArena arena, int tick) {
+            for (int i = 0; i < arena.dragons().size(); i++) {
+                if (!(arena.dragons().get(i) instanceof RideableDragonBase dragon)) continue;
+                FakePlayer rider = arena.riders().get(i);
+                float yaw = (i * 45.0F + tick * 3.0F) % 360.0F;
+                rider.setYRot(yaw);
+                rider.setYHeadRot(yaw);
+                dragon.handleRiderNetworkInput(rider, new MessageDragonRideInput(0, -1,
+                        MessageDragonRideInput.quantizeAxis(1.0F), MessageDragonRideInput.quantizeAxis(0.0F),
+                        MessageDragonRideInput.quantizeAngle(yaw), MessageDragonRideInput.quantizeAngle(0.0F)));
+            }
+        }
+
+        @Override
+        public void cleanup(BenchmarkArena arena) {
+            for (FakePlayer rider : arena.riders()) {
+                rider.stopRiding();
+            }
+        }
+    };
+
+    static final int POOL_DEPTH = 8;
+
+    public abstract boolean appliesTo(BenchmarkDragon dragon);
+
+    /**
+     * @return height above the arena floor the dragons are spawned at
+     */
+    public double spawnHeight() {
+        return 1.0D;
+    }
+
+    /**
+     * Extra blocks for this scenario, placed before any dragon spawns.
+     */
+    public void prepare(BenchmarkArena arena) {
+    }
+
+    /**
+     * Called once after the dragons spawned.
+     */
+    public void setup(BenchmarkArena arena) {
+    }
+
+    /**
+     * Called every test tick, warm-up included.
+     */
+    public void tick(BenchmarkArena arena, int tick) {
+    }
+
+    /**
+     * Called once the measurement is over, before the arena's entities are discarded.
+     */
+    public void cleanup(BenchmarkArena arena) {
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
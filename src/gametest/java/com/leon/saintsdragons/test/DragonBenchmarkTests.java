@@ -0,0 +1,83 @@
+package com.leon.saintsdragons.test;
+
+import com.leon.saintsdragons.SaintsDragons;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dragon tick benchmarks, one game test per dragon and scenario, run with {@code gradlew runGameTestServer}.
+ *
+ * Every test builds its own arena, spawns the dragons, lets them warm up, then samples the level tick through
+ * {@link BenchmarkProbe}. Results are appended to the JSON report and the test fails if a gated metric exceeds
+ * the baseline or the baseline has no entry for it (see {@link BenchmarkReport}). Each test is its own batch
+ * so arenas never tick side by side.
+ *
+ * Tunable with system properties: {@code saintsdragons.benchmark.dragons} (per arena, default 8),
+ * {@code .warmup} and {@code .ticks} (default 100 and 400), plus the report/baseline/record options of
+ * {@link BenchmarkReport}.
+ */
+@GameTestHolder(SaintsDragons.MOD_ID)
+public class DragonBenchmarkTests {
+    private static final String TEMPLATE = SaintsDragons.MOD_ID + ":benchmark_arena";
+    private static final int DRAGONS = Integer.getInteger("saintsdragons.benchmark.dragons", 8);
+    private static final int WARMUP_TICKS = Integer.getInteger("saintsdragons.benchmark.warmup", 100);
+    private static final int MEASURED_TICKS = Integer.getInteger("saintsdragons.benchmark.ticks", 400);
+    // Slack for setup and the tick the result is written on
+    private static final int TIMEOUT_MARGIN = 40;
+
+    @GameTestGenerator
+    public static List<TestFunction> benchmarks() {
+        List<TestFunction> tests = new ArrayList<>();
+        for (BenchmarkDragon dragon : BenchmarkDragon.values()) {
+            for (BenchmarkScenario scenario : BenchmarkScenario.values()) {
+                if (!scenario.appliesTo(dragon)) continue;
+                String name = dragon.id() + "_" + scenario.id();
+                tests.add(new TestFunction("saintsdragons_benchmark_" + name, "dragonbenchmark." + name, TEMPLATE,
+                        WARMUP_TICKS + MEASURED_TICKS + TIMEOUT_MARGIN, 0L, true,
+                        helper -> run(helper, name, dragon, scenario)));
+            }
+        }
+        return tests;
+    }
+
+    private static void run(GameTestHelper helper, String name, BenchmarkDragon dragon, BenchmarkScenario scenario) {
+        BenchmarkArena arena = new BenchmarkArena(helper);
+        arena.build();
+        scenario.prepare(arena);
+        arena.spawnDragons(dragon, DRAGONS, scenario.spawnHeight());
+        scenario.setup(arena);
+
+        BenchmarkProbe probe = BenchmarkProbe.start(helper.getLevel(), arena.dragons(), WARMUP_TICKS, MEASURED_TICKS);
+        int[] tick = {0};
+        boolean[] finished = {false};
+        helper.onEachTick(() -> {
+            if (finished[0]) {
+                return;
+            }
+            if (!probe.isDone()) {
+                scenario.tick(arena, ++tick[0]);
+                return;
+            }
+            finished[0] = true;
+            BenchmarkResult result = probe.finish(name);
+            scenario.cleanup(arena);
+            arena.discard();
+
+            BenchmarkReport.record(result);
+            SaintsDragons.LOGGER.info("Benchmark {}: mean {} us, p99 {} us, {} B/tick, {} packets/tick",
+                    name, Math.round(result.meanTickNanos() / 1000.0D), result.p99TickNanos() / 1000L,
+                    Math.round(result.allocatedBytesPerTick()), String.format("%.2f", result.packetsPerTick()));
+
+            List<String> regressions = BenchmarkReport.regressions(result);
+            if (!regressions.isEmpty()) {
+                helper.fail(String.join("; ", regressions));
+            }
+            helper.succeed();
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.leon.saintsdragons.test;
+
+/**
+ * One damage event on a replay target.
+ *
+ * @param tick       game time since the cast started
+ * @param target     index of the target in spawn order
+ * @param damageType message id of the damage type
+ * @param amount     damage before armor
+ */
+public record ReplayHit(long tick, int target, String damageType, float amount) {
+}
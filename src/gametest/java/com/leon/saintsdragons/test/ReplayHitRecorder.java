@@ -0,0 +1,64 @@
+package com.leon.saintsdragons.test;
+
+import com.leon.saintsdragons.SaintsDragons;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the damage a fixed set of targets takes, in the order the server applies it. Only one recorder
+ * runs at a time; replay tests each get their own batch.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class ReplayHitRecorder {
+    @Nullable
+    private static ReplayHitRecorder active;
+
+    private final List<? extends LivingEntity> targets;
+    private final long startTime;
+    private final List<ReplayHit> hits = new ArrayList<>();
+
+    private ReplayHitRecorder(List<? extends LivingEntity> targets, long startTime) {
+        this.targets = targets;
+        this.startTime = startTime;
+    }
+
+    public static ReplayHitRecorder start(List<? extends LivingEntity> targets, long startTime) {
+        ReplayHitRecorder recorder = new ReplayHitRecorder(targets, startTime);
+        active = recorder;
+        return recorder;
+    }
+
+    public List<ReplayHit> finish() {
+        if (active == this) {
+            active = null;
+        }
+        return List.copyOf(hits);
+    }
+
+    private int indexOf(LivingEntity entity) {
+        for (int i = 0; i < targets.size(); i++) {
+            if (targets.get(i) == entity) return i;
+        }
+        return -1;
+    }
+
+    @SubscribeEvent
+    public static void onLivingHurt(LivingHurtEvent event) {
+        ReplayHitRecorder recorder = active;
+        if (recorder == null) {
+            return;
+        }
+        LivingEntity entity = event.getEntity();
+        int index = recorder.indexOf(entity);
+        if (index >= 0) {
+            recorder.hits.add(new ReplayHit(entity.level().getGameTime() - recorder.startTime, index,
+                    event.getSource().getMsgId(), event.getAmount()));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
+import com.leon.saintsdragons.server.entity.handler.AbilityCooldowns;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cooldown bookkeeping of the combat handler: the readiness check every ability use goes through, arming a
+ * cooldown, and the NBT round-trip of the {@code AbilityCooldowns} tag.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbilityCooldownsBenchmark {
+    private static final String TAG = "AbilityCooldowns";
+
+    private DragonAbilityType<?, ?>[] types;
+    private AbilityCooldowns cooldowns;
+    private AbilityCooldowns loaded;
+    private CompoundTag saved;
+    private long now;
+    private int next;
+
+    @Setup
+    public void setup() {
+        types = BenchmarkAbilities.types();
+        cooldowns = new AbilityCooldowns();
+        loaded = new AbilityCooldowns();
+        now = 24000L;
+        // Half the abilities cooling down, as after a fight
+        for (int i = 0; i < types.length; i += 2) {
+            cooldowns.set(types[i], 20 + i * 10, now);
+        }
+        saved = new CompoundTag();
+        cooldowns.save(saved, TAG, now);
+    }
+
+    private DragonAbilityType<?, ?> nextType() {
+        return types[next++ & (BenchmarkAbilities.COUNT - 1)];
+    }
+
+    @Benchmark
+    public boolean isReady() {
+        return cooldowns.isReady(nextType(), now);
+    }
+
+    @Benchmark
+    public int remaining() {
+        return cooldowns.remaining(nextType(), now);
+    }
+
+    @Benchmark
+    public void set() {
+        cooldowns.set(nextType(), 40, now);
+    }
+
+    @Benchmark
+    public CompoundTag save() {
+        CompoundTag tag = new CompoundTag();
+        cooldowns.save(tag, TAG, now);
+        return tag;
+    }
+
+    @Benchmark
+    public AbilityCooldowns load() {
+        loaded.load(saved, TAG, now);
+        return loaded;
+    }
+}
@@ -0,0 +1,53 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AbilityRegistry} lookups: by name (network and NBT decoding), type to name (encoding) and by ordinal
+ * (the array-backed per-ability state).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbilityRegistryBenchmark {
+    private DragonAbilityType<?, ?>[] types;
+    private String[] names;
+    private int[] ordinals;
+    private int next;
+
+    @Setup
+    public void setup() {
+        types = BenchmarkAbilities.types();
+        names = new String[types.length];
+        ordinals = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            names[i] = types[i].getName();
+            ordinals[i] = types[i].ordinal();
+        }
+    }
+
+    @Benchmark
+    public DragonAbilityType<?, ?> getByName() {
+        return AbilityRegistry.get(names[next++ & (BenchmarkAbilities.COUNT - 1)]);
+    }
+
+    @Benchmark
+    public String getName() {
+        return AbilityRegistry.getName(types[next++ & (BenchmarkAbilities.COUNT - 1)]);
+    }
+
+    @Benchmark
+    public DragonAbilityType<?, ?> byOrdinal() {
+        return AbilityRegistry.byOrdinal(ordinals[next++ & (BenchmarkAbilities.COUNT - 1)]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.server.entity.handler.DragonAllyGraph;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NBT round-trips of the ally data: one owner's {@code [{UUID, Username}]} list, as legacy dragon NBT and the
+ * graph store it, and the whole {@link DragonAllyGraph} saved data for a number of owners.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AllyNbtBenchmark {
+    // Full lists, the ally limit of DragonAllyManager
+    private static final int MAX_ALLIES = 10;
+
+    @Param({"1", "64"})
+    private int owners;
+
+    private DragonAllyGraph.AllyList allies;
+    private ListTag alliesTag;
+    private DragonAllyGraph graph;
+    private CompoundTag graphTag;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        graph = new DragonAllyGraph();
+        for (int o = 0; o < owners; o++) {
+            UUID owner = new UUID(random.nextLong(), random.nextLong());
+            for (int a = 0; a < MAX_ALLIES; a++) {
+                graph.add(owner, new UUID(random.nextLong(), random.nextLong()), "Ally_" + o + "_" + a,
+                        MAX_ALLIES);
+            }
+            if (o == 0) {
+                allies = graph.get(owner);
+            }
+        }
+        alliesTag = allies.write();
+        graphTag = graph.save(new CompoundTag());
+    }
+
+    @Benchmark
+    public ListTag writeAllyList() {
+        return allies.write();
+    }
+
+    @Benchmark
+    public DragonAllyGraph.AllyList readAllyList() {
+        return DragonAllyGraph.AllyList.read(alliesTag);
+    }
+
+    @Benchmark
+    public CompoundTag saveGraph() {
+        return graph.save(new CompoundTag());
+    }
+
+    @Benchmark
+    public DragonAllyGraph loadGraph() {
+        return DragonAllyGraph.load(graphTag);
+    }
+}
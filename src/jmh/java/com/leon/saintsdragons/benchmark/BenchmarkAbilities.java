@@ -0,0 +1,30 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.server.entity.ability.DragonAbility;
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
+import net.minecraft.world.entity.LivingEntity;
+
+/**
+ * Synthetic ability types for the benchmarks. The real ones live in the per-dragon holders, which pull in the
+ * entity classes; these only need a name and an ordinal. Registered once per benchmark JVM.
+ */
+final class BenchmarkAbilities {
+    // Power of two so benchmarks can cycle through them with a mask
+    static final int COUNT = 32;
+
+    private static DragonAbilityType<?, ?>[] types;
+
+    private BenchmarkAbilities() {}
+
+    static synchronized DragonAbilityType<?, ?>[] types() {
+        if (types == null) {
+            types = new DragonAbilityType<?, ?>[COUNT];
+            for (int i = 0; i < COUNT; i++) {
+                types[i] = AbilityRegistry.register(new DragonAbilityType<LivingEntity, DragonAbility<LivingEntity>>(
+                        "benchmark_ability_" + i, (type, user) -> null));
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,80 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.util.DragonMathUtil;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Quaternionf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-tick smoothing and vector helpers of {@link DragonMathUtil}. Inputs come from state fields so the
+ * JIT can't fold them into constants.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DragonMathBenchmark {
+    private float current;
+    private float previous;
+    private float desired;
+    private float progress;
+    private Vec3 velocity;
+    private Vec3 push;
+
+    @Setup
+    public void setup() {
+        current = 170.0F;
+        previous = 165.0F;
+        desired = -170.0F;
+        progress = 0.37F;
+        velocity = new Vec3(1.8D, -0.4D, 2.6D);
+        push = new Vec3(0.2D, 0.5D, -0.1D);
+    }
+
+    @Benchmark
+    public float approachSmooth() {
+        return DragonMathUtil.approachSmooth(current, previous, desired, 4.0F, 0.5F);
+    }
+
+    @Benchmark
+    public float approachDegreesSmooth() {
+        return DragonMathUtil.approachDegreesSmooth(current, previous, desired, 4.0F, 0.5F);
+    }
+
+    @Benchmark
+    public float lerpEaseInOutCubic() {
+        return DragonMathUtil.lerpSmooth(previous, current, progress, DragonMathUtil.EasingFunction.EASE_IN_OUT_CUBIC);
+    }
+
+    @Benchmark
+    public float lerpEaseOutSine() {
+        return DragonMathUtil.lerpSmooth(previous, current, progress, DragonMathUtil.EasingFunction.EASE_OUT_SINE);
+    }
+
+    @Benchmark
+    public Vec3 clampVectorLength() {
+        return DragonMathUtil.clampVectorLength(velocity, 2.0D);
+    }
+
+    @Benchmark
+    public Vec3 addHorizontalMovement() {
+        return DragonMathUtil.addHorizontalMovement(velocity, push);
+    }
+
+    @Benchmark
+    public double clampAltitude() {
+        return DragonMathUtil.clampAltitude(current, previous, 4.0D, 40.0D);
+    }
+
+    @Benchmark
+    public Quaternionf quatFromRotationXYZ() {
+        return DragonMathUtil.quatFromRotationXYZ(current, desired, progress, true);
+    }
+}
@@ -0,0 +1,54 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.server.entity.dragons.raevyx.ClientLocators;
+import com.leon.saintsdragons.server.entity.dragons.raevyx.LocatorId;
+import org.joml.Matrix4f;
+import org.joml.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Raevyx render frame's locator work: every locator sampled through a bone world matrix, then read back
+ * the way rider placement and step sounds do. With the gc profiler, gc.alloc.rate.norm should be ≈0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocatorSamplingBenchmark {
+    private static final LocatorId[] IDS = LocatorId.values();
+
+    private ClientLocators locators;
+    private Matrix4f bone;
+    private Vector3d out;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        locators = new ClientLocators();
+        // Stands in for GeoBone#getWorldSpaceMatrix(), which hands back the bone's own matrix
+        bone = new Matrix4f().translation(120.5F, 71.0F, -48.25F).rotateY(0.6F).scale(1.3F);
+        out = new Vector3d();
+    }
+
+    @Benchmark
+    public double sampleFrame() {
+        float offset = ++frame & 15;
+        for (LocatorId id : IDS) {
+            locators.sample(id, bone, offset, 40.0F, -offset);
+        }
+        return locators.x(LocatorId.PASSENGER) + locators.y(LocatorId.PASSENGER) + locators.z(LocatorId.PASSENGER);
+    }
+
+    @Benchmark
+    public double readMouth() {
+        locators.set(LocatorId.MOUTH, frame, 64.0D, -frame);
+        return locators.read(LocatorId.MOUTH, out) ? out.y : 0.0D;
+    }
+}
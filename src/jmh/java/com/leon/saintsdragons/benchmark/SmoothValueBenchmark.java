@@ -0,0 +1,69 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.util.math.InterpolationType;
+import com.leon.saintsdragons.util.math.SmoothValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SmoothValue} as the renderers drive it: one {@code update} per tick, one {@code get} per frame,
+ * plus the raw {@link InterpolationType} functions underneath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SmoothValueBenchmark {
+    @Param({"LINEAR", "CATMULLROM"})
+    private InterpolationType type;
+
+    private SmoothValue value;
+    private SmoothValue rotation;
+    private double a;
+    private double b;
+    private float partialTick;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        value = new SmoothValue(type, 0.0D, false);
+        rotation = new SmoothValue(type, 350.0D, true);
+        a = 350.0D;
+        b = 10.0D;
+        partialTick = 0.42F;
+    }
+
+    @Benchmark
+    public double interpolate() {
+        return type.interpolate(a, b, partialTick);
+    }
+
+    @Benchmark
+    public double interpolateRot() {
+        return type.interpolateRot(a, b, partialTick);
+    }
+
+    /**
+     * One tick of a value chasing a target that keeps moving, then a frame's read.
+     */
+    @Benchmark
+    public double updateAndGet() {
+        value.setTo((++tick & 63) * 2.0D);
+        value.update(0.25F);
+        return value.get(partialTick);
+    }
+
+    @Benchmark
+    public double updateAndGetRotation() {
+        rotation.setTo((++tick & 1) == 0 ? 10.0D : 350.0D);
+        rotation.update(0.25F);
+        return rotation.get(partialTick);
+    }
+}
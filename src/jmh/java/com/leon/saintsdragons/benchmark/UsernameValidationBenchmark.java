@@ -0,0 +1,60 @@
+package com.leon.saintsdragons.benchmark;
+
+import com.leon.saintsdragons.server.entity.handler.DragonAllyManager;
+import com.leon.saintsdragons.util.ModerationFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ally name validation in names per second: the full {@link DragonAllyManager#checkUsername} path and the
+ * {@link ModerationFilter} scan on its own. The name pool is seeded, mostly valid names with some that fail
+ * the format checks early.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UsernameValidationBenchmark {
+    private static final int POOL = 1024;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_";
+
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        names = new String[POOL];
+        for (int i = 0; i < POOL; i++) {
+            int length = 3 + random.nextInt(14);
+            StringBuilder name = new StringBuilder(length + 2);
+            for (int c = 0; c < length; c++) {
+                name.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            switch (i % 16) {
+                case 0 -> name.insert(0, ' ');
+                case 1 -> name.setCharAt(0, '-');
+                case 2 -> name.setLength(2);
+                default -> {}
+            }
+            names[i] = name.toString();
+        }
+    }
+
+    @Benchmark
+    public DragonAllyManager.AllyResult checkUsername() {
+        return DragonAllyManager.checkUsername(names[next++ & (POOL - 1)]);
+    }
+
+    @Benchmark
+    public boolean moderationFilter() {
+        return ModerationFilter.DEFAULT.isInappropriateUsername(names[next++ & (POOL - 1)]);
+    }
+}
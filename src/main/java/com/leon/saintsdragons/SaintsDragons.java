@@ -2,10 +2,10 @@ package com.leon.saintsdragons;
 
 import com.leon.saintsdragons.client.ClientProxy;
 import com.leon.saintsdragons.client.renderer.cindervane.CindervaneRenderer;
-import com.leon.saintsdragons.client.renderer.raevyx.RaevyxLightningChainRenderer;
 import com.leon.saintsdragons.client.renderer.raevyx.RaevyxRenderer;
 import com.leon.saintsdragons.client.renderer.stegonaut.StegonautRenderer;
 import com.leon.saintsdragons.client.renderer.nulljaw.NulljawRenderer;
+import com.leon.saintsdragons.common.config.SaintsDragonsClientConfig;
 import com.leon.saintsdragons.common.config.SaintsDragonsConfig;
 import com.leon.saintsdragons.common.network.NetworkHandler;
 import com.leon.saintsdragons.common.registry.ModEntities;
@@ -14,6 +14,8 @@ import com.leon.saintsdragons.common.registry.ModParticles;
 import com.leon.saintsdragons.common.registry.ModSounds;
 import com.leon.saintsdragons.common.world.SDWorldRegistry;
 import com.leon.saintsdragons.server.command.DragonAllyCommand;
+import com.leon.saintsdragons.server.command.NetStatsCommand;
+import com.leon.saintsdragons.server.entity.ability.abilities.stegonaut.BinderBuffState;
 import com.leon.saintsdragons.server.entity.dragons.cindervane.Cindervane;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
 import com.leon.saintsdragons.server.entity.dragons.stegonaut.Stegonaut;
@@ -57,6 +59,7 @@ public class SaintsDragons {
 
         // Register config
         ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, SaintsDragonsConfig.SPEC, "saintsdragonsspawning.toml");
+        ModLoadingContext.get().registerConfig(ModConfig.Type.CLIENT, SaintsDragonsClientConfig.SPEC, "saintsdragons-client.toml");
 
         // Register deferred registries
         ModEntities.REGISTER.register(modBus);
@@ -68,6 +71,7 @@ public class SaintsDragons {
         modBus.addListener(this::onEntityAttributes);
         modBus.addListener(this::onRegisterRenderers);
         modBus.addListener(this::onBuildCreativeTabContents);
+        modBus.addListener(BinderBuffState::register);
 
         MinecraftForge.EVENT_BUS.addListener(this::onSpawnPlacements);
         MinecraftForge.EVENT_BUS.addListener(this::onRegisterCommands);
@@ -89,7 +93,6 @@ public class SaintsDragons {
 
     private void onRegisterRenderers(EntityRenderersEvent.RegisterRenderers event) {
         event.registerEntityRenderer(ModEntities.RAEVYX.get(), RaevyxRenderer::new);
-        event.registerEntityRenderer(ModEntities.RAEVYX_LIGHTNING_CHAIN.get(), RaevyxLightningChainRenderer::new);
         event.registerEntityRenderer(ModEntities.STEGONAUT.get(), StegonautRenderer::new);
         event.registerEntityRenderer(ModEntities.CINDERVANE.get(), CindervaneRenderer::new);
         event.registerEntityRenderer(ModEntities.NULLJAW.get(), NulljawRenderer::new);
@@ -148,5 +151,6 @@ public class SaintsDragons {
 
     private void onRegisterCommands(RegisterCommandsEvent event) {
         DragonAllyCommand.register(event.getDispatcher());
+        NetStatsCommand.register(event.getDispatcher());
     }
 }
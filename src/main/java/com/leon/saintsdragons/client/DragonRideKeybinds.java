@@ -1,8 +1,10 @@
 package com.leon.saintsdragons.client;
 
-import com.leon.saintsdragons.common.network.DragonRiderAction;
+import com.leon.saintsdragons.common.config.SaintsDragonsClientConfig;
 import com.leon.saintsdragons.common.network.MessageDragonRideInput;
 import com.leon.saintsdragons.common.network.NetworkHandler;
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.base.RideableDragonBase;
 import com.leon.saintsdragons.server.entity.base.RideableDragonBase.RiderAbilityBinding;
 import com.leon.saintsdragons.server.entity.base.RideableDragonBase.RiderAbilityBinding.Activation;
@@ -71,7 +73,6 @@ public class DragonRideKeybinds {
     );
 
     private static boolean wasAscendPressed = false;
-    private static boolean wasAccelerateDown = false;
     private static boolean wasTertiaryAbilityDown = false;
     private static boolean wasPrimaryAbilityDown = false;
     private static boolean wasSecondaryAbilityDown = false;
@@ -81,12 +82,19 @@ public class DragonRideKeybinds {
     // Melee toggle cooldown (3 seconds = 60 ticks)
     private static int meleeCooldownTicks = 0;
 
-    // Movement state tracking to avoid spamming movement packets
-    private static float lastForward = 0f;
-    private static float lastStrafe = 0f;
-    private static float lastYaw = 0f;
-    private static boolean lastAscendDown = false;
-    private static boolean lastDescendDown = false;
+    // Ordinal of the HOLD ability currently held, or -1
+    private static int heldAbilityOrdinal = -1;
+    // Ability edge claimed this tick; a message carries at most one ability ordinal
+    private static boolean abilityEdgeSent = false;
+    private static int pressedAbilityOrdinal = -1;
+
+    // Last sent input, so a packet only goes out when something changed (-1 forces the first one)
+    private static int lastFlags = -1;
+    private static int lastAbilityOrdinal = -1;
+    private static byte lastForward = 0;
+    private static byte lastStrafe = 0;
+    private static short lastYaw = 0;
+    private static short lastPitch = 0;
 
     @Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
     public static class ModEventHandler {
@@ -139,40 +147,19 @@ public class DragonRideKeybinds {
         boolean toggleMeleeDown = DRAGON_TOGGLE_MELEE.isDown();
         Minecraft mc = Minecraft.getInstance();
         boolean attackDown = mc.options.keyAttack.isDown();
-        boolean sneakDown = mc.options.keyShift.isDown();
-
-        float forward = player.zza;
-        float strafe = player.xxa;
-        float yaw = player.getYRot();
-
-        // Only send movement input when something actually changes (prevents spamming 20 packets/sec)
-        boolean movementChanged = forward != lastForward ||
-                                  strafe != lastStrafe ||
-                                  Math.abs(yaw - lastYaw) > 0.1f ||
-                                  ascendDown != lastAscendDown ||
-                                  descendDown != lastDescendDown;
-
-        if (movementChanged) {
-            sendInput(ascendDown, descendDown, DragonRiderAction.NONE, null, forward, strafe, yaw);
-            lastForward = forward;
-            lastStrafe = strafe;
-            lastYaw = yaw;
-            lastAscendDown = ascendDown;
-            lastDescendDown = descendDown;
-        }
 
-        if (accelerateDown != wasAccelerateDown) {
-            DragonRiderAction action = accelerateDown ? DragonRiderAction.ACCELERATE : DragonRiderAction.STOP_ACCELERATE;
-            sendInput(ascendDown, descendDown, action, null, forward, strafe, yaw);
-        }
+        int flags = 0;
+        if (ascendDown) flags |= MessageDragonRideInput.GOING_UP;
+        if (descendDown) flags |= MessageDragonRideInput.GOING_DOWN;
+        if (accelerateDown) flags |= MessageDragonRideInput.ACCELERATE;
 
         if (ascendDown && !wasAscendPressed && !dragon.isFlying()) {
-            sendInput(false, false, DragonRiderAction.TAKEOFF_REQUEST, null, forward, strafe, yaw);
+            flags |= MessageDragonRideInput.TAKEOFF;
         }
 
         // Handle melee toggle - only on press (not hold) and not on cooldown
         if (toggleMeleeDown && !wasToggleMeleeDown && meleeCooldownTicks == 0) {
-            sendInput(false, false, DragonRiderAction.TOGGLE_MELEE, null, forward, strafe, yaw);
+            flags |= MessageDragonRideInput.TOGGLE_MELEE;
             meleeCooldownTicks = 60; // 3 seconds at 20 ticks/second
 
             // Trigger UI notification
@@ -183,61 +170,102 @@ public class DragonRideKeybinds {
                 .showNotification(newMode);
         }
 
-        handleAbilityBinding(dragon.getTertiaryRiderAbility(), tertiaryDown, wasTertiaryAbilityDown, forward, strafe, yaw);
-        handleAbilityBinding(dragon.getPrimaryRiderAbility(), primaryDown, wasPrimaryAbilityDown, forward, strafe, yaw);
-        handleAbilityBinding(dragon.getSecondaryRiderAbility(), secondaryDown, wasSecondaryAbilityDown, forward, strafe, yaw);
-        handleAbilityBinding(dragon.getAttackRiderAbility(), attackDown, wasAttackDown, forward, strafe, yaw);
+        abilityEdgeSent = false;
+        pressedAbilityOrdinal = -1;
+        wasTertiaryAbilityDown = handleAbilityBinding(dragon.getTertiaryRiderAbility(), tertiaryDown, wasTertiaryAbilityDown);
+        wasPrimaryAbilityDown = handleAbilityBinding(dragon.getPrimaryRiderAbility(), primaryDown, wasPrimaryAbilityDown);
+        wasSecondaryAbilityDown = handleAbilityBinding(dragon.getSecondaryRiderAbility(), secondaryDown, wasSecondaryAbilityDown);
+        wasAttackDown = handleAbilityBinding(dragon.getAttackRiderAbility(), attackDown, wasAttackDown);
+
+        int abilityOrdinal = heldAbilityOrdinal;
+        if (heldAbilityOrdinal >= 0) flags |= MessageDragonRideInput.ABILITY_HELD;
+        if (pressedAbilityOrdinal >= 0) {
+            flags |= MessageDragonRideInput.ABILITY_PRESS;
+            abilityOrdinal = pressedAbilityOrdinal;
+        }
+
+        byte forward = MessageDragonRideInput.quantizeAxis(player.zza);
+        byte strafe = MessageDragonRideInput.quantizeAxis(player.xxa);
+        short yaw = MessageDragonRideInput.quantizeAngle(player.getYRot());
+        short pitch = MessageDragonRideInput.quantizeAngle(player.getXRot());
+
+        // Keys and movement always go out on change; camera turns only past the configured threshold
+        int angleThreshold = (int) (SaintsDragonsClientConfig.RIDER_INPUT_ANGLE_THRESHOLD.get() / MessageDragonRideInput.ANGLE_STEP);
+        boolean changed = flags != lastFlags
+                || (flags & MessageDragonRideInput.ONE_SHOT_FLAGS) != 0
+                || abilityOrdinal != lastAbilityOrdinal
+                || forward != lastForward
+                || strafe != lastStrafe
+                || MessageDragonRideInput.angleDelta(yaw, lastYaw) > angleThreshold
+                || MessageDragonRideInput.angleDelta(pitch, lastPitch) > angleThreshold;
+
+        if (changed) {
+            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
+                    new MessageDragonRideInput(flags, abilityOrdinal, forward, strafe, yaw, pitch));
+            lastFlags = flags;
+            lastAbilityOrdinal = abilityOrdinal;
+            lastForward = forward;
+            lastStrafe = strafe;
+            lastYaw = yaw;
+            lastPitch = pitch;
+        }
 
         wasAscendPressed = ascendDown;
-        wasAccelerateDown = accelerateDown;
-        wasTertiaryAbilityDown = tertiaryDown;
-        wasPrimaryAbilityDown = primaryDown;
-        wasSecondaryAbilityDown = secondaryDown;
-        wasAttackDown = attackDown;
         wasToggleMeleeDown = toggleMeleeDown;
     }
 
-    private static void handleAbilityBinding(RiderAbilityBinding binding, boolean currentDown, boolean previousDown, float forward, float strafe, float yaw) {
-        if (binding == null) {
-            return;
+    /**
+     * Folds one ability key into this tick's message. Only one ability edge fits per message, so an edge
+     * that loses out keeps the previous key state and is picked up next tick.
+     *
+     * @return the key state to remember for the next tick
+     */
+    private static boolean handleAbilityBinding(RiderAbilityBinding binding, boolean currentDown, boolean previousDown) {
+        if (binding == null || currentDown == previousDown) {
+            return currentDown;
         }
-        String abilityId = binding.abilityId();
-        if (abilityId == null || abilityId.isEmpty()) {
-            return;
+        DragonAbilityType<?, ?> type = AbilityRegistry.get(binding.abilityId());
+        if (type == null) {
+            return currentDown;
         }
+        int ordinal = type.ordinal();
 
-        Activation activation = binding.activation();
-        if (activation == Activation.PRESS) {
-            if (currentDown && !previousDown) {
-                sendInput(false, false, DragonRiderAction.ABILITY_USE, abilityId, forward, strafe, yaw);
-            }
-        } else if (activation == Activation.HOLD) {
-            if (currentDown && !previousDown) {
-                sendInput(false, false, DragonRiderAction.ABILITY_USE, abilityId, forward, strafe, yaw);
-            } else if (!currentDown && previousDown) {
-                sendInput(false, false, DragonRiderAction.ABILITY_STOP, abilityId, forward, strafe, yaw);
-            }
+        boolean hold = binding.activation() == Activation.HOLD;
+        if (hold && !currentDown && heldAbilityOrdinal != ordinal) {
+            // Released a HOLD key that was sent as a plain press
+            return false;
         }
-    }
+        if (!hold && !currentDown) {
+            return false;
+        }
+        if (abilityEdgeSent) {
+            return previousDown;
+        }
+        abilityEdgeSent = true;
 
-    private static void sendInput(boolean goingUp, boolean goingDown, DragonRiderAction action, String abilityName, float forward, float strafe, float yaw) {
-        NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                new MessageDragonRideInput(goingUp, goingDown, action, abilityName, forward, strafe, yaw));
+        if (hold && (!currentDown || heldAbilityOrdinal < 0)) {
+            heldAbilityOrdinal = currentDown ? ordinal : -1;
+        } else {
+            // PRESS binding, or a second HOLD key while another is held: fire once
+            pressedAbilityOrdinal = ordinal;
+        }
+        return currentDown;
     }
 
     private static void resetStateTracking() {
         wasAscendPressed = false;
-        wasAccelerateDown = false;
         wasTertiaryAbilityDown = false;
         wasPrimaryAbilityDown = false;
         wasSecondaryAbilityDown = false;
         wasAttackDown = false;
         wasToggleMeleeDown = false;
         meleeCooldownTicks = 0;
-        lastForward = 0f;
-        lastStrafe = 0f;
-        lastYaw = 0f;
-        lastAscendDown = false;
-        lastDescendDown = false;
+        heldAbilityOrdinal = -1;
+        lastFlags = -1;
+        lastAbilityOrdinal = -1;
+        lastForward = 0;
+        lastStrafe = 0;
+        lastYaw = 0;
+        lastPitch = 0;
     }
 }
@@ -4,11 +4,8 @@ import com.leon.saintsdragons.SaintsDragons;
 import com.leon.saintsdragons.server.entity.dragons.cindervane.Cindervane;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
 import com.leon.saintsdragons.server.entity.dragons.nulljaw.Nulljaw;
-import com.leon.saintsdragons.server.entity.interfaces.ShakesScreen;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.Mob;
-import net.minecraft.world.phys.AABB;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.ViewportEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -76,25 +73,9 @@ public class ClientEventHandler {
             event.getCamera().move(-event.getCamera().getMaxZoom(15F), 0, 0);
         }
         
-        // Screen shake detection and application
-        double shakeDistanceScale = 64.0;
-        double distance = Double.MAX_VALUE;
-        // Screen shake system
-        float tremorAmount = 0.0F; // Reset tremor amount each frame
-
-        AABB aabb = player.getBoundingBox().inflate(shakeDistanceScale);
-        var level = Minecraft.getInstance().level;
-        if (level == null) return;
-        
-        for (Mob screenShaker : level.getEntitiesOfClass(Mob.class, aabb, (mob -> mob instanceof ShakesScreen))) {
-            ShakesScreen shakesScreen = (ShakesScreen) screenShaker;
-            if (shakesScreen.canFeelShake(player) && screenShaker.distanceTo(player) < distance) {
-                distance = screenShaker.distanceTo(player);
-                float shakeAmount = shakesScreen.getScreenShakeAmount((float) event.getPartialTick());
-                tremorAmount = Math.min((1F - (float) Math.min(1, distance / shakesScreen.getShakeDistance())) * Math.max(shakeAmount, 0F), 2.0F);
-            }
-        }
-        
+        // Screen shake: sources and falloff are resolved once per client tick by the registry
+        float tremorAmount = ScreenShakeRegistry.getTremor((float) event.getPartialTick());
+
         if (tremorAmount > 0) {
             // Generate random offsets for camera movement
             double intensity = tremorAmount * Minecraft.getInstance().options.screenEffectScale().get();
@@ -0,0 +1,95 @@
+package com.leon.saintsdragons.client.event;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.server.entity.interfaces.ShakesScreen;
+import net.minecraft.client.Minecraft;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client-side set of loaded {@link ShakesScreen} entities.
+ * Filled from entity join/leave events so the camera hook never has to scan the level.
+ * The combined tremor (nearest shaker, distance falloff) is resolved once per client tick
+ * and interpolated per frame via {@link #getTremor(float)}.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class ScreenShakeRegistry {
+    private static final double MAX_SHAKE_DISTANCE = 64.0;
+    private static final float MAX_TREMOR = 2.0F;
+
+    private static final List<Entity> SOURCES = new ArrayList<>();
+    private static float tremor;
+    private static float prevTremor;
+
+    private ScreenShakeRegistry() {}
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide && event.getEntity() instanceof ShakesScreen) {
+            Entity entity = event.getEntity();
+            if (!SOURCES.contains(entity)) {
+                SOURCES.add(entity);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide && event.getEntity() instanceof ShakesScreen) {
+            SOURCES.remove(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            SOURCES.clear();
+            tremor = 0.0F;
+            prevTremor = 0.0F;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        prevTremor = tremor;
+        tremor = 0.0F;
+
+        Entity viewer = Minecraft.getInstance().getCameraEntity();
+        if (viewer == null || SOURCES.isEmpty()) return;
+
+        // Nearest shaker that the viewer can feel wins, matching the old per-frame scan
+        double nearestSqr = MAX_SHAKE_DISTANCE * MAX_SHAKE_DISTANCE;
+        for (int i = SOURCES.size() - 1; i >= 0; i--) {
+            Entity source = SOURCES.get(i);
+            if (source.isRemoved()) {
+                SOURCES.remove(i);
+                continue;
+            }
+            if (source.level() != viewer.level()) continue;
+            ShakesScreen shaker = (ShakesScreen) source;
+            double distSqr = source.distanceToSqr(viewer);
+            if (distSqr >= nearestSqr || !shaker.canFeelShake(viewer)) continue;
+            nearestSqr = distSqr;
+            float falloff = 1.0F - (float) Math.min(1.0, Math.sqrt(distSqr) / shaker.getShakeDistance());
+            tremor = Math.min(falloff * Math.max(shaker.getScreenShakeAmount(1.0F), 0.0F), MAX_TREMOR);
+        }
+    }
+
+    /**
+     * @return combined tremor for the current frame, interpolated between client ticks
+     */
+    public static float getTremor(float partialTick) {
+        return Mth.lerp(partialTick, prevTremor, tremor);
+    }
+}
@@ -1,10 +1,12 @@
 package com.leon.saintsdragons.client.model.raevyx;
 
 import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.server.entity.base.DragonGrowthStage;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
 import com.leon.saintsdragons.server.entity.dragons.stegonaut.Stegonaut;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.core.animation.AnimationState;
 import software.bernie.geckolib.model.DefaultedEntityGeoModel;
@@ -32,7 +34,7 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
 
     @Override
     public ResourceLocation getModelResource(Raevyx entity) {
-        if (entity.isBaby()) {
+        if (entity.getGrowthStage() == DragonGrowthStage.BABY) {
             return BABY_MODEL;
         }
         if (entity.isFemale()) {
@@ -43,7 +45,7 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
 
     @Override
     public ResourceLocation getTextureResource(Raevyx entity) {
-        if (entity.isBaby()) {
+        if (entity.getGrowthStage() == DragonGrowthStage.BABY) {
             return BABY_TEXTURE;
         }
         return entity.isFemale() ? FEMALE_TEXTURE : MALE_TEXTURE;
@@ -51,10 +53,22 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
 
     @Override
     public ResourceLocation getAnimationResource(Raevyx entity) {
-        return entity.isBaby() ? BABY_ANIM : ADULT_ANIM;
+        return entity.getGrowthStage() == DragonGrowthStage.BABY ? BABY_ANIM : ADULT_ANIM;
     }
 
 
+    // Bone handles, resolved once per baked model (adult/baby use different models)
+    private static final String[] NECK_BONES = {"neck1LookControl", "neck2LookControl", "neck3LookControl", "neck4LookControl"};
+    private static final float[] NECK_WEIGHTS = {0.20f, 0.25f, 0.30f, 0.35f}; // Base -> tip
+    private static final String[] TAIL_BONES = {"tail1Controller", "tail2Controller", "tail3Controller", "tail4Controller", "tail5Controller"};
+    private static final float[] TAIL_WEIGHTS = {0.5f, 0.75f, 1.0f, 1.25f, 1.75f}; // Increasing intensity toward tip
+
+    private BakedGeoModel resolvedModel;
+    private GeoBone bodyBone;
+    private GeoBone headBone;
+    private final GeoBone[] neckBones = new GeoBone[NECK_BONES.length];
+    private final GeoBone[] tailBones = new GeoBone[TAIL_BONES.length];
+
     @Override
     public void setCustomAnimations(Raevyx entity, long instanceId, AnimationState<Raevyx> animationState) {
         // Let GeckoLib handle head tracking automatically
@@ -63,6 +77,7 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
         float partialTick = animationState.getPartialTick();
 
         if (entity.isAlive()) {
+            resolveBones(entity);
             applyBodyRotationDeviation(entity, partialTick);  // Same as Nulljaw/Stegonaut
             applyBankingRoll(entity, animationState);
             applyNeckFollow(entity, animationState);
@@ -70,18 +85,33 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
         }
     }
 
+    private void resolveBones(Raevyx entity) {
+        BakedGeoModel model = getBakedModel(getModelResource(entity));
+        if (model == resolvedModel) {
+            return;
+        }
+        resolvedModel = model;
+        bodyBone = model.getBone("body").orElse(null);
+        headBone = model.getBone("head").orElse(null);
+        for (int i = 0; i < NECK_BONES.length; i++) {
+            neckBones[i] = model.getBone(NECK_BONES[i]).orElse(null);
+        }
+        for (int i = 0; i < TAIL_BONES.length; i++) {
+            tailBones[i] = model.getBone(TAIL_BONES[i]).orElse(null);
+        }
+    }
+
     /**
      * Applies smooth body rotation using TDE's deviation approach.
      * bodyRotDeviation tracks the difference between head and body rotation.
      * This creates the natural "head leads, body follows" behavior.
      */
     private void applyBodyRotationDeviation(Raevyx entity, float partialTick) {
-        var rootOpt = getBone("body");
-        if (rootOpt.isEmpty()) {
+        GeoBone root = bodyBone;
+        if (root == null) {
             return;
         }
 
-        GeoBone root = rootOpt.get();
         var snap = root.getInitialSnapshot();
 
         // Get the smoothed head-body difference
@@ -99,12 +129,11 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
      * FIXED: Always calculate from initialSnapshot to prevent cross-entity sync bleeding.
      */
     private void applyBankingRoll(Raevyx entity, AnimationState<Raevyx> state) {
-        var bodyOpt = getBone("body");
-        if (bodyOpt.isEmpty()) {
+        GeoBone body = bodyBone;
+        if (body == null) {
             return;
         }
 
-        GeoBone body = bodyOpt.get();
         var snap = body.getInitialSnapshot();
 
         float partialTick = state.getPartialTick();
@@ -124,10 +153,8 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
      * Simple version like Nulljaw - no special beaming logic.
      */
     private void applyNeckFollow(Raevyx entity, AnimationState<Raevyx> state) {
-        var headOpt = getBone("head");
-        if (headOpt.isEmpty()) return;
-
-        GeoBone head = headOpt.get();
+        GeoBone head = headBone;
+        if (head == null) return;
 
         // Get how much GeckoLib rotated the parent "head" bone
         float headDeltaX = head.getRotX() - head.getInitialSnapshot().getRotX();
@@ -139,17 +166,14 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
         head.setRotY(head.getInitialSnapshot().getRotY());
 
         // Now distribute the rotation across neck segments (4 segments for Raevyx)
-        applyNeckBoneFollow("neck1LookControl", headDeltaX, headDeltaY, 0.20f);  // Base
-        applyNeckBoneFollow("neck2LookControl", headDeltaX, headDeltaY, 0.25f);  // Lower-mid
-        applyNeckBoneFollow("neck3LookControl", headDeltaX, headDeltaY, 0.30f);  // Upper-mid
-        applyNeckBoneFollow("neck4LookControl", headDeltaX, headDeltaY, 0.35f);  // Tip
+        for (int i = 0; i < neckBones.length; i++) {
+            applyNeckBoneFollow(neckBones[i], headDeltaX, headDeltaY, NECK_WEIGHTS[i]);
+        }
     }
 
-    private void applyNeckBoneFollow(String boneName, float headDeltaX, float headDeltaY, float weight) {
-        var boneOpt = getBone(boneName);
-        if (boneOpt.isEmpty()) return;
+    private void applyNeckBoneFollow(GeoBone bone, float headDeltaX, float headDeltaY, float weight) {
+        if (bone == null) return;
 
-        GeoBone bone = boneOpt.get();
         var snap = bone.getInitialSnapshot();
 
         // Apply weighted portion of the head's rotation
@@ -161,12 +185,10 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
         bone.setRotY(snap.getRotY() + addY);
     }
 
-    // Tail drag state for frame-to-frame smoothing (prevents snapping on sprint transitions)
-    private float prevTailDragVelocity = 0f;
-
     /**
      * Applies tail drag effect based on turning speed (yaw velocity).
      * Works for both wild and ridden dragons - tail swings with turn direction.
+     * The smoothing state lives on the entity, since this model is shared by every Raevyx.
      */
     private void applyTailDrag(Raevyx entity, float partialTick) {
         // Use yawVelocity instead of bodyRotDeviation so it works when riding
@@ -178,30 +200,26 @@ public class RaevyxModel extends DefaultedEntityGeoModel<Raevyx> {
         // Apply additional client-side smoothing to prevent snapping during sprint transitions
         // Server-side yawVelocity smoothing (0.25f) isn't enough for visual smoothness
         float targetVelocity = (float) velocity;
-        float smoothedVelocity = Mth.lerp(0.15f, prevTailDragVelocity, targetVelocity); // Heavy smoothing
-        prevTailDragVelocity = smoothedVelocity;
+        float smoothedVelocity = Mth.lerp(0.15f, entity.getTailDragVelocity(), targetVelocity); // Heavy smoothing
+        entity.setTailDragVelocity(smoothedVelocity);
 
         float velocityRad = smoothedVelocity * Mth.DEG_TO_RAD;
 
         // Tail swings with increasing intensity toward tip
-        applyTailBoneRotation("tail1Controller", velocityRad * 0.5f);
-        applyTailBoneRotation("tail2Controller", velocityRad * 0.75f);
-        applyTailBoneRotation("tail3Controller", velocityRad * 1.0f);
-        applyTailBoneRotation("tail4Controller", velocityRad * 1.25f);
-        applyTailBoneRotation("tail5Controller", velocityRad * 1.75f);
+        for (int i = 0; i < tailBones.length; i++) {
+            applyTailBoneRotation(tailBones[i], velocityRad * TAIL_WEIGHTS[i]);
+        }
     }
 
     /**
      * Helper to apply Y-rotation to a tail bone.
      * ADDS to current rotation (preserves animation keyframes from GeckoLib).
      */
-    private void applyTailBoneRotation(String boneName, float rotationY) {
-        var boneOpt = getBone(boneName);
-        if (boneOpt.isEmpty()) {
+    private void applyTailBoneRotation(GeoBone bone, float rotationY) {
+        if (bone == null) {
             return;
         }
 
-        GeoBone bone = boneOpt.get();
         // Add to current rotation (which includes animation keyframes)
         bone.setRotY(bone.getRotY() + rotationY);
     }
@@ -0,0 +1,71 @@
+package com.leon.saintsdragons.client.particle;
+
+import com.leon.saintsdragons.common.network.LightningChainMessage;
+import com.leon.saintsdragons.common.particle.raevyx.RaevyxLightningArcData;
+import com.leon.saintsdragons.common.particle.raevyx.RaevyxLightningStormData;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Client-side expansion of a {@link LightningChainMessage}: a storm trail along every segment of the chain
+ * and a layered arc burst where each hop lands. The trail is coarsened through {@link ParticleBudget#detail}.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class LightningChainEffects {
+
+    private LightningChainEffects() {}
+
+    public static void spawn(ClientLevel level, LightningChainMessage message) {
+        boolean female = message.isFemale();
+        float size = message.getSize();
+        RaevyxLightningStormData storm = new RaevyxLightningStormData(size, female);
+
+        for (int i = 1; i < message.getPointCount(); i++) {
+            double fromX = message.getPoint(i - 1, 0);
+            double fromY = message.getPoint(i - 1, 1);
+            double fromZ = message.getPoint(i - 1, 2);
+            double dx = message.getPoint(i, 0) - fromX;
+            double dy = message.getPoint(i, 1) - fromY;
+            double dz = message.getPoint(i, 2) - fromZ;
+            double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (length < 1.0E-4) {
+                continue;
+            }
+
+            // Coarsen the trail under budget pressure: fewer, larger storm particles along the same line
+            int fullSegments = Math.max(3, (int) (length * 4));
+            float detail = ParticleBudget.detail(ParticleBudget.Priority.LOW,
+                    fromX + dx * 0.5, fromY + dy * 0.5, fromZ + dz * 0.5);
+            int segments = Math.max(1, Math.round(fullSegments * detail));
+            ParticleBudget.noteCoarsened(fullSegments - segments);
+            RaevyxLightningStormData segmentStorm = segments == fullSegments ? storm
+                    : new RaevyxLightningStormData(size * Math.min(2.0F, (float) Math.sqrt(fullSegments / (double) segments)), female);
+
+            double dirX = dx / length;
+            double dirY = dy / length;
+            double dirZ = dz / length;
+            for (int s = 0; s <= segments; s++) {
+                double t = s / (double) segments;
+                level.addAlwaysVisibleParticle(segmentStorm,
+                        fromX + dx * t, fromY + dy * t, fromZ + dz * t,
+                        dirX, dirY, dirZ);
+            }
+
+            spawnImpact(level, message.getPoint(i, 0), message.getPoint(i, 1), message.getPoint(i, 2), size * 0.6F, female);
+        }
+    }
+
+    private static void spawnImpact(ClientLevel level, double x, double y, double z, float size, boolean female) {
+        for (int layer = 0; layer < 4; layer++) {
+            RaevyxLightningArcData arc = new RaevyxLightningArcData(size * (1.0F + layer * 0.25F), female);
+            float layerOffset = layer * 0.1F;
+            for (int i = 0; i < 6; i++) {
+                double angle = (i * Math.PI * 2) / 6.0;
+                level.addParticle(arc,
+                        x + Math.cos(angle) * layerOffset, y + layerOffset, z + Math.sin(angle) * layerOffset,
+                        0.0, 0.0, 0.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.leon.saintsdragons.client.particle;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.config.SaintsDragonsClientConfig;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Per-frame budget for the mod's particles, enforced in the particle factories (returning {@code null}
+ * from a provider spawns nothing).
+ *
+ * The frame budget shrinks while the frame rate is below target, and each priority may only fill part of
+ * it, so low priority particles are dropped first. The share also shrinks with distance from the camera,
+ * and each source area (the 16x16x16 section a particle spawns in) has its own cap so one busy fight can't
+ * use up the frame. Emitters that spawn many particles per effect ask {@link #detail} first and coarsen
+ * (fewer, larger particles) instead of being cut off part way.
+ */
+@OnlyIn(Dist.CLIENT)
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class ParticleBudget {
+    private ParticleBudget() {}
+
+    public enum Priority {
+        /** Filler: trails, smoke. */
+        LOW(0.5F),
+        NORMAL(0.8F),
+        /** Particles that carry gameplay information, e.g. the chain arc itself. Never culled by distance. */
+        HIGH(1.0F);
+
+        // Part of the frame/source budget this priority may fill
+        private final float share;
+
+        Priority(float share) {
+            this.share = share;
+        }
+    }
+
+    // Farthest particles get this fraction of their priority's share
+    private static final float MIN_DISTANCE_SCALE = 0.25F;
+    // Floor for the frame-time scaling so effects never vanish entirely
+    private static final float MIN_LOAD_SCALE = 0.2F;
+    private static final double FRAME_SMOOTHING = 0.1D;
+
+    private static final Long2IntOpenHashMap PER_SOURCE = new Long2IntOpenHashMap();
+
+    private static int frameBudget = Integer.MAX_VALUE;
+    private static int sourceBudget = Integer.MAX_VALUE;
+    private static int used;
+    private static double cameraX;
+    private static double cameraY;
+    private static double cameraZ;
+    private static double fullDetailDistance;
+    private static double cullDistance;
+    private static long lastFrameNanos;
+    private static double smoothedFrameNanos;
+
+    // Counters: current frame, last complete frame and totals since startup
+    private static int frameRequested;
+    private static int frameEmitted;
+    private static int lastFrameRequested;
+    private static int lastFrameEmitted;
+    private static long totalRequested;
+    private static long totalEmitted;
+
+    @SubscribeEvent
+    public static void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            beginFrame();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+        if (!SaintsDragonsClientConfig.PARTICLE_DEBUG_COUNTERS.get()) {
+            return;
+        }
+        event.getLeft().add(String.format("Saint's Dragons particles: %d/%d emitted (frame), %d/%d (total), budget %s",
+                lastFrameEmitted, lastFrameRequested, totalEmitted, totalRequested,
+                frameBudget == Integer.MAX_VALUE ? "unlimited" : Integer.toString(frameBudget)));
+    }
+
+    private static void beginFrame() {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0L) {
+            long frame = now - lastFrameNanos;
+            smoothedFrameNanos = smoothedFrameNanos == 0.0D ? frame
+                    : smoothedFrameNanos + (frame - smoothedFrameNanos) * FRAME_SMOOTHING;
+        }
+        lastFrameNanos = now;
+
+        double targetFrameNanos = 1.0e9D / SaintsDragonsClientConfig.PARTICLE_TARGET_FPS.get();
+        float loadScale = smoothedFrameNanos > targetFrameNanos
+                ? Mth.clamp((float) (targetFrameNanos / smoothedFrameNanos), MIN_LOAD_SCALE, 1.0F)
+                : 1.0F;
+        int perFrame = SaintsDragonsClientConfig.PARTICLE_BUDGET_PER_FRAME.get();
+        frameBudget = perFrame == 0 ? Integer.MAX_VALUE : Math.max(1, (int) (perFrame * loadScale));
+        sourceBudget = Math.max(1, (int) (SaintsDragonsClientConfig.PARTICLE_BUDGET_PER_SOURCE.get() * loadScale));
+        fullDetailDistance = SaintsDragonsClientConfig.PARTICLE_FULL_DETAIL_DISTANCE.get();
+        cullDistance = Math.max(fullDetailDistance + 1.0D, SaintsDragonsClientConfig.PARTICLE_CULL_DISTANCE.get());
+
+        Camera camera = Minecraft.getInstance().gameRenderer.getMainCamera();
+        Vec3 position = camera.getPosition();
+        cameraX = position.x;
+        cameraY = position.y;
+        cameraZ = position.z;
+
+        lastFrameRequested = frameRequested;
+        lastFrameEmitted = frameEmitted;
+        frameRequested = 0;
+        frameEmitted = 0;
+        used = 0;
+        PER_SOURCE.clear();
+    }
+
+    /**
+     * Claim budget for one particle. Call from a particle provider and return {@code null} when refused.
+     */
+    public static boolean tryAcquire(Priority priority, double x, double y, double z) {
+        frameRequested++;
+        totalRequested++;
+
+        float scale = distanceScale(priority, x, y, z);
+        if (scale <= 0.0F || used >= cap(frameBudget, priority, scale)) {
+            return false;
+        }
+        long source = SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y),
+                SectionPos.blockToSectionCoord(z));
+        int fromSource = PER_SOURCE.get(source);
+        if (fromSource >= cap(sourceBudget, priority, scale)) {
+            return false;
+        }
+        PER_SOURCE.put(source, fromSource + 1);
+        used++;
+        frameEmitted++;
+        totalEmitted++;
+        return true;
+    }
+
+    /**
+     * Fraction of full detail an effect at this position should use, in {@code [0, 1]}, based on distance
+     * and how much of the frame budget is left. Does not claim any budget.
+     */
+    public static float detail(Priority priority, double x, double y, double z) {
+        float scale = distanceScale(priority, x, y, z);
+        if (frameBudget == Integer.MAX_VALUE || scale <= 0.0F) {
+            return scale;
+        }
+        int cap = cap(frameBudget, priority, scale);
+        return cap <= 0 ? 0.0F : Mth.clamp((cap - used) / (float) cap, 0.0F, 1.0F) * scale;
+    }
+
+    /**
+     * Record particles an emitter wanted but skipped by coarsening, so the counters show the full demand.
+     */
+    public static void noteCoarsened(int skipped) {
+        if (skipped > 0) {
+            frameRequested += skipped;
+            totalRequested += skipped;
+        }
+    }
+
+    public static int lastFrameRequested() {
+        return lastFrameRequested;
+    }
+
+    public static int lastFrameEmitted() {
+        return lastFrameEmitted;
+    }
+
+    public static long totalRequested() {
+        return totalRequested;
+    }
+
+    public static long totalEmitted() {
+        return totalEmitted;
+    }
+
+    private static int cap(int budget, Priority priority, float scale) {
+        if (budget == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(1, (int) (budget * priority.share * scale));
+    }
+
+    private static float distanceScale(Priority priority, double x, double y, double z) {
+        double dx = x - cameraX;
+        double dy = y - cameraY;
+        double dz = z - cameraZ;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance <= fullDetailDistance) {
+            return 1.0F;
+        }
+        if (distance >= cullDistance) {
+            return priority == Priority.HIGH ? MIN_DISTANCE_SCALE : 0.0F;
+        }
+        float t = (float) ((distance - fullDetailDistance) / (cullDistance - fullDetailDistance));
+        return Mth.lerp(t, 1.0F, MIN_DISTANCE_SCALE);
+    }
+}
@@ -0,0 +1,103 @@
+package com.leon.saintsdragons.client.particle;
+
+import com.leon.saintsdragons.common.network.ParticleBurstMessage;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Client-side expansion of {@link ParticleBurstMessage}s into individual particles.
+ * Sample points are drawn from the burst shape using the packet seed, so every client sees the same layout.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class ParticleBurstEmitters {
+
+    private ParticleBurstEmitters() {}
+
+    public static void spawn(ClientLevel level, ParticleBurstMessage message) {
+        RandomSource random = RandomSource.create(message.getSeed());
+        double[] point = new double[3];
+        for (int i = 0; i < message.getCount(); i++) {
+            samplePoint(message, random, i, point);
+            switch (message.getEmitter()) {
+                case WATER_SPLASH -> emitWaterSplash(level, random, message, point);
+                case FIRE_AURA -> emitFireAura(level, random, point);
+            }
+        }
+    }
+
+    private static void samplePoint(ParticleBurstMessage message, RandomSource random, int index, double[] out) {
+        double sx = message.getSizeX();
+        double sy = message.getSizeY();
+        double sz = message.getSizeZ();
+        switch (message.getShape()) {
+            case RING -> {
+                double angle = random.nextDouble() * (Math.PI * 2.0);
+                out[0] = Math.cos(angle) * sx;
+                out[1] = (random.nextDouble() - 0.5) * sy;
+                out[2] = Math.sin(angle) * sz;
+            }
+            case DISC -> {
+                double angle = random.nextDouble() * (Math.PI * 2.0);
+                double r = Math.sqrt(random.nextDouble());
+                out[0] = Math.cos(angle) * r * sx;
+                out[1] = 0.0;
+                out[2] = Math.sin(angle) * r * sz;
+            }
+            case COLUMN -> {
+                double angle = random.nextDouble() * (Math.PI * 2.0);
+                double r = 0.5 + random.nextDouble() * Math.max(0.0, sx - 0.5);
+                out[0] = Math.cos(angle) * r;
+                out[1] = (random.nextDouble() - 0.5) * sy;
+                out[2] = Math.sin(angle) * r;
+            }
+            case LINE -> {
+                double t = message.getCount() > 1 ? index / (double) (message.getCount() - 1) : 0.0;
+                out[0] = sx * t;
+                out[1] = sy * t;
+                out[2] = sz * t;
+            }
+        }
+        out[0] += message.getX();
+        out[1] += message.getY();
+        out[2] += message.getZ();
+    }
+
+    private static void emitWaterSplash(ClientLevel level, RandomSource random, ParticleBurstMessage message, double[] p) {
+        // Splashes fly outward from the burst center, like the old per-particle packets did
+        double outX = (p[0] - message.getX()) * 0.2;
+        double outZ = (p[2] - message.getZ()) * 0.2;
+        emit(level, random, ParticleTypes.SPLASH, p, 1, outX, 0.1, outZ, 0.1);
+        // Bubbles (fewer than splashes)
+        if (random.nextFloat() < 0.25f) {
+            level.addParticle(ParticleTypes.BUBBLE_POP, p[0], p[1], p[2], 0.0, 0.0, 0.0);
+        }
+    }
+
+    private static void emitFireAura(ClientLevel level, RandomSource random, double[] p) {
+        double spread = 0.6D;
+        emit(level, random, ParticleTypes.FLAME, p, 12, spread, spread * 0.6D, spread, 0.05D);
+        emit(level, random, ParticleTypes.SMALL_FLAME, p, 9, spread * 0.4D, spread * 0.25D, spread * 0.4D, 0.02D);
+        emit(level, random, ParticleTypes.LAVA, p, 3, spread * 0.2D, spread * 0.2D, spread * 0.2D, 0.07D);
+        emit(level, random, ParticleTypes.LARGE_SMOKE, p, 6, spread * 0.8D, spread * 0.4D, spread * 0.8D, 0.0D);
+    }
+
+    /**
+     * Same distribution the vanilla particle packet uses: gaussian offsets scaled by the spread, gaussian velocity scaled by speed.
+     */
+    private static void emit(ClientLevel level, RandomSource random, ParticleOptions type, double[] p, int count,
+                             double dx, double dy, double dz, double speed) {
+        for (int i = 0; i < count; i++) {
+            double x = p[0] + random.nextGaussian() * dx;
+            double y = p[1] + random.nextGaussian() * dy;
+            double z = p[2] + random.nextGaussian() * dz;
+            double vx = random.nextGaussian() * speed;
+            double vy = random.nextGaussian() * speed;
+            double vz = random.nextGaussian() * speed;
+            level.addParticle(type, x, y, z, vx, vy, vz);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.leon.saintsdragons.client.particle.cindervane;
 
+import com.leon.saintsdragons.client.particle.ParticleBudget;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.*;
 import net.minecraft.core.particles.SimpleParticleType;
@@ -74,6 +75,9 @@ public class FireBreathSmokeParticle extends TextureSheetParticle {
         }
 
         public Particle createParticle(@org.jetbrains.annotations.NotNull SimpleParticleType typeIn, @org.jetbrains.annotations.NotNull ClientLevel worldIn, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+            if (!ParticleBudget.tryAcquire(ParticleBudget.Priority.LOW, x, y, z)) {
+                return null;
+            }
             FireBreathSmokeParticle particle = new FireBreathSmokeParticle(worldIn, x, y, z, xSpeed, ySpeed, zSpeed, spriteSet);
             return particle;
         }
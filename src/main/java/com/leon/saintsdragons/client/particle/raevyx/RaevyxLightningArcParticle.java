@@ -1,5 +1,6 @@
 package com.leon.saintsdragons.client.particle.raevyx;
 
+import com.leon.saintsdragons.client.particle.ParticleBudget;
 import com.leon.saintsdragons.common.particle.raevyx.RaevyxLightningArcData;
 import com.leon.saintsdragons.common.particle.raevyx.RaevyxLightningChainData;
 import com.mojang.blaze3d.vertex.VertexConsumer;
@@ -114,6 +115,7 @@ public class RaevyxLightningArcParticle extends TextureSheetParticle {
         
         @Override
         public Particle createParticle(@Nonnull RaevyxLightningArcData data, @Nonnull ClientLevel world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+            if (!ParticleBudget.tryAcquire(ParticleBudget.Priority.NORMAL, x, y, z)) return null;
             return new RaevyxLightningArcParticle(world, x, y, z, xSpeed, ySpeed, zSpeed, data.size(), spriteSet, data.female());
         }
     }
@@ -125,6 +127,7 @@ public class RaevyxLightningArcParticle extends TextureSheetParticle {
         
         @Override
         public Particle createParticle(@Nonnull RaevyxLightningChainData data, @Nonnull ClientLevel world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+            if (!ParticleBudget.tryAcquire(ParticleBudget.Priority.HIGH, x, y, z)) return null;
             return new RaevyxLightningArcParticle(world, x, y, z, xSpeed, ySpeed, zSpeed, data.size(), spriteSet, data.female());
         }
     }
@@ -1,5 +1,6 @@
 package com.leon.saintsdragons.client.particle.raevyx;
 
+import com.leon.saintsdragons.client.particle.ParticleBudget;
 import com.leon.saintsdragons.common.particle.raevyx.RaevyxLightningChainData;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.Camera;
@@ -143,6 +144,7 @@ public class RaevyxLightningChainParticle extends TextureSheetParticle {
         
         @Override
         public Particle createParticle(@Nonnull RaevyxLightningChainData data, @Nonnull ClientLevel world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+            if (!ParticleBudget.tryAcquire(ParticleBudget.Priority.HIGH, x, y, z)) return null;
             return new RaevyxLightningChainParticle(world, x, y, z, xSpeed, ySpeed, zSpeed, data.size(), spriteSet, data.startPos(), data.endPos(), data.female());
         }
     }
@@ -1,5 +1,6 @@
 package com.leon.saintsdragons.client.particle.raevyx;
 
+import com.leon.saintsdragons.client.particle.ParticleBudget;
 import com.leon.saintsdragons.common.particle.raevyx.RaevyxLightningStormData;
 import com.leon.saintsdragons.common.particle.raevyx.RaevyxLightningArcData;
 import com.mojang.blaze3d.vertex.VertexConsumer;
@@ -110,6 +111,7 @@ public class RaevyxLightningParticle extends TextureSheetParticle {
         public Factory(SpriteSet spriteSet) { this.spriteSet = spriteSet; }
         @Override
         public Particle createParticle(@Nonnull RaevyxLightningStormData data, @Nonnull ClientLevel world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+            if (!ParticleBudget.tryAcquire(ParticleBudget.Priority.LOW, x, y, z)) return null;
             return new RaevyxLightningParticle(world, x, y, z, xSpeed, ySpeed, zSpeed, data.size(), spriteSet, data.female());
         }
     }
@@ -120,6 +122,7 @@ public class RaevyxLightningParticle extends TextureSheetParticle {
         public FactoryArc(SpriteSet spriteSet) { this.spriteSet = spriteSet; }
         @Override
         public Particle createParticle(@Nonnull RaevyxLightningArcData data, @Nonnull ClientLevel world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+            if (!ParticleBudget.tryAcquire(ParticleBudget.Priority.NORMAL, x, y, z)) return null;
             return new RaevyxLightningParticle(world, x, y, z, xSpeed, ySpeed, zSpeed, data.size(), spriteSet, data.female());
         }
     }
@@ -1,6 +1,9 @@
 package com.leon.saintsdragons.client.renderer.raevyx;
 
 import com.leon.saintsdragons.client.model.raevyx.RaevyxModel;
+import com.leon.saintsdragons.server.entity.dragons.raevyx.ClientLocators;
+import com.leon.saintsdragons.server.entity.dragons.raevyx.LocatorId;
+import com.leon.saintsdragons.server.entity.base.DragonGrowthStage;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
 
 import net.minecraftforge.api.distmarker.Dist;
@@ -9,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nullable;
 import software.bernie.geckolib.renderer.GeoEntityRenderer;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.resources.ResourceLocation;
@@ -32,7 +36,7 @@ public class RaevyxRenderer extends GeoEntityRenderer<Raevyx> {
 
     @Override
     public @NotNull ResourceLocation getTextureLocation(@NotNull Raevyx entity) {
-        if (entity.isBaby()) {
+        if (entity.getGrowthStage() == DragonGrowthStage.BABY) {
             return TEXTURE_BABY;
         }
         return entity.isFemale() ? TEXTURE_FEMALE : TEXTURE_MALE;
@@ -59,7 +63,7 @@ public class RaevyxRenderer extends GeoEntityRenderer<Raevyx> {
         poseStack.scale(scale, scale, scale);
         this.shadowRadius = 2.0f * scale;
 
-        // Enable matrix tracking for the feet bones we care about
+        // Enable matrix tracking for the locator bones we care about (once per baked model)
         this.lastBakedModel = model;
         enableTrackingForBones(model);
 
@@ -92,55 +96,42 @@ public class RaevyxRenderer extends GeoEntityRenderer<Raevyx> {
     // X = left/right, Y = up/down (negative pushes down), Z = forward/back (negative = forward)
     private static final float PASSENGER_X = 0.0f, PASSENGER_Y = -3.0f, PASSENGER_Z = 0.0f;
 
+    // Bone handles resolved once per baked model (adult/baby swap the model)
+    private BakedGeoModel trackedModel;
+    private final GeoBone[] locatorBones = new GeoBone[LocatorId.COUNT];
+    // Scratch objects reused for every locator sample; render thread only
+
     private void enableTrackingForBones(BakedGeoModel model) {
-        if (model == null) return;
-        model.getBone("leftfeet").ifPresent(b -> b.setTrackingMatrices(true));
-        model.getBone("rightfeet").ifPresent(b -> b.setTrackingMatrices(true));
-        model.getBone("head").ifPresent(b -> b.setTrackingMatrices(true));
-        model.getBone("heightController").ifPresent(b -> b.setTrackingMatrices(true));
-        model.getBone("passengerBone").ifPresent(b -> b.setTrackingMatrices(true));
+        if (model == null || model == this.trackedModel) return;
+        this.trackedModel = model;
+        locatorBones[LocatorId.LEFT_FEET.ordinal()] = model.getBone("leftfeet").orElse(null);
+        locatorBones[LocatorId.RIGHT_FEET.ordinal()] = model.getBone("rightfeet").orElse(null);
+        locatorBones[LocatorId.MOUTH.ordinal()] = model.getBone("head").orElse(null);
+        locatorBones[LocatorId.BODY.ordinal()] = model.getBone("heightController").orElse(null);
+        locatorBones[LocatorId.PASSENGER.ordinal()] = model.getBone("passengerBone").orElse(null);
+        for (GeoBone bone : locatorBones) {
+            if (bone != null) bone.setTrackingMatrices(true);
+        }
     }
 
     private void sampleAndStashLocatorsAccurate(Raevyx entity) {
         if (this.lastBakedModel == null || entity == null) return;
-        // Sample left foot
-        this.lastBakedModel.getBone("leftfeet").ifPresent(b -> {
-            net.minecraft.world.phys.Vec3 world = transformLocator(b, L_LEFT_X, L_LEFT_Y, L_LEFT_Z);
-            if (world != null) entity.setClientLocatorPosition("leftfeetLocator", world);
-        });
-        // Sample right foot
-        this.lastBakedModel.getBone("rightfeet").ifPresent(b -> {
-            net.minecraft.world.phys.Vec3 world = transformLocator(b, L_RIGHT_X, L_RIGHT_Y, L_RIGHT_Z);
-            if (world != null) entity.setClientLocatorPosition("rightfeetLocator", world);
-        });
-        // Sample mouth origin
-        this.lastBakedModel.getBone("head").ifPresent(b -> {
-            net.minecraft.world.phys.Vec3 world = transformLocator(b, MOUTH_X, MOUTH_Y, MOUTH_Z);
-            if (world != null) entity.setClientLocatorPosition("mouth_origin", world);
-        });
-        // Sample body locator
-        this.lastBakedModel.getBone("heightController").ifPresent(b -> {
-            net.minecraft.world.phys.Vec3 world = transformLocator(b, BODY_X, BODY_Y, BODY_Z);
-            if (world != null) entity.setClientLocatorPosition("bodyLocator", world);
-        });
-        // Sample passenger bone position for rider placement
-        this.lastBakedModel.getBone("passengerBone").ifPresent(b -> {
-            net.minecraft.world.phys.Vec3 world = transformLocator(b, PASSENGER_X, PASSENGER_Y, PASSENGER_Z);
-            if (world != null) entity.setClientLocatorPosition("passengerLocator", world);
-        });
+        sampleLocator(entity, LocatorId.LEFT_FEET, L_LEFT_X, L_LEFT_Y, L_LEFT_Z);
+        sampleLocator(entity, LocatorId.RIGHT_FEET, L_RIGHT_X, L_RIGHT_Y, L_RIGHT_Z);
+        sampleLocator(entity, LocatorId.MOUTH, MOUTH_X, MOUTH_Y, MOUTH_Z);
+        sampleLocator(entity, LocatorId.BODY, BODY_X, BODY_Y, BODY_Z);
+        // Passenger bone position for rider placement
+        sampleLocator(entity, LocatorId.PASSENGER, PASSENGER_X, PASSENGER_Y, PASSENGER_Z);
         // No beam_origin sampling required; beam uses computeHeadMouthOrigin()
     }
 
-    private static net.minecraft.world.phys.Vec3 transformLocator(software.bernie.geckolib.cache.object.GeoBone bone,
-                                                                  float px, float py, float pz) {
-        if (bone == null) return null;
-        // Convert pixels to model units (blocks)
-        float lx = px / 16f;
-        float ly = py / 16f;
-        float lz = pz / 16f;
-        org.joml.Matrix4f worldMat = new org.joml.Matrix4f(bone.getWorldSpaceMatrix());
-        org.joml.Vector4f in = new org.joml.Vector4f(lx, ly, lz, 1f);
-        org.joml.Vector4f out = worldMat.transform(in);
-        return new net.minecraft.world.phys.Vec3(out.x(), out.y(), out.z());
+    /**
+     * Transform a pixel-space offset through the bone's world matrix and store it in the entity's locator slot.
+     * {@link ClientLocators#sample} transforms through its own scratch vector, so nothing is allocated per frame.
+     */
+    private void sampleLocator(Raevyx entity, LocatorId id, float px, float py, float pz) {
+        GeoBone bone = locatorBones[id.ordinal()];
+        if (bone == null) return;
+        entity.getClientLocators().sample(id, bone.getWorldSpaceMatrix(), px, py, pz);
     }
 }
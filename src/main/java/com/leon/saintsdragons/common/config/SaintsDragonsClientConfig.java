@@ -0,0 +1,52 @@
+package com.leon.saintsdragons.common.config;
+
+import net.minecraftforge.common.ForgeConfigSpec;
+
+public class SaintsDragonsClientConfig {
+
+    public static final ForgeConfigSpec SPEC;
+
+    // Riding
+    public static final ForgeConfigSpec.DoubleValue RIDER_INPUT_ANGLE_THRESHOLD;
+
+    // Particles
+    public static final ForgeConfigSpec.IntValue PARTICLE_BUDGET_PER_FRAME;
+    public static final ForgeConfigSpec.IntValue PARTICLE_BUDGET_PER_SOURCE;
+    public static final ForgeConfigSpec.DoubleValue PARTICLE_FULL_DETAIL_DISTANCE;
+    public static final ForgeConfigSpec.DoubleValue PARTICLE_CULL_DISTANCE;
+    public static final ForgeConfigSpec.IntValue PARTICLE_TARGET_FPS;
+    public static final ForgeConfigSpec.BooleanValue PARTICLE_DEBUG_COUNTERS;
+
+    static {
+        ForgeConfigSpec.Builder BUILDER = new ForgeConfigSpec.Builder();
+
+        BUILDER.push("riding");
+        RIDER_INPUT_ANGLE_THRESHOLD = BUILDER
+                .comment("Degrees the camera must turn before rider input is re-sent to the server (keys are always sent on change)")
+                .defineInRange("riderInputAngleThreshold", 0.5, 0.0, 10.0);
+        BUILDER.pop();
+
+        BUILDER.push("particles");
+        PARTICLE_BUDGET_PER_FRAME = BUILDER
+                .comment("Max dragon particles spawned per frame (0 = unlimited)")
+                .defineInRange("particleBudgetPerFrame", 600, 0, 20000);
+        PARTICLE_BUDGET_PER_SOURCE = BUILDER
+                .comment("Max dragon particles per frame from one source area (a 16x16x16 section)")
+                .defineInRange("particleBudgetPerSource", 200, 1, 20000);
+        PARTICLE_FULL_DETAIL_DISTANCE = BUILDER
+                .comment("Particles closer to the camera than this always get the full budget")
+                .defineInRange("particleFullDetailDistance", 16.0, 0.0, 256.0);
+        PARTICLE_CULL_DISTANCE = BUILDER
+                .comment("Beyond this distance only high priority particles are spawned")
+                .defineInRange("particleCullDistance", 96.0, 1.0, 512.0);
+        PARTICLE_TARGET_FPS = BUILDER
+                .comment("The budget shrinks while the frame rate is below this")
+                .defineInRange("particleTargetFps", 60, 10, 240);
+        PARTICLE_DEBUG_COUNTERS = BUILDER
+                .comment("Show requested/emitted dragon particle counters on the F3 screen")
+                .define("particleDebugCounters", false);
+        BUILDER.pop();
+
+        SPEC = BUILDER.build();
+    }
+}
@@ -26,6 +26,15 @@ public class SaintsDragonsConfig {
     public static final ForgeConfigSpec.IntValue NULLJAW_MIN_GROUP_SIZE;
     public static final ForgeConfigSpec.IntValue NULLJAW_MAX_GROUP_SIZE;
 
+    // Abilities
+    public static final ForgeConfigSpec.IntValue CINDERVANE_FIRE_BODY_SCAN_INTERVAL;
+
+    // AI sensors
+    public static final ForgeConfigSpec.IntValue AI_OWNER_SENSOR_PERIOD;
+    public static final ForgeConfigSpec.IntValue AI_KIN_SENSOR_PERIOD;
+    public static final ForgeConfigSpec.IntValue AI_FOOD_SENSOR_PERIOD;
+    public static final ForgeConfigSpec.IntValue AI_PROJECTILE_SENSOR_PERIOD;
+
     static {
         ForgeConfigSpec.Builder BUILDER = new ForgeConfigSpec.Builder();
 
@@ -81,6 +90,29 @@ public class SaintsDragonsConfig {
                 .defineInRange("nulljawMaxGroupSize", 2, 1, 10);
 
         BUILDER.pop();
+
+        BUILDER.push("abilities");
+        CINDERVANE_FIRE_BODY_SCAN_INTERVAL = BUILDER
+                .comment("Ticks between Cindervane fire body damage/ally scans (10 matches vanilla hurt cooldown)")
+                .defineInRange("cindervaneFireBodyScanInterval", 10, 1, 40);
+        BUILDER.pop();
+
+        BUILDER.push("ai");
+        BUILDER.comment("Ticks between dragon perception scans. Scans are staggered between dragons");
+        AI_OWNER_SENSOR_PERIOD = BUILDER
+                .comment("Distance to owner")
+                .defineInRange("ownerSensorPeriod", 3, 1, 100);
+        AI_KIN_SENSOR_PERIOD = BUILDER
+                .comment("Nearby babies (protect, stay close) and adults (babies following a parent)")
+                .defineInRange("kinSensorPeriod", 10, 1, 100);
+        AI_FOOD_SENSOR_PERIOD = BUILDER
+                .comment("Food items on the ground and the players who dropped them")
+                .defineInRange("foodSensorPeriod", 10, 1, 100);
+        AI_PROJECTILE_SENSOR_PERIOD = BUILDER
+                .comment("Incoming projectiles while flying; backs off further while none are seen")
+                .defineInRange("projectileSensorPeriod", 3, 1, 100);
+        BUILDER.pop();
+
         SPEC = BUILDER.build();
     }
 }
@@ -0,0 +1,114 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.client.particle.LightningChainEffects;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Server->Client chain lightning polyline. The first point is sent in full; the rest are 16-bit offsets
+ * from it in 1/256 block steps (+-128 blocks), so a five hop chain fits in well under 100 bytes.
+ */
+public class LightningChainMessage {
+    private static final float OFFSET_SCALE = 256.0F;
+    private static final int MAX_POINTS = 64;
+
+    private final double originX;
+    private final double originY;
+    private final double originZ;
+    // (x, y, z) offsets from the origin for points after the first
+    private final short[] offsets;
+    private final float size;
+    private final boolean female;
+
+    public LightningChainMessage(List<Vec3> points, float size, boolean female) {
+        Vec3 origin = points.get(0);
+        this.originX = origin.x;
+        this.originY = origin.y;
+        this.originZ = origin.z;
+        int extra = Math.min(points.size(), MAX_POINTS) - 1;
+        this.offsets = new short[extra * 3];
+        for (int i = 0; i < extra; i++) {
+            Vec3 p = points.get(i + 1);
+            offsets[i * 3] = quantize(p.x - originX);
+            offsets[i * 3 + 1] = quantize(p.y - originY);
+            offsets[i * 3 + 2] = quantize(p.z - originZ);
+        }
+        this.size = size;
+        this.female = female;
+    }
+
+    public LightningChainMessage(FriendlyByteBuf buffer) {
+        this.originX = buffer.readDouble();
+        this.originY = buffer.readDouble();
+        this.originZ = buffer.readDouble();
+        int extra = Math.min(buffer.readVarInt(), MAX_POINTS - 1);
+        this.offsets = new short[extra * 3];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = buffer.readShort();
+        }
+        this.size = buffer.readFloat();
+        this.female = buffer.readBoolean();
+    }
+
+    public void encode(FriendlyByteBuf buffer) {
+        buffer.writeDouble(originX);
+        buffer.writeDouble(originY);
+        buffer.writeDouble(originZ);
+        buffer.writeVarInt(offsets.length / 3);
+        for (short offset : offsets) {
+            buffer.writeShort(offset);
+        }
+        buffer.writeFloat(size);
+        buffer.writeBoolean(female);
+    }
+
+    public static void handle(LightningChainMessage message, Supplier<NetworkEvent.Context> contextSupplier) {
+        NetworkEvent.Context context = contextSupplier.get();
+        context.enqueueWork(() -> {
+            // Only handle on client side
+            if (context.getDirection().getReceptionSide().isClient()) {
+                Minecraft minecraft = Minecraft.getInstance();
+                if (minecraft.level != null) {
+                    LightningChainEffects.spawn(minecraft.level, message);
+                }
+            }
+        });
+        context.setPacketHandled(true);
+    }
+
+    /**
+     * Send a chain polyline to every player tracking {@code source}.
+     */
+    public static void sendFrom(Entity source, List<Vec3> points, float size, boolean female) {
+        if (points.size() < 2) {
+            return;
+        }
+        ModNetworkHandler.sendToTrackingPlayers(source, new LightningChainMessage(points, size, female));
+    }
+
+    private static short quantize(double offset) {
+        return (short) Mth.clamp(Math.round(offset * OFFSET_SCALE), Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    public int getPointCount() {
+        return offsets.length / 3 + 1;
+    }
+
+    /**
+     * @return coordinate {@code axis} (0 = x, 1 = y, 2 = z) of point {@code index}
+     */
+    public double getPoint(int index, int axis) {
+        double origin = axis == 0 ? originX : axis == 1 ? originY : originZ;
+        return index == 0 ? origin : origin + offsets[(index - 1) * 3 + axis] / OFFSET_SCALE;
+    }
+
+    public float getSize() { return size; }
+    public boolean isFemale() { return female; }
+}
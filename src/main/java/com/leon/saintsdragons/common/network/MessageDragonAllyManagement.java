@@ -102,6 +102,7 @@ public class MessageDragonAllyManagement {
 
             // Send delta update to client (only the add/remove operation, not entire list)
             // This is much more efficient than sending the entire ally list on every change
+            // The list is shared by all of the owner's dragons, so this one delta covers every one of them
             if (result == DragonAllyManager.AllyResult.SUCCESS) {
                 boolean isAdd = (message.action == Action.ADD);
                 ModNetworkHandler.sendToPlayer(player, new MessageDragonAllyDelta(dragon.getId(), message.username, isAdd));
@@ -3,50 +3,103 @@ package com.leon.saintsdragons.common.network;
 import com.leon.saintsdragons.server.entity.base.RideableDragonBase;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraftforge.network.NetworkEvent;
 
 import java.util.function.Supplier;
 
-public record MessageDragonRideInput(boolean goingUp,
-                                     boolean goingDown,
-                                     DragonRiderAction action,
-                                     String abilityName,
-                                     float forward,
-                                     float strafe,
-                                     float yaw) {
+/**
+ * Rider input state for one client tick, sent only when it changes.
+ *
+ * Layout: one flag byte, a varint ability ordinal (+1, so "none" is a single zero byte), forward/strafe as
+ * signed bytes and yaw/pitch as 16-bit angles - 8 bytes for any mod with fewer than 127 abilities.
+ * Held keys are level-triggered bits; the server derives start/stop transitions by diffing against the
+ * previous message. {@link #TAKEOFF}, {@link #TOGGLE_MELEE} and {@link #ABILITY_PRESS} are one-shot bits
+ * set only on the tick the key went down.
+ */
+public record MessageDragonRideInput(int flags,
+                                     int abilityOrdinal,
+                                     byte forward,
+                                     byte strafe,
+                                     short yaw,
+                                     short pitch) {
 
-    public boolean hasAbilityName() {
-        return abilityName != null && !abilityName.isEmpty();
+    public static final int GOING_UP = 1;
+    public static final int GOING_DOWN = 1 << 1;
+    public static final int ACCELERATE = 1 << 2;
+    /** A HOLD ability is held; {@link #abilityOrdinal} names it unless {@link #ABILITY_PRESS} is also set. */
+    public static final int ABILITY_HELD = 1 << 3;
+    /** One-shot use of {@link #abilityOrdinal}. Never set on the same tick the held ability changes. */
+    public static final int ABILITY_PRESS = 1 << 4;
+    public static final int TAKEOFF = 1 << 5;
+    public static final int TOGGLE_MELEE = 1 << 6;
+
+    public static final int ONE_SHOT_FLAGS = ABILITY_PRESS | TAKEOFF | TOGGLE_MELEE;
+
+    /** One 16-bit angle step, in degrees. */
+    public static final float ANGLE_STEP = 360.0F / 65536.0F;
+
+    public boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    public float forwardInput() {
+        return dequantizeAxis(forward);
+    }
+
+    public float strafeInput() {
+        return dequantizeAxis(strafe);
+    }
+
+    public float yawDegrees() {
+        return dequantizeAngle(yaw);
+    }
+
+    public float pitchDegrees() {
+        return dequantizeAngle(pitch);
+    }
+
+    public static byte quantizeAxis(float value) {
+        return (byte) Math.round(Mth.clamp(value, -1.0F, 1.0F) * 127.0F);
+    }
+
+    public static float dequantizeAxis(byte value) {
+        return value / 127.0F;
+    }
+
+    public static short quantizeAngle(float degrees) {
+        return (short) Math.round(Mth.wrapDegrees(degrees) / ANGLE_STEP);
+    }
+
+    public static float dequantizeAngle(short value) {
+        return value * ANGLE_STEP;
+    }
+
+    /**
+     * @return absolute difference between two quantized angles in steps, taking the short way round
+     */
+    public static int angleDelta(short a, short b) {
+        return Math.abs((short) (a - b));
     }
 
     public static void encode(MessageDragonRideInput msg, FriendlyByteBuf buf) {
-        buf.writeBoolean(msg.goingUp());
-        buf.writeBoolean(msg.goingDown());
-        buf.writeEnum(msg.action() != null ? msg.action() : DragonRiderAction.NONE);
-        if (msg.action() == DragonRiderAction.ABILITY_USE || msg.action() == DragonRiderAction.ABILITY_STOP) {
-            buf.writeUtf(msg.abilityName() != null ? msg.abilityName() : "");
-        }
-        buf.writeFloat(msg.forward());
-        buf.writeFloat(msg.strafe());
-        buf.writeFloat(msg.yaw());
+        buf.writeByte(msg.flags());
+        buf.writeVarInt(msg.abilityOrdinal() + 1);
+        buf.writeByte(msg.forward());
+        buf.writeByte(msg.strafe());
+        buf.writeShort(msg.yaw());
+        buf.writeShort(msg.pitch());
     }
 
     public static MessageDragonRideInput decode(FriendlyByteBuf buf) {
-        boolean goingUp = buf.readBoolean();
-        boolean goingDown = buf.readBoolean();
-        DragonRiderAction action = buf.readEnum(DragonRiderAction.class);
-        String abilityName = null;
-        if (action == DragonRiderAction.ABILITY_USE || action == DragonRiderAction.ABILITY_STOP) {
-            abilityName = buf.readUtf();
-            if (abilityName.isEmpty()) {
-                abilityName = null;
-            }
-        }
-        float forward = buf.readFloat();
-        float strafe = buf.readFloat();
-        float yaw = buf.readFloat();
-        return new MessageDragonRideInput(goingUp, goingDown, action, abilityName, forward, strafe, yaw);
+        int flags = buf.readUnsignedByte();
+        int abilityOrdinal = buf.readVarInt() - 1;
+        byte forward = buf.readByte();
+        byte strafe = buf.readByte();
+        short yaw = buf.readShort();
+        short pitch = buf.readShort();
+        return new MessageDragonRideInput(flags, abilityOrdinal, forward, strafe, yaw, pitch);
     }
 
     public static void handle(MessageDragonRideInput msg, Supplier<NetworkEvent.Context> ctx) {
@@ -2,17 +2,28 @@
 package com.leon.saintsdragons.common.network;
 
 import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.simple.SimpleChannel;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class NetworkHandler {
-    private static final String PROTOCOL_VERSION = "1";
-    private static final int ID_RIDER_INPUT = 0;
-    private static final int ID_ALLY_MANAGEMENT = 2;
-    private static final int ID_ALLY_LIST = 3;
-    private static final int ID_ALLY_REQUEST = 4;
-    private static final int ID_ALLY_DELTA = 5;
+    // Ids are assigned in registration order below; bump this whenever that order changes
+    private static final String PROTOCOL_VERSION = "4";
+
+    // Upper bound for per-player rate limiter tables; raise when adding messages
+    private static final int MAX_MESSAGES = 16;
+
+    // Rider input is one message per changed tick, plus one for each one-shot key release
+    private static final PacketRateLimiter.Limit RIDER_INPUT_LIMIT = new PacketRateLimiter.Limit(40, 45);
+    private static final PacketRateLimiter.Limit ALLY_LIMIT = new PacketRateLimiter.Limit(5, 2);
 
     public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(
             ResourceLocation.fromNamespaceAndPath(SaintsDragons.MOD_ID, "main"),
@@ -21,41 +32,78 @@ public class NetworkHandler {
             PROTOCOL_VERSION::equals
     );
 
+    private static int nextId = 0;
+
     public static void register() {
         DragonAnimTickets.bootstrap();
+        AbilityRegistry.bootstrap();
         // Message: Rider input
-        INSTANCE.messageBuilder(MessageDragonRideInput.class, ID_RIDER_INPUT)
-                .encoder(MessageDragonRideInput::encode)
-                .decoder(MessageDragonRideInput::decode)
-                .consumerNetworkThread(MessageDragonRideInput::handle)
-                .add();
+        register(MessageDragonRideInput.class, MessageDragonRideInput::encode, MessageDragonRideInput::decode,
+                MessageDragonRideInput::handle, RIDER_INPUT_LIMIT);
 
         // Message: Client->Server ally management (add/remove)
-        INSTANCE.messageBuilder(MessageDragonAllyManagement.class, ID_ALLY_MANAGEMENT)
-                .encoder(MessageDragonAllyManagement::encode)
-                .decoder(MessageDragonAllyManagement::new)
-                .consumerNetworkThread(MessageDragonAllyManagement::handle)
-                .add();
+        register(MessageDragonAllyManagement.class, MessageDragonAllyManagement::encode, MessageDragonAllyManagement::new,
+                MessageDragonAllyManagement::handle, ALLY_LIMIT);
 
         // Message: Server->Client ally list sync
-        INSTANCE.messageBuilder(MessageDragonAllyList.class, ID_ALLY_LIST)
-                .encoder(MessageDragonAllyList::encode)
-                .decoder(MessageDragonAllyList::new)
-                .consumerNetworkThread(MessageDragonAllyList::handle)
-                .add();
+        register(MessageDragonAllyList.class, MessageDragonAllyList::encode, MessageDragonAllyList::new,
+                MessageDragonAllyList::handle, null);
 
         // Message: Client->Server ally list request
-        INSTANCE.messageBuilder(MessageDragonAllyRequest.class, ID_ALLY_REQUEST)
-                .encoder(MessageDragonAllyRequest::encode)
-                .decoder(MessageDragonAllyRequest::new)
-                .consumerNetworkThread(MessageDragonAllyRequest::handle)
-                .add();
+        register(MessageDragonAllyRequest.class, MessageDragonAllyRequest::encode, MessageDragonAllyRequest::new,
+                MessageDragonAllyRequest::handle, ALLY_LIMIT);
 
         // Message: Server->Client ally delta (add/remove single ally, optimized)
-        INSTANCE.messageBuilder(MessageDragonAllyDelta.class, ID_ALLY_DELTA)
-                .encoder(MessageDragonAllyDelta::encode)
-                .decoder(MessageDragonAllyDelta::new)
-                .consumerNetworkThread(MessageDragonAllyDelta::handle)
+        register(MessageDragonAllyDelta.class, MessageDragonAllyDelta::encode, MessageDragonAllyDelta::new,
+                MessageDragonAllyDelta::handle, null);
+
+        // Message: Server->Client particle burst (expanded into particles client-side)
+        register(ParticleBurstMessage.class, ParticleBurstMessage::encode, ParticleBurstMessage::new,
+                ParticleBurstMessage::handle, null);
+
+        // Message: Server->Client chain lightning polyline
+        register(LightningChainMessage.class, LightningChainMessage::encode, LightningChainMessage::new,
+                LightningChainMessage::handle, null);
+    }
+
+    /**
+     * Register a message under the next free id, counting its traffic in {@link NetworkStats}.
+     *
+     * @param limit per-player rate limit for messages received by the server, or {@code null} for
+     *              server-to-client messages
+     */
+    private static <M> void register(Class<M> type,
+                                     BiConsumer<M, FriendlyByteBuf> encoder,
+                                     Function<FriendlyByteBuf, M> decoder,
+                                     BiConsumer<M, Supplier<NetworkEvent.Context>> handler,
+                                     @Nullable PacketRateLimiter.Limit limit) {
+        int id = nextId++;
+        if (id >= MAX_MESSAGES) {
+            throw new IllegalStateException("Too many messages for MAX_MESSAGES: " + type.getSimpleName());
+        }
+        NetworkStats.Entry stats = NetworkStats.register(id, type);
+
+        INSTANCE.messageBuilder(type, id)
+                .encoder((msg, buf) -> {
+                    int start = buf.writerIndex();
+                    encoder.accept(msg, buf);
+                    stats.recordSent(buf.writerIndex() - start);
+                })
+                .decoder(buf -> {
+                    int start = buf.readerIndex();
+                    M msg = decoder.apply(buf);
+                    stats.recordReceived(buf.readerIndex() - start);
+                    return msg;
+                })
+                .consumerNetworkThread((msg, ctx) -> {
+                    if (limit != null && ctx.get().getDirection().getReceptionSide().isServer()
+                            && !PacketRateLimiter.tryAcquire(ctx.get().getSender(), id, MAX_MESSAGES, limit)) {
+                        stats.recordDropped();
+                        ctx.get().setPacketHandled(true);
+                        return;
+                    }
+                    handler.accept(msg, ctx);
+                })
                 .add();
     }
-}
\ No newline at end of file
+}
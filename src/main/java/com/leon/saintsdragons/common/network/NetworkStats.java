@@ -0,0 +1,101 @@
+package com.leon.saintsdragons.common.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-message-type traffic counters for the mod channel, indexed by message id.
+ * Counted in the channel's encoder/decoder wrappers, so both logical sides record into the same table
+ * in singleplayer.
+ */
+public final class NetworkStats {
+    private NetworkStats() {}
+
+    private static final List<Entry> ENTRIES = new ArrayList<>();
+
+    static synchronized Entry register(int id, Class<?> type) {
+        while (ENTRIES.size() <= id) {
+            ENTRIES.add(null);
+        }
+        Entry entry = new Entry(type.getSimpleName());
+        ENTRIES.set(id, entry);
+        return entry;
+    }
+
+    public static synchronized List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(ENTRIES.size());
+        for (Entry entry : ENTRIES) {
+            if (entry != null) entries.add(entry);
+        }
+        return entries;
+    }
+
+    public static synchronized void reset() {
+        for (Entry entry : ENTRIES) {
+            if (entry != null) entry.reset();
+        }
+    }
+
+    public static final class Entry {
+        private final String name;
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder sentBytes = new LongAdder();
+        private final LongAdder received = new LongAdder();
+        private final LongAdder receivedBytes = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private Entry(String name) {
+            this.name = name;
+        }
+
+        void recordSent(int bytes) {
+            sent.increment();
+            sentBytes.add(bytes);
+        }
+
+        void recordReceived(int bytes) {
+            received.increment();
+            receivedBytes.add(bytes);
+        }
+
+        void recordDropped() {
+            dropped.increment();
+        }
+
+        void reset() {
+            sent.reset();
+            sentBytes.reset();
+            received.reset();
+            receivedBytes.reset();
+            dropped.reset();
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long sent() {
+            return sent.sum();
+        }
+
+        public long sentBytes() {
+            return sentBytes.sum();
+        }
+
+        public long received() {
+            return received.sum();
+        }
+
+        public long receivedBytes() {
+            return receivedBytes.sum();
+        }
+
+        /**
+         * @return messages discarded by the server-side rate limiter
+         */
+        public long dropped() {
+            return dropped.sum();
+        }
+    }
+}
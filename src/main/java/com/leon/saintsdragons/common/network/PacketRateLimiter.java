@@ -0,0 +1,71 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.SaintsDragons;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token buckets per player and message id for client-to-server messages. Checked on the network thread
+ * before a handler enqueues any work, so a flooding client is throttled without costing server tick time.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class PacketRateLimiter {
+    private PacketRateLimiter() {}
+
+    /**
+     * @param burst     messages accepted back to back
+     * @param perSecond sustained rate once the burst is spent
+     */
+    public record Limit(int burst, int perSecond) {}
+
+    private static final Map<UUID, Bucket[]> BUCKETS = new ConcurrentHashMap<>();
+
+    /**
+     * @return whether the message may be handled; always true for messages without a sender
+     */
+    static boolean tryAcquire(ServerPlayer sender, int id, int idCount, Limit limit) {
+        if (sender == null) {
+            return true;
+        }
+        Bucket[] buckets = BUCKETS.computeIfAbsent(sender.getUUID(), key -> new Bucket[idCount]);
+        Bucket bucket = buckets[id];
+        if (bucket == null) {
+            bucket = buckets[id] = new Bucket(limit);
+        }
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        BUCKETS.remove(event.getEntity().getUUID());
+    }
+
+    // Only touched from the sender's connection thread
+    private static final class Bucket {
+        private final Limit limit;
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(Limit limit) {
+            this.limit = limit;
+            this.tokens = limit.burst();
+            this.lastRefill = System.nanoTime();
+        }
+
+        boolean tryAcquire(long now) {
+            tokens = Math.min(limit.burst(), tokens + (now - lastRefill) * limit.perSecond() / 1.0e9);
+            lastRefill = now;
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.client.particle.ParticleBurstEmitters;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Server->Client burst of particles described by an emitter, a shape and a seed.
+ * Replaces dozens of per-particle sendParticles packets with a single message that the
+ * client expands locally (see {@link ParticleBurstEmitters}).
+ */
+public class ParticleBurstMessage {
+
+    /**
+     * What kind of particles a burst produces. Ids are written to the wire, so only append.
+     */
+    public enum Emitter {
+        WATER_SPLASH,
+        FIRE_AURA;
+
+        private static final Emitter[] VALUES = values();
+
+        public static Emitter byId(int id) {
+            return id >= 0 && id < VALUES.length ? VALUES[id] : WATER_SPLASH;
+        }
+    }
+
+    /**
+     * Where particles of a burst are placed relative to the origin. Ids are written to the wire, so only append.
+     * <ul>
+     *     <li>RING - on a horizontal ellipse with radii (sizeX, sizeZ), sizeY vertical jitter</li>
+     *     <li>DISC - inside a horizontal ellipse with radii (sizeX, sizeZ)</li>
+     *     <li>COLUMN - inside a vertical cylinder of radius sizeX and height sizeY centered on the origin</li>
+     *     <li>LINE - along the vector (sizeX, sizeY, sizeZ) starting at the origin</li>
+     * </ul>
+     */
+    public enum Shape {
+        RING,
+        DISC,
+        COLUMN,
+        LINE;
+
+        private static final Shape[] VALUES = values();
+
+        public static Shape byId(int id) {
+            return id >= 0 && id < VALUES.length ? VALUES[id] : DISC;
+        }
+    }
+
+    private final Emitter emitter;
+    private final Shape shape;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final float sizeX;
+    private final float sizeY;
+    private final float sizeZ;
+    private final int count;
+    private final long seed;
+
+    public ParticleBurstMessage(Emitter emitter, Shape shape, Vec3 origin,
+                                float sizeX, float sizeY, float sizeZ, int count, long seed) {
+        this.emitter = emitter;
+        this.shape = shape;
+        this.x = origin.x;
+        this.y = origin.y;
+        this.z = origin.z;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.count = count;
+        this.seed = seed;
+    }
+
+    public ParticleBurstMessage(FriendlyByteBuf buffer) {
+        this.emitter = Emitter.byId(buffer.readByte());
+        this.shape = Shape.byId(buffer.readByte());
+        this.x = buffer.readDouble();
+        this.y = buffer.readDouble();
+        this.z = buffer.readDouble();
+        this.sizeX = buffer.readFloat();
+        this.sizeY = buffer.readFloat();
+        this.sizeZ = buffer.readFloat();
+        this.count = buffer.readVarInt();
+        this.seed = buffer.readLong();
+    }
+
+    public void encode(FriendlyByteBuf buffer) {
+        buffer.writeByte(emitter.ordinal());
+        buffer.writeByte(shape.ordinal());
+        buffer.writeDouble(x);
+        buffer.writeDouble(y);
+        buffer.writeDouble(z);
+        buffer.writeFloat(sizeX);
+        buffer.writeFloat(sizeY);
+        buffer.writeFloat(sizeZ);
+        buffer.writeVarInt(count);
+        buffer.writeLong(seed);
+    }
+
+    public static void handle(ParticleBurstMessage message, Supplier<NetworkEvent.Context> contextSupplier) {
+        NetworkEvent.Context context = contextSupplier.get();
+        context.enqueueWork(() -> {
+            // Only handle on client side
+            if (context.getDirection().getReceptionSide().isClient()) {
+                Minecraft minecraft = Minecraft.getInstance();
+                if (minecraft.level != null) {
+                    ParticleBurstEmitters.spawn(minecraft.level, message);
+                }
+            }
+        });
+        context.setPacketHandled(true);
+    }
+
+    /**
+     * Send a burst to every player tracking {@code source}.
+     */
+    public static void sendFrom(Entity source, Emitter emitter, Shape shape, Vec3 origin,
+                                float sizeX, float sizeY, float sizeZ, int count) {
+        if (count <= 0) {
+            return;
+        }
+        ModNetworkHandler.sendToTrackingPlayers(source,
+                new ParticleBurstMessage(emitter, shape, origin, sizeX, sizeY, sizeZ, count, source.getRandom().nextLong()));
+    }
+
+    public Emitter getEmitter() { return emitter; }
+    public Shape getShape() { return shape; }
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getZ() { return z; }
+    public float getSizeX() { return sizeX; }
+    public float getSizeY() { return sizeY; }
+    public float getSizeZ() { return sizeZ; }
+    public int getCount() { return count; }
+    public long getSeed() { return seed; }
+}
@@ -1,21 +1,41 @@
 package com.leon.saintsdragons.common.registry;
 
+import com.leon.saintsdragons.common.registry.cindervane.CindervaneAbilities;
+import com.leon.saintsdragons.common.registry.nulljaw.NulljawAbilities;
+import com.leon.saintsdragons.common.registry.raevyx.RaevyxAbilities;
+import com.leon.saintsdragons.common.registry.stegonaut.StegonautAbilities;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import net.minecraft.world.entity.LivingEntity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Simple registry to map ability names to types and back.
+ * Each registered type also gets a dense ordinal so per-ability state can live in plain arrays.
  */
 public final class AbilityRegistry {
     private AbilityRegistry() {}
 
     private static final Map<String, DragonAbilityType<?, ?>> BY_NAME = new HashMap<>();
     private static final Map<DragonAbilityType<?, ?>, String> BY_TYPE = new IdentityHashMap<>();
+    private static final List<DragonAbilityType<?, ?>> BY_ORDINAL = new ArrayList<>();
+
+    /**
+     * Load every ability holder in a fixed order. Ordinals are sent over the network, so they must not
+     * depend on which dragon class happens to load first on each side.
+     */
+    public static void bootstrap() {
+        Objects.requireNonNull(RaevyxAbilities.RAEVYX_BITE);
+        Objects.requireNonNull(CindervaneAbilities.BITE);
+        Objects.requireNonNull(NulljawAbilities.NULLJAW_BITE);
+        Objects.requireNonNull(StegonautAbilities.STEGONAUT_HURT);
+    }
 
     public static synchronized <M extends LivingEntity, T extends DragonAbility<M>> DragonAbilityType<M, T> register(DragonAbilityType<M, T> type) {
         return register(type.getName(), type);
@@ -29,7 +49,10 @@ public final class AbilityRegistry {
         if (existing != null && existing != type) {
             throw new IllegalStateException("Duplicate ability name: " + name);
         }
-        BY_TYPE.putIfAbsent(type, name);
+        if (BY_TYPE.putIfAbsent(type, name) == null) {
+            type.bindOrdinal(BY_ORDINAL.size());
+            BY_ORDINAL.add(type);
+        }
         return type;
     }
 
@@ -40,4 +63,15 @@ public final class AbilityRegistry {
     public static String getName(DragonAbilityType<?, ?> type) {
         return BY_TYPE.get(type);
     }
+
+    public static DragonAbilityType<?, ?> byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < BY_ORDINAL.size() ? BY_ORDINAL.get(ordinal) : null;
+    }
+
+    /**
+     * Number of registered ability types (one past the highest ordinal).
+     */
+    public static int size() {
+        return BY_ORDINAL.size();
+    }
 }
\ No newline at end of file
@@ -56,6 +56,19 @@ public enum DragonType {
     private final RegistryObject<? extends EntityType<? extends DragonEntity>> entityType;
     private final ElementalProfile elementalProfile;
 
+    // Resolved once per entity class; dragons also override getDragonType() with a constant
+    private static final ClassValue<DragonType> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected DragonType computeValue(Class<?> type) {
+            for (DragonType dragonType : values()) {
+                if (dragonType.entityClass.equals(type)) {
+                    return dragonType;
+                }
+            }
+            return null;
+        }
+    };
+
     DragonType(String name, Element element, Class<? extends DragonEntity> entityClass,
                RegistryObject<? extends EntityType<? extends DragonEntity>> entityType,
                ElementalProfile elementalProfile) {
@@ -126,12 +139,7 @@ public enum DragonType {
      * Get wyvern type from entity class
      */
     public static DragonType fromEntityClass(Class<? extends DragonEntity> entityClass) {
-        for (DragonType type : values()) {
-            if (type.entityClass.equals(entityClass)) {
-                return type;
-            }
-        }
-        return null;
+        return BY_CLASS.get(entityClass);
     }
 
     /**
@@ -17,11 +17,35 @@ public class ElementalProfile {
     private final Map<TagKey<DamageType>, Float> resistances;
     private final Map<TagKey<DamageType>, Float> weaknesses;
 
+    // Flattened lookup tables in precedence order (immunities, resistances, weaknesses)
+    private final TagKey<DamageType>[] immunityTags;
+    private final TagKey<DamageType>[] ruleTags;
+    private final float[] ruleMultipliers;
+
+    @SuppressWarnings("unchecked")
     private ElementalProfile(Builder builder) {
         this.element = builder.element;
         this.immunities = Set.copyOf(builder.immunities);
         this.resistances = Map.copyOf(builder.resistances);
         this.weaknesses = Map.copyOf(builder.weaknesses);
+
+        this.immunityTags = builder.immunities.toArray(new TagKey[0]);
+        int rules = builder.immunities.size() + builder.resistances.size() + builder.weaknesses.size();
+        this.ruleTags = new TagKey[rules];
+        this.ruleMultipliers = new float[rules];
+        int i = 0;
+        for (TagKey<DamageType> tag : builder.immunities) {
+            ruleTags[i] = tag;
+            ruleMultipliers[i++] = 0.0f;
+        }
+        for (Map.Entry<TagKey<DamageType>, Float> entry : builder.resistances.entrySet()) {
+            ruleTags[i] = entry.getKey();
+            ruleMultipliers[i++] = entry.getValue();
+        }
+        for (Map.Entry<TagKey<DamageType>, Float> entry : builder.weaknesses.entrySet()) {
+            ruleTags[i] = entry.getKey();
+            ruleMultipliers[i++] = entry.getValue();
+        }
     }
 
     /**
@@ -35,7 +59,12 @@ public class ElementalProfile {
      * Check if this dragon is immune to a damage type
      */
     public boolean isImmuneTo(DamageSource source) {
-        return immunities.stream().anyMatch(source::is);
+        for (TagKey<DamageType> tag : immunityTags) {
+            if (source.is(tag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -43,25 +72,12 @@ public class ElementalProfile {
      * Returns 1.0 for normal damage, <1.0 for resistances, >1.0 for weaknesses, 0.0 for immunities.
      */
     public float getDamageMultiplier(DamageSource source) {
-        // Check immunities first
-        if (isImmuneTo(source)) {
-            return 0.0f;
-        }
-
-        // Check resistances
-        for (Map.Entry<TagKey<DamageType>, Float> entry : resistances.entrySet()) {
-            if (source.is(entry.getKey())) {
-                return entry.getValue();
-            }
-        }
-
-        // Check weaknesses
-        for (Map.Entry<TagKey<DamageType>, Float> entry : weaknesses.entrySet()) {
-            if (source.is(entry.getKey())) {
-                return entry.getValue();
+        // Immunities first, then resistances, then weaknesses; first match wins
+        for (int i = 0; i < ruleTags.length; i++) {
+            if (source.is(ruleTags[i])) {
+                return ruleMultipliers[i];
             }
         }
-
         return 1.0f;  // Normal damage
     }
 
@@ -25,10 +25,10 @@ public final class CindervaneAbilities {
 
 
     public static final DragonAbilityType<Cindervane, CindervaneBiteAbility> BITE =
-            AbilityRegistry.register(new DragonAbilityType<>(BITE_ID, CindervaneBiteAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(BITE_ID, CindervaneBiteAbility::new, new DragonAbilityType.Properties().pooled()));
 
     public static final DragonAbilityType<Cindervane, CindervaneFireBodyAbility> FIRE_BODY =
-            AbilityRegistry.register(new DragonAbilityType<>(FIRE_BODY_ID, CindervaneFireBodyAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(FIRE_BODY_ID, CindervaneFireBodyAbility::new, new DragonAbilityType.Properties().overlay()));
 
     public static final DragonAbilityType<Cindervane, CindervaneRoarAbility> ROAR =
             AbilityRegistry.register(new DragonAbilityType<>(ROAR_ID, CindervaneRoarAbility::new));
@@ -37,7 +37,7 @@ public final class CindervaneAbilities {
             AbilityRegistry.register(new DragonAbilityType<>(FIRE_BREATH_VOLLEY_ID, CindervaneVolleyAbility::new));
 
     public static final DragonAbilityType<Cindervane, HurtAbility<Cindervane>> HURT =
-            AbilityRegistry.register(new DragonAbilityType<>(HURT_ID, HurtAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(HURT_ID, HurtAbility::new, new DragonAbilityType.Properties().overlay()));
 
     public static final DragonAbilityType<Cindervane, DieAbility<Cindervane>> DIE =
             AbilityRegistry.register(new DragonAbilityType<>(DIE_ID, DieAbility::new));
@@ -31,19 +31,21 @@ public final class NulljawAbilities {
 
     // Phase 1 melee attack
     public static final DragonAbilityType<Nulljaw, NulljawBiteAbility> NULLJAW_BITE =
-            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_BITE_ID, NulljawBiteAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_BITE_ID, NulljawBiteAbility::new, new DragonAbilityType.Properties().pooled()));
 
     // Phase 2 rage mode bite - faster
     public static final DragonAbilityType<Nulljaw, NulljawBite2Ability> NULLJAW_BITE2 =
-            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_BITE2_ID, NulljawBite2Ability::new));
+            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_BITE2_ID, NulljawBite2Ability::new, new DragonAbilityType.Properties().pooled()));
 
     // Phase 2 melee attack
     public static final DragonAbilityType<Nulljaw, NulljawClawAbility> NULLJAW_CLAW =
-            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_CLAW_ID, NulljawClawAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_CLAW_ID, NulljawClawAbility::new,
+                    // Claw can run concurrently with bite2 for aggressive combos
+                    new DragonAbilityType.Properties().overlay().pooled()));
 
     // Horn gore - strong knockback melee (works in both phases)
     public static final DragonAbilityType<Nulljaw, NulljawHornGoreAbility> NULLJAW_HORN_GORE =
-            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_HORN_GORE_ID, NulljawHornGoreAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_HORN_GORE_ID, NulljawHornGoreAbility::new, new DragonAbilityType.Properties().pooled()));
 
     // Roar - cosmetic ability
     public static final DragonAbilityType<Nulljaw, NulljawRoarAbility> NULLJAW_ROAR =
@@ -55,7 +57,7 @@ public final class NulljawAbilities {
 
     // Generic abilities with unique IDs
     public static final DragonAbilityType<Nulljaw, HurtAbility<Nulljaw>> HURT =
-            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_HURT_ID, HurtAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_HURT_ID, HurtAbility::new, new DragonAbilityType.Properties().overlay()));
 
     public static final DragonAbilityType<Nulljaw, DieAbility<Nulljaw>> DIE =
             AbilityRegistry.register(new DragonAbilityType<>(NULLJAW_DIE_ID, DieAbility::new));
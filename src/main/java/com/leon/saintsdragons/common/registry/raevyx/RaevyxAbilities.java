@@ -19,10 +19,10 @@ public final class RaevyxAbilities {
 
     // Combat abilities
     public static final DragonAbilityType<Raevyx, RaevyxBiteAbility> RAEVYX_BITE =
-            AbilityRegistry.register(new DragonAbilityType<>("raevyx_bite", RaevyxBiteAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>("raevyx_bite", RaevyxBiteAbility::new, new DragonAbilityType.Properties().pooled()));
 
     public static final DragonAbilityType<Raevyx, RaevyxHornGoreAbility> RAEVYX_HORN_GORE =
-            AbilityRegistry.register(new DragonAbilityType<>("raevyx_horn_gore", RaevyxHornGoreAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>("raevyx_horn_gore", RaevyxHornGoreAbility::new, new DragonAbilityType.Properties().pooled()));
 
     public static final DragonAbilityType<Raevyx, RaevyxBeamAbility> RAEVYX_LIGHTNING_BEAM =
             AbilityRegistry.register(new DragonAbilityType<>("raevyx_lightning_beam", RaevyxBeamAbility::new));
@@ -36,14 +36,14 @@ public final class RaevyxAbilities {
 
     // Generic abilities (can be used by any wyvern)
     public static final DragonAbilityType<Raevyx, HurtAbility<Raevyx>> HURT =
-            AbilityRegistry.register(new DragonAbilityType<>("raevyx_hurt", HurtAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>("raevyx_hurt", HurtAbility::new, new DragonAbilityType.Properties().overlay()));
 
     public static final DragonAbilityType<Raevyx, DieAbility<Raevyx>> DIE =
             AbilityRegistry.register(new DragonAbilityType<>("raevyx_die", DieAbility::new));
 
     // Baby-specific abilities
     public static final DragonAbilityType<Raevyx, HurtAbility<Raevyx>> BABY_HURT =
-            AbilityRegistry.register(new DragonAbilityType<>("baby_raevyx_hurt", HurtAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>("baby_raevyx_hurt", HurtAbility::new, new DragonAbilityType.Properties().overlay()));
 
     public static final DragonAbilityType<Raevyx, DieAbility<Raevyx>> BABY_DIE =
             AbilityRegistry.register(new DragonAbilityType<>("baby_raevyx_die", DieAbility::new));
@@ -16,7 +16,7 @@ public final class StegonautAbilities {
     public static final String STEGONAUT_DIE_ID = "stegonaut_die";
 
     public static final DragonAbilityType<Stegonaut, HurtAbility<Stegonaut>> STEGONAUT_HURT =
-            AbilityRegistry.register(new DragonAbilityType<>(STEGONAUT_HURT_ID, HurtAbility::new));
+            AbilityRegistry.register(new DragonAbilityType<>(STEGONAUT_HURT_ID, HurtAbility::new, new DragonAbilityType.Properties().overlay()));
 
     public static final DragonAbilityType<Stegonaut, DieAbility<Stegonaut>> STEGONAUT_DIE =
             AbilityRegistry.register(new DragonAbilityType<>(STEGONAUT_DIE_ID, DieAbility::new));
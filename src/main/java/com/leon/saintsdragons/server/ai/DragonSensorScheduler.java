@@ -0,0 +1,116 @@
+package com.leon.saintsdragons.server.ai;
+
+import net.minecraft.world.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Periodic perception for one dragon: nearby babies, owner distance, food, projectiles, threats...
+ *
+ * Each {@link Sensor} caches the result of one scan and only rescans once its period has passed, so every
+ * goal reading it in between shares a single {@code getEntitiesOfClass}. Scan ticks are aligned to a
+ * per-entity phase, which spreads the scans of a herd of dragons over the period instead of running them
+ * all on the same tick. Sensors are lazy: nothing is scanned while no goal asks.
+ */
+public final class DragonSensorScheduler {
+    private final LongSupplier gameTime;
+    private final IntSupplier phase;
+    private final List<Sensor<?>> sensors = new ArrayList<>();
+
+    public DragonSensorScheduler(Entity owner) {
+        this(() -> owner.level().getGameTime(), owner::getId);
+    }
+
+    /**
+     * @param gameTime current game time
+     * @param phase    scan phase, normally the owner's entity id
+     */
+    public DragonSensorScheduler(LongSupplier gameTime, IntSupplier phase) {
+        this.gameTime = gameTime;
+        this.phase = phase;
+    }
+
+    /**
+     * @param period ticks between scans, read again after every scan so config changes apply live
+     * @param scan   the expensive query; its result is returned until the next scan
+     */
+    public <T> Sensor<T> register(String name, IntSupplier period, Supplier<T> scan) {
+        Sensor<T> sensor = new Sensor<>(name, period, scan);
+        sensors.add(sensor);
+        return sensor;
+    }
+
+    public List<Sensor<?>> sensors() {
+        return sensors;
+    }
+
+    /**
+     * Forget all cached results, e.g. after a teleport or a change of owner.
+     */
+    public void invalidateAll() {
+        for (Sensor<?> sensor : sensors) {
+            sensor.invalidate();
+        }
+    }
+
+    /**
+     * First tick after {@code now} on which an entity with this phase scans again. Scans land on ticks where
+     * {@code (tick + phase) % period == 0}, so entities with consecutive ids scan on consecutive ticks.
+     */
+    public static long nextScanTick(long now, int period, int phase) {
+        if (period <= 1) {
+            return now + 1;
+        }
+        return now - Math.floorMod(now + phase, period) + period;
+    }
+
+    public final class Sensor<T> {
+        private final String name;
+        private final IntSupplier period;
+        private final Supplier<T> scan;
+        private T value;
+        private long nextScanTick = Long.MIN_VALUE;
+        private long scans;
+
+        private Sensor(String name, IntSupplier period, Supplier<T> scan) {
+            this.name = name;
+            this.period = period;
+            this.scan = scan;
+        }
+
+        /**
+         * @return the cached result, rescanning first if it is due (always on the first call)
+         */
+        public T get() {
+            long now = gameTime.getAsLong();
+            if (now >= nextScanTick) {
+                value = scan.get();
+                scans++;
+                nextScanTick = nextScanTick(now, period.getAsInt(), phase.getAsInt());
+            }
+            return value;
+        }
+
+        /**
+         * Make the next {@link #get} rescan regardless of the period.
+         */
+        public void invalidate() {
+            nextScanTick = Long.MIN_VALUE;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return number of scans run so far, for comparing against how often goals read the sensor
+         */
+        public long scans() {
+            return scans;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.leon.saintsdragons.server.ai;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Per-dimension index of live Raevyx, bucketed by the 16x16x16 section they stand in.
+ *
+ * Kept up to date from join, leave and section-change events instead of scanning, so prey that react to
+ * Raevyx (the Stegonaut playing dead) can look them up every tick by visiting only the few sections around
+ * them. Server side only.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class RaevyxPresenceIndex {
+    // A Raevyx hitbox reaches at most this far from its position (3.5 wide, 3 tall)
+    private static final double HITBOX_MARGIN = 4.0D;
+
+    private static final Map<LevelAccessor, RaevyxPresenceIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Long2ObjectOpenHashMap<List<Raevyx>> sections = new Long2ObjectOpenHashMap<>();
+    private final Reference2LongOpenHashMap<Raevyx> indexedAt = new Reference2LongOpenHashMap<>();
+
+    private RaevyxPresenceIndex() {}
+
+    public static RaevyxPresenceIndex get(Level level) {
+        return INDEXES.computeIfAbsent(level, l -> new RaevyxPresenceIndex());
+    }
+
+    /**
+     * Same result as {@code level.getEntitiesOfClass(Raevyx.class, box, filter)}.
+     */
+    public List<Raevyx> getInBox(AABB box, Predicate<? super Raevyx> filter) {
+        List<Raevyx> found = new ArrayList<>();
+        visit(box, filter, found, Integer.MAX_VALUE);
+        return found;
+    }
+
+    public boolean anyInBox(AABB box, Predicate<? super Raevyx> filter) {
+        return visit(box, filter, null, 1) > 0;
+    }
+
+    public int size() {
+        return indexedAt.size();
+    }
+
+    private int visit(AABB box, Predicate<? super Raevyx> filter, @Nullable List<Raevyx> out, int limit) {
+        int minX = SectionPos.blockToSectionCoord(box.minX - HITBOX_MARGIN);
+        int minY = SectionPos.blockToSectionCoord(box.minY - HITBOX_MARGIN);
+        int minZ = SectionPos.blockToSectionCoord(box.minZ - HITBOX_MARGIN);
+        int maxX = SectionPos.blockToSectionCoord(box.maxX + HITBOX_MARGIN);
+        int maxY = SectionPos.blockToSectionCoord(box.maxY + HITBOX_MARGIN);
+        int maxZ = SectionPos.blockToSectionCoord(box.maxZ + HITBOX_MARGIN);
+
+        int count = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<Raevyx> bucket = sections.get(SectionPos.asLong(x, y, z));
+                    if (bucket == null) continue;
+                    for (Raevyx dragon : bucket) {
+                        if (dragon.isRemoved() || !dragon.getBoundingBox().intersects(box) || !filter.test(dragon)) continue;
+                        if (out != null) out.add(dragon);
+                        if (++count >= limit) return count;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private void add(Raevyx dragon, long section) {
+        remove(dragon);
+        sections.computeIfAbsent(section, k -> new ArrayList<>(2)).add(dragon);
+        indexedAt.put(dragon, section);
+    }
+
+    private void remove(Raevyx dragon) {
+        if (!indexedAt.containsKey(dragon)) {
+            return;
+        }
+        long section = indexedAt.removeLong(dragon);
+        List<Raevyx> bucket = sections.get(section);
+        if (bucket != null) {
+            bucket.remove(dragon);
+            if (bucket.isEmpty()) {
+                sections.remove(section);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof Raevyx dragon && !event.getLevel().isClientSide) {
+            get(event.getLevel()).add(dragon, SectionPos.asLong(dragon.blockPosition()));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getEntity() instanceof Raevyx dragon && !event.getLevel().isClientSide) {
+            RaevyxPresenceIndex index = INDEXES.get(event.getLevel());
+            if (index != null) {
+                index.remove(dragon);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (event.getEntity() instanceof Raevyx dragon && !dragon.level().isClientSide) {
+            RaevyxPresenceIndex index = INDEXES.get(dragon.level());
+            if (index != null && index.indexedAt.containsKey(dragon)) {
+                index.add(dragon, event.getPackedNewPos());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        INDEXES.remove(event.getLevel());
+    }
+}
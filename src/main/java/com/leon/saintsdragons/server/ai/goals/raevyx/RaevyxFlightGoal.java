@@ -1,5 +1,6 @@
 package com.leon.saintsdragons.server.ai.goals.raevyx;
 
+import com.leon.saintsdragons.server.ai.navigation.TerrainColumnCache;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.ai.goal.Goal;
@@ -401,38 +402,21 @@ public class RaevyxFlightGoal extends Goal {
      * Check if there are baby Raevyx nearby that this parent should protect
      */
     private boolean hasNearbyBabies() {
-        return !wyvern.level().getEntitiesOfClass(
-                Raevyx.class,
-                wyvern.getBoundingBox().inflate(16.0D),  // Check 16 block radius
-                baby -> baby != null && baby.isBaby() && baby.isAlive()
-        ).isEmpty();
+        return !wyvern.getNearbyBabies().isEmpty();  // 16 block radius, shared kin sensor
     }
 
     private boolean isOverDanger() {
         BlockPos dragonPos = wyvern.blockPosition();
-        boolean foundSolid = false;
-        boolean nearFluid = false;
-
-        for (int i = 1; i <= 25; i++) {
-            BlockPos checkPos = dragonPos.below(i);
-
-            var state = wyvern.level().getBlockState(checkPos);
-            // Treat as solid ground if the block has a collision shape or sturdy top face
-            if (!state.getCollisionShape(wyvern.level(), checkPos).isEmpty() ||
-                    state.isFaceSturdy(wyvern.level(), checkPos, net.minecraft.core.Direction.UP)) {
-                foundSolid = true;
-                break;
-            }
+        // Shared per-tick column scan starting just below the dragon
+        TerrainColumnCache.Column column = TerrainColumnCache.get(wyvern.level()).below(dragonPos.below());
 
-            // Consider fluids within 10 blocks below as dangerous (avoid landing in water/lava)
-            if (i <= 10 && !wyvern.level().getFluidState(checkPos).isEmpty()) {
-                nearFluid = true;
-                // No break: still continue to see if solid exists even closer
-            }
-        }
+        // Consider fluids and lava/fire within 10 blocks below as dangerous (avoid landing in water/lava)
+        if (column.hasFluid() && dragonPos.getY() - (column.fluidSurfaceY() - 1) <= 10) return true;
+        if ((column.hazard() == TerrainColumnCache.Hazard.LAVA || column.hazard() == TerrainColumnCache.Hazard.FIRE)
+                && dragonPos.getY() - column.hazardY() <= 10) return true;
 
-        // Dangerous if over fluid nearby, or no solid ground found and we're near world bottom (void-like)
-        if (nearFluid) return true;
+        // Treat as solid ground if found within 25 blocks; otherwise dangerous near world bottom (void-like)
+        boolean foundSolid = column.hasGround() && dragonPos.getY() - (column.groundY() - 1) <= 25;
         return !foundSolid && dragonPos.getY() < wyvern.level().getMinBuildHeight() + 20;
     }
 }
@@ -36,15 +36,14 @@ public class RaevyxProtectBabiesGoal extends TargetGoal {
             return false;
         }
 
-        // Look for nearby babies that have been hurt recently
-        List<Raevyx> nearbyBabies = this.dragon.level().getEntitiesOfClass(
-                Raevyx.class,
-                this.dragon.getBoundingBox().inflate(16.0D),
-                baby -> baby != null && baby.isBaby() && baby.isAlive()
-        );
+        // Look for nearby babies that have been hurt recently (cached kin scan, attackers read live)
+        List<Raevyx> nearbyBabies = this.dragon.getNearbyBabies();
 
         // Check if any baby has a recent attacker
         for (Raevyx baby : nearbyBabies) {
+            if (!baby.isAlive()) {
+                continue;
+            }
             LivingEntity babyAttacker = baby.getLastHurtByMob();
             if (babyAttacker != null && babyAttacker.isAlive()) {
                 // Don't attack other Raevyx or the owner
@@ -39,26 +39,10 @@ public class RaevyxTemptGoal extends Goal {
     }
     
     /**
-     * Find the nearest fish item that the wyvern can eat
+     * Find the nearest fish item that the wyvern can eat (shared food sensor, 12 block radius)
      */
     private ItemEntity findNearestFish() {
-        var broadphase = dragon.getBoundingBox().inflate(12.0, 12.0, 12.0); // 12 block radius
-        var nearbyItems = dragon.level().getEntitiesOfClass(
-            ItemEntity.class,
-            broadphase,
-            item -> dragon.isFood(item.getItem())
-        );
-        
-        if (nearbyItems.isEmpty()) {
-            return null;
-        }
-        
-        return nearbyItems.stream()
-            .min((i1, i2) -> Double.compare(
-                dragon.distanceToSqr(i1),
-                dragon.distanceToSqr(i2)
-            ))
-            .orElse(null);
+        return dragon.getNearestFoodItem();
     }
 
     @Override
@@ -175,23 +159,7 @@ public class RaevyxTemptGoal extends Goal {
      * Find the nearest player who might be "feeding" the wyvern by dropping fish
      */
     private Player findNearestPlayer() {
-        var nearbyPlayers = dragon.level().getEntitiesOfClass(
-            Player.class,
-            dragon.getBoundingBox().inflate(10.0),
-            player -> player.isAlive() && !player.isSpectator()
-        );
-
-        if (nearbyPlayers.isEmpty()) {
-            return null;
-        }
-
-        // Return the closest player
-        return nearbyPlayers.stream()
-            .min((p1, p2) -> Double.compare(
-                dragon.distanceToSqr(p1),
-                dragon.distanceToSqr(p2)
-            ))
-            .orElse(null);
+        return dragon.getNearestFeedingPlayer();
     }
     
     /**
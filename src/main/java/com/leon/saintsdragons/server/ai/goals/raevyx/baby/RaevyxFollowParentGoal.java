@@ -38,15 +38,14 @@ public class RaevyxFollowParentGoal extends Goal {
             return false;
         }
 
-        List<Raevyx> nearby = baby.level().getEntitiesOfClass(
-                Raevyx.class,
-                baby.getBoundingBox().inflate(12.0D, 6.0D, 12.0D),
-                adult -> adult != null && !adult.isBaby() && adult.isAlive()
-        );
+        List<Raevyx> nearby = baby.getNearbyAdults();
 
         double closestDistance = Double.MAX_VALUE;
         Raevyx closestAdult = null;
         for (Raevyx adult : nearby) {
+            if (!adult.isAlive()) {
+                continue;
+            }
             double dist = baby.distanceToSqr(adult);
             if (dist < closestDistance) {
                 closestDistance = dist;
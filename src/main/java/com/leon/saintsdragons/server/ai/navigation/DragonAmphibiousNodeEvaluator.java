@@ -37,14 +37,11 @@ public class DragonAmphibiousNodeEvaluator extends AmphibiousNodeEvaluator {
         BlockPos origin = BlockPos.containing(this.mob.position());
 
         if (!isWaterColumn(origin)) {
-            BlockPos.MutableBlockPos cursor = origin.mutable();
-            while (cursor.getY() > this.mob.level().getMinBuildHeight()) {
-                cursor.move(0, -1, 0);
-                if (isWaterColumn(cursor)) {
-                    origin = cursor.immutable();
-                    centerY = cursor.getY();
-                    break;
-                }
+            // Shared per-tick column scan instead of walking down to the build floor
+            TerrainColumnCache.Column column = TerrainColumnCache.get(this.mob.level()).below(origin.below());
+            if (column.hasFluid()) {
+                centerY = column.fluidSurfaceY() - 1;
+                origin = new BlockPos(origin.getX(), centerY, origin.getZ());
             }
         }
         return super.getNode(origin.getX(), centerY, origin.getZ());
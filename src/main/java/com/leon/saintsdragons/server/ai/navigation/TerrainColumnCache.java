@@ -0,0 +1,182 @@
+package com.leon.saintsdragons.server.ai.navigation;
+
+import com.leon.saintsdragons.SaintsDragons;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-dimension memo of terrain columns, shared by every dragon.
+ *
+ * Each (x, z) column is scanned at most once per game tick from the block above its top motion-blocking block
+ * (where fire burns) down to the first solid block, recording ground height, fluid surface/depth and the
+ * nearest hazard. Entries are dropped
+ * when a block in the column changes and the whole table is reset every tick.
+ *
+ * Queries starting below the column's top block (caves, overhangs) are scanned from the query height instead,
+ * so callers always see what lies directly beneath them.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class TerrainColumnCache {
+    /** Marker for heights that were not found. */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    public enum Hazard {
+        NONE,
+        LAVA,
+        FIRE,
+        VOID
+    }
+
+    /**
+     * Summary of one column below a starting height.
+     *
+     * @param topY          y of the block the scan started at
+     * @param groundY       standing height on the first solid block (block y + 1), or {@link #NONE} over the void
+     * @param fluidSurfaceY standing height on the top fluid block (block y + 1), or {@link #NONE} if no fluid above ground
+     * @param fluidDepth    fluid surface minus ground, 0 without fluid
+     * @param lava          whether the top fluid is lava
+     * @param hazard        nearest hazard below the start
+     * @param hazardY       block y of that hazard ({@link #NONE} for {@link Hazard#NONE})
+     */
+    public record Column(int topY, int groundY, int fluidSurfaceY, int fluidDepth, boolean lava,
+                         Hazard hazard, int hazardY) {
+        public boolean hasGround() {
+            return groundY != NONE;
+        }
+
+        public boolean hasFluid() {
+            return fluidSurfaceY != NONE;
+        }
+    }
+
+    private static final Map<LevelAccessor, TerrainColumnCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Level level;
+    private final Long2ObjectOpenHashMap<Column> columns = new Long2ObjectOpenHashMap<>();
+    private long cachedTick = Long.MIN_VALUE;
+
+    private TerrainColumnCache(Level level) {
+        this.level = level;
+    }
+
+    public static TerrainColumnCache get(Level level) {
+        return CACHES.computeIfAbsent(level, l -> new TerrainColumnCache((Level) l));
+    }
+
+    /**
+     * Column summary below {@code (x, y, z)}. Served from the per-tick memo whenever {@code y} is above the
+     * column's top motion-blocking block, which covers flying and surface-swimming dragons.
+     */
+    public Column below(int x, int y, int z) {
+        long now = level.getGameTime();
+        if (now != cachedTick) {
+            columns.clear();
+            cachedTick = now;
+        }
+        long key = ChunkPos.asLong(x, z);
+        Column column = columns.get(key);
+        if (column == null) {
+            // First block above the heightmap: fire and other non-blocking hazards sit there
+            int topY = level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
+            column = scan(level, x, topY, z);
+            columns.put(key, column);
+        }
+        if (y >= column.topY()) {
+            return column;
+        }
+        return scan(level, x, y, z);
+    }
+
+    public Column below(BlockPos pos) {
+        return below(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Column summary for any accessor; uses the shared memo when the accessor is a full {@link Level}.
+     */
+    public static Column below(LevelAccessor accessor, BlockPos pos) {
+        if (accessor instanceof Level level) {
+            return get(level).below(pos);
+        }
+        return scan(accessor, pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Uncached downward scan from {@code startY} to the first solid block.
+     */
+    public static Column scan(LevelAccessor level, int x, int startY, int z) {
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos(x, startY, z);
+        int minY = level.getMinBuildHeight();
+        int fluidSurfaceY = NONE;
+        boolean lava = false;
+        Hazard hazard = Hazard.NONE;
+        int hazardY = NONE;
+        int groundY = NONE;
+
+        while (cursor.getY() >= minY) {
+            BlockState state = level.getBlockState(cursor);
+            FluidState fluid = state.getFluidState();
+            if (!fluid.isEmpty()) {
+                if (fluidSurfaceY == NONE) {
+                    fluidSurfaceY = cursor.getY() + 1;
+                    lava = fluid.is(FluidTags.LAVA);
+                }
+                if (hazard == Hazard.NONE && fluid.is(FluidTags.LAVA)) {
+                    hazard = Hazard.LAVA;
+                    hazardY = cursor.getY();
+                }
+            } else if (state.is(BlockTags.FIRE)) {
+                if (hazard == Hazard.NONE) {
+                    hazard = Hazard.FIRE;
+                    hazardY = cursor.getY();
+                }
+            } else if (!state.isAir() && (!state.getCollisionShape(level, cursor).isEmpty()
+                    || state.isFaceSturdy(level, cursor, Direction.UP))) {
+                groundY = cursor.getY() + 1;
+                break;
+            }
+            cursor.move(Direction.DOWN);
+        }
+
+        if (groundY == NONE && hazard == Hazard.NONE) {
+            hazard = Hazard.VOID;
+            hazardY = minY;
+        }
+        int depth = fluidSurfaceY != NONE && groundY != NONE ? fluidSurfaceY - groundY : 0;
+        return new Column(startY, groundY, fluidSurfaceY, depth, lava, hazard, hazardY);
+    }
+
+    private void invalidate(BlockPos pos) {
+        columns.remove(ChunkPos.asLong(pos.getX(), pos.getZ()));
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        TerrainColumnCache cache = CACHES.get(event.getLevel());
+        if (cache != null) {
+            cache.invalidate(event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        CACHES.remove(event.getLevel());
+    }
+}
@@ -0,0 +1,43 @@
+package com.leon.saintsdragons.server.command;
+
+import com.leon.saintsdragons.common.network.NetworkStats;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Provides /saintsdragons netstats for checking the mod channel's traffic per message type.
+ * Counts cover both logical sides since startup or the last reset.
+ */
+public class NetStatsCommand {
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("saintsdragons")
+            .requires(source -> source.hasPermission(2)) // OP level 2 required
+            .then(Commands.literal("netstats")
+                .executes(NetStatsCommand::showStats)
+                .then(Commands.literal("reset")
+                    .executes(NetStatsCommand::resetStats))));
+    }
+
+    private static int showStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        source.sendSuccess(() -> Component.translatable("saintsdragons.command.netstats.header"), false);
+        int count = 0;
+        for (NetworkStats.Entry entry : NetworkStats.entries()) {
+            Component line = Component.translatable("saintsdragons.command.netstats.entry",
+                entry.name(), entry.sent(), entry.sentBytes(), entry.received(), entry.receivedBytes(), entry.dropped());
+            source.sendSuccess(() -> line, false);
+            count++;
+        }
+        return count;
+    }
+
+    private static int resetStats(CommandContext<CommandSourceStack> context) {
+        NetworkStats.reset();
+        context.getSource().sendSuccess(() -> Component.translatable("saintsdragons.command.netstats.reset"), true);
+        return 1;
+    }
+}
@@ -1,15 +1,16 @@
 package com.leon.saintsdragons.server.entity.ability;
 
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.*;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.RandomSupport;
 import software.bernie.geckolib.animatable.GeoEntity;
 import software.bernie.geckolib.core.animation.AnimationState;
 import software.bernie.geckolib.core.animation.RawAnimation;
 import software.bernie.geckolib.core.object.PlayState;
 
-import java.util.Random;
-
 /**
  * Base wyvern ability class with GeckoLib integration
  */
@@ -26,7 +27,9 @@ public abstract class DragonAbility<T extends LivingEntity> {
     private boolean isUsing;
     private int cooldownTimer;
 
-    protected Random rand;
+    // Per-cast random, seeded lazily on first use (see getRandom())
+    private RandomSource random;
+    private boolean randomSeeded;
     protected RawAnimation activeAnimation;
 
     public DragonAbility(DragonAbilityType<T, ? extends DragonAbility<T>> abilityType, T user,
@@ -35,7 +38,6 @@ public abstract class DragonAbility<T extends LivingEntity> {
         this.user = user;
         this.sectionTrack = sectionTrack;
         this.cooldownMax = cooldownMax;
-        this.rand = new Random();
     }
 
     public DragonAbility(DragonAbilityType<T, ? extends DragonAbility<T>> abilityType, T user,
@@ -94,6 +96,21 @@ public abstract class DragonAbility<T extends LivingEntity> {
         end();
     }
 
+    /**
+     * Return a finished instance to its freshly constructed state before it is reused for another cast.
+     * Only called for {@link DragonAbilityType.Properties#pooled() pooled} types; subclasses with per-cast fields must
+     * override and call super.
+     */
+    public void reset() {
+        ticksInUse = 0;
+        ticksInSection = 0;
+        currentSectionIndex = 0;
+        isUsing = false;
+        cooldownTimer = 0;
+        activeAnimation = null;
+        randomSeeded = false;
+    }
+
     public void complete() {
         end();
     }
@@ -138,10 +155,11 @@ public abstract class DragonAbility<T extends LivingEntity> {
 
     /**
      * Whether this ability should be treated as an overlay that can run alongside other abilities.
-     * Overlay abilities stay active without blocking primary attacks.
+     * Overlay abilities stay active without blocking primary attacks. Declared on the type via
+     * {@link DragonAbilityType.Properties#overlay()}.
      */
-    public boolean isOverlayAbility() {
-        return false;
+    public final boolean isOverlayAbility() {
+        return abilityType.isOverlay();
     }
 
     public void tickUsing() {
@@ -174,9 +192,9 @@ public abstract class DragonAbility<T extends LivingEntity> {
         return true;
     }
 
-    @SuppressWarnings("unused") // Override in abilities that should be interruptible by damage
+    @SuppressWarnings("unused") // Declared via DragonAbilityType.Properties#interruptible(); override for per-cast rules
     public boolean damageInterrupts() {
-        return false;
+        return abilityType.isInterruptible();
     }
 
     // ===== GETTERS =====
@@ -193,6 +211,32 @@ public abstract class DragonAbility<T extends LivingEntity> {
         return user.level();
     }
 
+    /**
+     * Random source for this cast. Seeded from the world seed, the user's UUID, the game time of the first draw and
+     * the ability ordinal, so a cast replays identically from the same world state; unlike {@code new Random()} it
+     * never touches the shared seed uniquifier.
+     */
+    public RandomSource getRandom() {
+        if (!randomSeeded) {
+            long seed = castSeed();
+            if (random == null) {
+                random = RandomSource.create(seed);
+            } else {
+                random.setSeed(seed);
+            }
+            randomSeeded = true;
+        }
+        return random;
+    }
+
+    private long castSeed() {
+        Level level = getLevel();
+        long seed = level instanceof ServerLevel serverLevel ? serverLevel.getSeed() : 0L;
+        seed = RandomSupport.mixStafford13(seed ^ user.getUUID().getMostSignificantBits());
+        seed = RandomSupport.mixStafford13(seed ^ user.getUUID().getLeastSignificantBits());
+        return RandomSupport.mixStafford13(seed ^ (level.getGameTime() * 31L + abilityType.ordinal()));
+    }
+
     @SuppressWarnings("unused") // Useful for UI/debugging; not always referenced
     public int getTicksInUse() {
         return ticksInUse;
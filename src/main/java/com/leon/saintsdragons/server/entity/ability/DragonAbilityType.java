@@ -2,18 +2,35 @@ package com.leon.saintsdragons.server.entity.ability;
 
 import net.minecraft.world.entity.LivingEntity;
 
-public record DragonAbilityType<M extends LivingEntity, T extends DragonAbility<M>>(
-        String name,
-        IFactory<M, T> factory
-) implements Comparable<DragonAbilityType<M, T>> {
+public final class DragonAbilityType<M extends LivingEntity, T extends DragonAbility<M>>
+        implements Comparable<DragonAbilityType<M, T>> {
 
-    public DragonAbilityType {
+    private final String name;
+    private final IFactory<M, T> factory;
+    // Dense index assigned by AbilityRegistry.register, used for array-backed per-ability state
+    private int ordinal = -1;
+
+    // Static metadata, declared at registration so the combat handler never has to build an instance to ask
+    private final boolean overlay;
+    private final boolean interruptible;
+    private final boolean pooled;
+
+    public DragonAbilityType(String name, IFactory<M, T> factory) {
+        this(name, factory, new Properties());
+    }
+
+    public DragonAbilityType(String name, IFactory<M, T> factory, Properties properties) {
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException("Ability name must not be null/empty");
         }
         if (factory == null) {
             throw new IllegalArgumentException("Factory must not be null for ability: " + name);
         }
+        this.name = name;
+        this.factory = factory;
+        this.overlay = properties.overlay;
+        this.interruptible = properties.interruptible;
+        this.pooled = properties.pooled;
     }
 
     /**
@@ -27,13 +44,89 @@ public record DragonAbilityType<M extends LivingEntity, T extends DragonAbility<
         T create(DragonAbilityType<M, T> abilityType, M user);
     }
 
+    public boolean isOverlay() {
+        return overlay;
+    }
+
+    public boolean isInterruptible() {
+        return interruptible;
+    }
+
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public IFactory<M, T> factory() {
+        return factory;
+    }
+
     // Backwards-friendly accessor name used elsewhere in the codebase
     public String getName() {
         return name;
     }
 
+    /**
+     * @return dense registry index in {@code [0, AbilityRegistry.size())}, or -1 if this type was never registered
+     */
+    public int ordinal() {
+        return ordinal;
+    }
+
+    /**
+     * Called once by {@code AbilityRegistry.register}.
+     */
+    public void bindOrdinal(int ordinal) {
+        if (this.ordinal >= 0 && this.ordinal != ordinal) {
+            throw new IllegalStateException("Ability " + name + " already registered with ordinal " + this.ordinal);
+        }
+        this.ordinal = ordinal;
+    }
+
     @Override
     public int compareTo(DragonAbilityType<M, T> o) {
         return this.getName().compareTo(o.getName());
     }
+
+    /**
+     * Static ability metadata, in the style of {@code Item.Properties}.
+     */
+    public static final class Properties {
+        private boolean overlay;
+        private boolean interruptible;
+        private boolean pooled;
+
+        /**
+         * Runs alongside the primary ability slot instead of occupying it.
+         */
+        public Properties overlay() {
+            this.overlay = true;
+            return this;
+        }
+
+        /**
+         * Interrupted when the user takes damage.
+         */
+        public Properties interruptible() {
+            this.interruptible = true;
+            return this;
+        }
+
+        /**
+         * The combat handler reuses one instance per dragon. The ability must restore all per-cast state in
+         * {@link DragonAbility#reset()}.
+         */
+        public Properties pooled() {
+            this.pooled = true;
+            return this;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DragonAbilityType[" + name + "]";
+    }
 }
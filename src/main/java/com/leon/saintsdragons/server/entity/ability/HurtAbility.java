@@ -81,11 +81,6 @@ public class HurtAbility<T extends DragonEntity> extends DragonAbility<T> {
         // Already a damage reaction
         return false;
     }
-
-    @Override
-    public boolean isOverlayAbility() {
-        return true;
-    }
 }
 
 
@@ -45,6 +45,12 @@ public class CindervaneBiteAbility extends DragonAbility<Cindervane> {
         super(type, user, TRACK, 15);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        appliedHit = false;
+    }
+
     @Override
     protected void beginSection(DragonAbilitySection section) {
         if (section == null) {
@@ -1,25 +1,31 @@
 package com.leon.saintsdragons.server.entity.ability.abilities.cindervane;
 
+import com.leon.saintsdragons.common.config.SaintsDragonsConfig;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.dragons.cindervane.Cindervane;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionDuration;
 import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionType.ACTIVE;
@@ -36,11 +42,26 @@ public class CindervaneFireBodyAbility extends DragonAbility<Cindervane> {
 
     private static final double AURA_RADIUS = 3.5D;
     private static final double AURA_VERTICAL = 2.5D;
+    private static final int AURA_SAMPLES = 12;
     private static final float BASE_DAMAGE = 3.0F;
     private static final int FIRE_SECONDS = 4;
     private static final int ALLY_FIRE_RESIST_TICKS = 60;
     private static final int ALLY_DAMAGE_RESIST_TICKS = 40;
-
+    private static final double ALLY_MARGIN_HORIZONTAL = 1.5D;
+    private static final double ALLY_MARGIN_VERTICAL = 0.75D;
+    private static final double PUSH_PER_TICK = 0.15D;
+    private static final double MAX_PUSH = 0.6D;
+    // Expected ignition attempts per tick (previously 12 samples at 12% each)
+    private static final float IGNITE_ATTEMPTS_PER_TICK = AURA_SAMPLES * 0.12F;
+
+    /**
+     * Block offsets (dx, dy, dz) from the dragon's feet covering the aura ring, so ignition picks a cell
+     * instead of building sample vectors.
+     */
+    private static final int[] RING_OFFSETS = buildRingOffsets();
+
+    private final List<LivingEntity> candidates = new ArrayList<>();
+    private final BlockPos.MutableBlockPos ignitePos = new BlockPos.MutableBlockPos();
     private int activeTicks;
 
     public CindervaneFireBodyAbility(DragonAbilityType<Cindervane, CindervaneFireBodyAbility> type,
@@ -48,11 +69,6 @@ public class CindervaneFireBodyAbility extends DragonAbility<Cindervane> {
         super(type, user, TRACK, 40);
     }
 
-    @Override
-    public boolean isOverlayAbility() {
-        return true;
-    }
-
     @Override
     protected void beginSection(DragonAbilitySection section) {
         if (section == null) {
@@ -62,7 +78,7 @@ public class CindervaneFireBodyAbility extends DragonAbility<Cindervane> {
             activeTicks = 0;
             getUser().setBreathingFire(true);
             Level level = getLevel();
-            level.playSound(null, getUser().blockPosition(), SoundEvents.FIRECHARGE_USE, getUser().getSoundSource(), 1.2F, 1.0F + getUser().getRandom().nextFloat() * 0.2F);
+            level.playSound(null, getUser().blockPosition(), SoundEvents.FIRECHARGE_USE, getUser().getSoundSource(), 1.2F, 1.0F + getRandom().nextFloat() * 0.2F);
         } else if (section.sectionType == ACTIVE) {
             getUser().setBreathingFire(true);
         }
@@ -99,89 +115,133 @@ public class CindervaneFireBodyAbility extends DragonAbility<Cindervane> {
         Level level = dragon.level();
         if (!level.isClientSide) {
             activeTicks++;
-            applyFireAura((ServerLevel) level, dragon);
+            // Staggered by entity id so several dragons don't all scan on the same tick
+            int interval = SaintsDragonsConfig.CINDERVANE_FIRE_BODY_SCAN_INTERVAL.get();
+            if ((activeTicks + dragon.getId()) % interval == 0) {
+                applyFireAura((ServerLevel) level, dragon, interval);
+            }
             if (activeTicks % 20 == 0) {
-                level.playSound(null, dragon.blockPosition(), SoundEvents.BLAZE_SHOOT, dragon.getSoundSource(), 0.6F, 0.9F + dragon.getRandom().nextFloat() * 0.2F);
+                level.playSound(null, dragon.blockPosition(), SoundEvents.BLAZE_SHOOT, dragon.getSoundSource(), 0.6F, 0.9F + getRandom().nextFloat() * 0.2F);
             }
         }
 
     }
 
-    private void applyFireAura(ServerLevel level, Cindervane dragon) {
+    /**
+     * One entity query for both passes: allies within the widened box are protected, everyone else inside
+     * the aura box takes damage. Particles are not sent; clients render the aura from the synced fire state.
+     */
+    private void applyFireAura(ServerLevel level, Cindervane dragon, int interval) {
         Vec3 center = dragon.position().add(0.0D, dragon.getBbHeight() * 0.5D, 0.0D);
         AABB area = dragon.getBoundingBox().inflate(AURA_RADIUS, AURA_VERTICAL, AURA_RADIUS);
-
-        protectAllies(level, dragon, area);
-
-        Set<LivingEntity> hitThisTick = new HashSet<>();
-        for (LivingEntity target : level.getEntitiesOfClass(LivingEntity.class, area,
-                e -> e != dragon && e.isAlive() && e.attackable() && !dragon.isAlly(e))) {
-            if (!hitThisTick.add(target)) {
+        AABB allyArea = area.inflate(ALLY_MARGIN_HORIZONTAL, ALLY_MARGIN_VERTICAL, ALLY_MARGIN_HORIZONTAL);
+
+        candidates.clear();
+        level.getEntities(EntityTypeTest.forClass(LivingEntity.class), allyArea,
+                e -> e != dragon && e.isAlive(), candidates);
+
+        double push = Math.min(MAX_PUSH, PUSH_PER_TICK * interval);
+        for (LivingEntity target : candidates) {
+            if (dragon.isAlly(target)) {
+                target.addEffect(new MobEffectInstance(MobEffects.FIRE_RESISTANCE, ALLY_FIRE_RESIST_TICKS, 0, true, false, false));
+                target.addEffect(new MobEffectInstance(MobEffects.DAMAGE_RESISTANCE, ALLY_DAMAGE_RESIST_TICKS, 4, true, false, false));
+                target.setRemainingFireTicks(0);
                 continue;
             }
-            float damage = BASE_DAMAGE;
-            target.hurt(level.damageSources().dragonBreath(), damage);
+            if (!target.attackable() || !area.intersects(target.getBoundingBox())) {
+                continue;
+            }
+            target.hurt(level.damageSources().dragonBreath(), BASE_DAMAGE);
             target.setSecondsOnFire(FIRE_SECONDS);
 
             Vec3 pushDir = target.position().subtract(center);
             if (pushDir.lengthSqr() > 1.0E-4) {
-                pushDir = pushDir.normalize().scale(0.15D);
+                pushDir = pushDir.normalize().scale(push);
                 target.push(pushDir.x, 0.05D, pushDir.z);
             }
         }
-
-        var rng = dragon.getRandom();
-        for (int i = 0; i < 12; i++) {
-            double angle = rng.nextDouble() * (Math.PI * 2.0);
-            double radius = 0.5D + rng.nextDouble() * (AURA_RADIUS - 0.5D);
-            double height = rng.nextDouble() * AURA_VERTICAL;
-            Vec3 sample = center.add(Math.cos(angle) * radius, -AURA_VERTICAL * 0.5D + height, Math.sin(angle) * radius);
-            spawnParticles(level, sample);
-            maybeIgnite(level, sample, dragon);
+        candidates.clear();
+
+        var rng = getRandom();
+        int attempts = Math.round(IGNITE_ATTEMPTS_PER_TICK * interval);
+        BlockPos origin = dragon.blockPosition();
+        for (int i = 0; i < attempts; i++) {
+            int index = rng.nextInt(RING_OFFSETS.length / 3) * 3;
+            ignitePos.set(origin.getX() + RING_OFFSETS[index],
+                    origin.getY() + RING_OFFSETS[index + 1],
+                    origin.getZ() + RING_OFFSETS[index + 2]);
+            tryIgnite(level, ignitePos);
         }
     }
 
-    private void spawnParticles(ServerLevel level, Vec3 sample) {
-        double spread = 0.6D;
-        int flameCount = 12;
-        int emberCount = 9;
-        int smokeCount = 6;
-
-        level.sendParticles(ParticleTypes.FLAME, sample.x, sample.y, sample.z, flameCount,
-                spread, spread * 0.6D, spread, 0.05D);
-        level.sendParticles(ParticleTypes.SMALL_FLAME, sample.x, sample.y, sample.z, emberCount,
-                spread * 0.4D, spread * 0.25D, spread * 0.4D, 0.02D);
-        level.sendParticles(ParticleTypes.LAVA, sample.x, sample.y, sample.z, 3,
-                spread * 0.2D, spread * 0.2D, spread * 0.2D, 0.07D);
-        level.sendParticles(ParticleTypes.LARGE_SMOKE, sample.x, sample.y, sample.z, smokeCount,
-                spread * 0.8D, spread * 0.4D, spread * 0.8D, 0.0D);
+    /**
+     * Client side, every tick while the dragon's synced fire state is on: flame clusters scattered through
+     * the aura column, the same look the per-tick FIRE_AURA bursts used to have.
+     */
+    public static void spawnAuraParticles(Cindervane dragon) {
+        Level level = dragon.level();
+        RandomSource random = dragon.getRandom();
+        double cx = dragon.getX();
+        double cy = dragon.getY() + dragon.getBbHeight() * 0.5D;
+        double cz = dragon.getZ();
+        for (int i = 0; i < AURA_SAMPLES; i++) {
+            double angle = random.nextDouble() * (Math.PI * 2.0D);
+            double radius = 0.5D + random.nextDouble() * (AURA_RADIUS - 0.5D);
+            double x = cx + Math.cos(angle) * radius;
+            double y = cy + (random.nextDouble() - 0.5D) * AURA_VERTICAL;
+            double z = cz + Math.sin(angle) * radius;
+            emitCluster(level, random, ParticleTypes.FLAME, x, y, z, 12, 0.6D, 0.36D, 0.05D);
+            emitCluster(level, random, ParticleTypes.SMALL_FLAME, x, y, z, 9, 0.24D, 0.15D, 0.02D);
+            emitCluster(level, random, ParticleTypes.LAVA, x, y, z, 3, 0.12D, 0.12D, 0.07D);
+            emitCluster(level, random, ParticleTypes.LARGE_SMOKE, x, y, z, 6, 0.48D, 0.24D, 0.0D);
+        }
     }
 
-    private void maybeIgnite(ServerLevel level, Vec3 sample, Cindervane dragon) {
-        if (dragon.getRandom().nextFloat() > 0.12F) {
-            return;
+    private static void emitCluster(Level level, RandomSource random, ParticleOptions type, double x, double y, double z,
+                                    int count, double spread, double verticalSpread, double speed) {
+        for (int i = 0; i < count; i++) {
+            level.addParticle(type,
+                    x + random.nextGaussian() * spread,
+                    y + random.nextGaussian() * verticalSpread,
+                    z + random.nextGaussian() * spread,
+                    random.nextGaussian() * speed, random.nextGaussian() * speed, random.nextGaussian() * speed);
         }
-        BlockPos pos = BlockPos.containing(sample.x, sample.y - 0.5D, sample.z);
+    }
+
+    private void tryIgnite(ServerLevel level, BlockPos.MutableBlockPos pos) {
         if (!level.isLoaded(pos) || !level.isEmptyBlock(pos)) {
             return;
         }
-        BlockPos below = pos.below();
-        BlockState belowState = level.getBlockState(below);
-        if (belowState.isAir()) {
+        BlockState fire = Blocks.FIRE.defaultBlockState();
+        if (!fire.canSurvive(level, pos)) {
             return;
         }
-        if (Blocks.FIRE.defaultBlockState().canSurvive(level, pos) && belowState.isFaceSturdy(level, below, Direction.UP)) {
-            level.setBlock(pos, Blocks.FIRE.defaultBlockState(), 11);
+        pos.move(Direction.DOWN);
+        BlockState belowState = level.getBlockState(pos);
+        boolean sturdy = !belowState.isAir() && belowState.isFaceSturdy(level, pos, Direction.UP);
+        pos.move(Direction.UP);
+        if (sturdy) {
+            level.setBlock(pos, fire, 11);
         }
     }
 
-    private void protectAllies(ServerLevel level, Cindervane dragon, AABB area) {
-        AABB expanded = area.inflate(1.5D, 0.75D, 1.5D);
-        for (LivingEntity ally : level.getEntitiesOfClass(LivingEntity.class, expanded,
-                entity -> entity != dragon && entity.isAlive() && dragon.isAlly(entity))) {
-            ally.addEffect(new MobEffectInstance(MobEffects.FIRE_RESISTANCE, ALLY_FIRE_RESIST_TICKS, 0, true, false, false));
-            ally.addEffect(new MobEffectInstance(MobEffects.DAMAGE_RESISTANCE, ALLY_DAMAGE_RESIST_TICKS, 4, true, false, false));
-            ally.setRemainingFireTicks(0);
+    private static int[] buildRingOffsets() {
+        int reach = (int) Math.ceil(AURA_RADIUS);
+        double inner = 0.5D * 0.5D;
+        double outer = AURA_RADIUS * AURA_RADIUS;
+        IntList offsets = new IntArrayList();
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -reach; dx <= reach; dx++) {
+                for (int dz = -reach; dz <= reach; dz++) {
+                    double distSqr = dx * dx + dz * dz;
+                    if (distSqr >= inner && distSqr <= outer) {
+                        offsets.add(dx);
+                        offsets.add(dy);
+                        offsets.add(dz);
+                    }
+                }
+            }
         }
+        return offsets.toIntArray();
     }
 }
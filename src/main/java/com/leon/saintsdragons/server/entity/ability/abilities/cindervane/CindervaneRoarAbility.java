@@ -73,7 +73,7 @@ public class CindervaneRoarAbility extends DragonAbility<Cindervane> {
                 Vec3 mouth = dragon.getMouthPosition();
                 boolean flying = dragon.isFlying();
                 float basePitch = flying ? 1.05f : 0.9f;
-                float pitch = basePitch + dragon.getRandom().nextFloat() * 0.05f;
+                float pitch = basePitch + getRandom().nextFloat() * 0.05f;
                 dragon.level().playSound(null,
                         mouth.x, mouth.y, mouth.z,
                         ModSounds.CINDERVANE_ROAR.get(),
@@ -54,7 +54,7 @@ public class CindervaneVolleyAbility extends DragonAbility<Cindervane> {
             volleysFired = 0;
             getUser().triggerAnim("actions", "magma_blast");
             Level level = getLevel();
-            level.playSound(null, getUser().blockPosition(), SoundEvents.BLAZE_SHOOT, getUser().getSoundSource(), 1.4F, 0.8F + getUser().getRandom().nextFloat() * 0.2F);
+            level.playSound(null, getUser().blockPosition(), SoundEvents.BLAZE_SHOOT, getUser().getSoundSource(), 1.4F, 0.8F + getRandom().nextFloat() * 0.2F);
         }
     }
 
@@ -88,8 +88,8 @@ public class CindervaneVolleyAbility extends DragonAbility<Cindervane> {
         float basePitch = dragon.getXRot();
 
         for (int i = 0; i < BLOCKS_PER_VOLLEY; i++) {
-            float yawOffset = (i - 1) * 9.5F + (dragon.getRandom().nextFloat() - 0.5F) * 6.0F;
-            float pitchOffset = (dragon.getRandom().nextFloat() - 0.5F) * 4.0F;
+            float yawOffset = (i - 1) * 9.5F + (getRandom().nextFloat() - 0.5F) * 6.0F;
+            float pitchOffset = (getRandom().nextFloat() - 0.5F) * 4.0F;
             float yaw = baseYaw + yawOffset;
             float pitch = basePitch + pitchOffset;
 
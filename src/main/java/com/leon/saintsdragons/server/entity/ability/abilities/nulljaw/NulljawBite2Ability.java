@@ -45,6 +45,12 @@ public class NulljawBite2Ability extends DragonAbility<Nulljaw> {
         super(type, user, TRACK, 15);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        appliedHit = false;
+    }
+
     @Override
     public boolean tryAbility() {
         // Only allow in phase 2
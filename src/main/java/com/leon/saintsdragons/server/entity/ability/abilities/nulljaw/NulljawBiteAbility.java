@@ -46,6 +46,12 @@ public class NulljawBiteAbility extends DragonAbility<Nulljaw> {
         super(type, user, TRACK, 15);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        appliedHit = false;
+    }
+
     @Override
     protected void beginSection(DragonAbilitySection section) {
         if (section == null) {
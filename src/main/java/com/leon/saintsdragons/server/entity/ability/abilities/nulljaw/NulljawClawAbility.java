@@ -46,15 +46,26 @@ public class NulljawClawAbility extends DragonAbility<Nulljaw> {
     };
 
     private boolean appliedHit;
-    private final boolean useLeftClaw;
+    private boolean useLeftClaw;
 
     public NulljawClawAbility(DragonAbilityType<Nulljaw, NulljawClawAbility> type,
                               Nulljaw user) {
         super(type, user, TRACK, 3);
+        pickClawSide();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        appliedHit = false;
+        pickClawSide();
+    }
+
+    private void pickClawSide() {
         // Determine which claw to use based on entity's toggle state
-        this.useLeftClaw = user.shouldUseLeftClaw();
+        this.useLeftClaw = getUser().shouldUseLeftClaw();
         // Toggle for next time
-        user.toggleClawSide();
+        getUser().toggleClawSide();
     }
 
     @Override
@@ -63,12 +74,6 @@ public class NulljawClawAbility extends DragonAbility<Nulljaw> {
         return getUser().isPhaseTwoActive();
     }
 
-    @Override
-    public boolean isOverlayAbility() {
-        // Claw can run concurrently with bite2 for aggressive combos
-        return true;
-    }
-
     @Override
     protected void beginSection(DragonAbilitySection section) {
         if (section == null) {
@@ -40,6 +40,12 @@ public class NulljawHornGoreAbility extends DragonAbility<Nulljaw> {
         super(type, user, TRACK, 3);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        hitIdsThisUse.clear();
+    }
+
     @Override
     protected void beginSection(DragonAbilitySection section) {
         if (section == null) return;
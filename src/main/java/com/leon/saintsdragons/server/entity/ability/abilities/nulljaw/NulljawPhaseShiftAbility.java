@@ -40,11 +40,6 @@ public class NulljawPhaseShiftAbility extends DragonAbility<Nulljaw> {
         this.nextShakeIndex = 0;
     }
 
-    @Override
-    public boolean isOverlayAbility() {
-        return !enteringPhaseTwo;
-    }
-
     @Override
     public boolean canUse() {
         if (!getUser().onGround() || getUser().isInWater()) {
@@ -84,7 +79,7 @@ public class NulljawPhaseShiftAbility extends DragonAbility<Nulljaw> {
                         getLevel().playSound(null, getUser().getX(), getUser().getY(), getUser().getZ(),
                                 com.leon.saintsdragons.common.registry.ModSounds.NULLJAW_PHASE1.get(),
                                 net.minecraft.sounds.SoundSource.NEUTRAL, 1.4f,
-                                0.9f + getUser().getRandom().nextFloat() * 0.2f);
+                                0.9f + getRandom().nextFloat() * 0.2f);
                     }
                 }
             }
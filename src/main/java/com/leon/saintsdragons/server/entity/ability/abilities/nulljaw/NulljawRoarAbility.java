@@ -103,7 +103,7 @@ public class NulljawRoarAbility extends DragonAbility<Nulljaw> {
                 // Phase 2 roar is deeper and louder
                 float basePitch = phaseTwo ? 0.8f : 1.0f;
                 float volume = phaseTwo ? 1.8f : 1.4f;
-                float pitch = basePitch + dragon.getRandom().nextFloat() * 0.1f;
+                float pitch = basePitch + getRandom().nextFloat() * 0.1f;
 
                 dragon.level().playSound(null,
                         mouth.x, mouth.y, mouth.z,
@@ -4,6 +4,7 @@ import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
+import com.leon.saintsdragons.util.SweptCapsuleQuery;
 import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.*;
 
 /**
@@ -165,7 +166,6 @@ public class RaevyxBeamAbility extends DragonAbility<Raevyx> {
     private void damageAlongBeam(Raevyx wyvern, net.minecraft.world.phys.Vec3 start, net.minecraft.world.phys.Vec3 end) {
         if (!(wyvern.level() instanceof net.minecraft.server.level.ServerLevel server)) return;
 
-        final double STEP = 1.0;         // sample spacing
         final double BASE_RADIUS = 1.2;  // base affect radius around beam core
         final float BASE_DAMAGE = 35.0f;  // base per-tick damage
         
@@ -174,27 +174,17 @@ public class RaevyxBeamAbility extends DragonAbility<Raevyx> {
         final double RADIUS = BASE_RADIUS * conductivity.rangeMultiplier();
         final float DAMAGE = BASE_DAMAGE * conductivity.damageMultiplier() * wyvern.getDamageMultiplier();
 
-        var delta = end.subtract(start);
-        double len = delta.length();
-        if (len < 0.0001) return;
-        var dir = delta.scale(1.0 / len);
-
-        java.util.HashSet<net.minecraft.world.entity.LivingEntity> hitThisBeam = new java.util.HashSet<>();
-
-        for (double d = 0; d <= len; d += STEP) {
-            var p = start.add(dir.scale(d));
-            var aabb = new net.minecraft.world.phys.AABB(p, p).inflate(RADIUS);
-            var list = server.getEntitiesOfClass(net.minecraft.world.entity.LivingEntity.class, aabb,
-                    e -> e != wyvern && e.isAlive() && e.attackable() && !isAllied(wyvern, e));
-            for (var le : list) {
-                if (hitThisBeam.add(le)) {
-                    le.hurt(wyvern.level().damageSources().lightningBolt(), DAMAGE);
-                    // Stronger knockback for single hit
-                    var away = le.position().subtract(p).normalize();
-                    le.push(away.x * 0.15, 0.08, away.z * 0.15);
-                    // no-op beyond damage and push
-                }
-            }
+        if (end.distanceToSqr(start) < 1.0e-8) return;
+
+        // One broadphase over the beam hull, exact capsule test per candidate, ordered along the beam
+        var hits = SweptCapsuleQuery.query(server, net.minecraft.world.entity.LivingEntity.class, start, end, RADIUS,
+                e -> e != wyvern && e.isAlive() && e.attackable() && !isAllied(wyvern, e));
+        for (var hit : hits) {
+            var le = hit.entity();
+            le.hurt(wyvern.level().damageSources().lightningBolt(), DAMAGE);
+            // Stronger knockback for single hit, away from the closest point on the beam core
+            var away = le.position().subtract(hit.point()).normalize();
+            le.push(away.x * 0.15, 0.08, away.z * 0.15);
         }
     }
 
@@ -1,13 +1,12 @@
 package com.leon.saintsdragons.server.entity.ability.abilities.raevyx;
 
-import com.leon.saintsdragons.server.entity.effect.raevyx.RaevyxLightningChainEntity;
+import com.leon.saintsdragons.common.network.LightningChainMessage;
+import com.leon.saintsdragons.server.entity.effect.raevyx.LightningChainSimulator;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.conductivity.ElectricalConductivityState;
-import com.leon.saintsdragons.util.DragonMathUtil;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
@@ -42,6 +41,9 @@ public class RaevyxBiteAbility extends DragonAbility<Raevyx> {
     private static final double CHAIN_RADIUS = 7.0;
     private static final int CHAIN_JUMPS = 5;
     private static final float CHAIN_FALLOFF = 0.75f;
+    // Shock around each arc's origin, same reach the old per-hop chain entity had
+    private static final double CHAIN_SPLASH_RANGE = 2.7;
+    private static final float CHAIN_ARC_SIZE = 1.2f;
 
     // Sections: startup (windup), active (hit frame), recovery
     private static final DragonAbilitySection[] TRACK = new DragonAbilitySection[] {
@@ -56,6 +58,12 @@ public class RaevyxBiteAbility extends DragonAbility<Raevyx> {
         super(type, user, TRACK, 3);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        didHitThisActive = false;
+    }
+
     @Override
     protected void beginSection(DragonAbilitySection section) {
         if (section == null) return;
@@ -164,27 +172,39 @@ public class RaevyxBiteAbility extends DragonAbility<Raevyx> {
     private void chainFrom(LivingEntity start) {
         Raevyx wyvern = getUser();
         ElectricalConductivityState conductivity = wyvern.getConductivityState();
-        Set<LivingEntity> hit = new HashSet<>();
-        hit.add(start);
-
-        LivingEntity current = start;
-        float damage = CHAIN_DAMAGE_BASE;
+        float mult = wyvern.getDamageMultiplier();
 
-        for (int i = 0; i < CHAIN_JUMPS; i++) {
-            LivingEntity next = findNearestChainTarget(current, hit, conductivity);
-            if (next == null) break;
+        LightningChainSimulator.Chain chain = LightningChainSimulator.simulate(start,
+                CHAIN_RADIUS * conductivity.rangeMultiplier(), CHAIN_JUMPS, CHAIN_SPLASH_RANGE,
+                e -> e != wyvern && e.isAlive() && !isAllied(wyvern, e),
+                LivingEntity::attackable,
+                e -> wyvern.getSensing().hasLineOfSight(e));
+        if (chain.isEmpty()) return;
 
-            // Damage and VFX
-            float mult = wyvern.getDamageMultiplier();
+        float damage = CHAIN_DAMAGE_BASE;
+        for (LivingEntity next : chain.targets()) {
             next.hurt(wyvern.level().damageSources().lightningBolt(), damage * mult * conductivity.damageMultiplier());
             wyvern.noteAggroFrom(next);
-            spawnArc(current.position().add(0, current.getBbHeight() * 0.5, 0),
-                    next.position().add(0, next.getBbHeight() * 0.5, 0), conductivity);
-
-            hit.add(next);
-            current = next;
             damage *= CHAIN_FALLOFF;
         }
+
+        // Each arc also shocks whatever stands around the point it leaves from, the bitten entity included
+        DamageSource splashSource = wyvern.level().damageSources().mobAttack(wyvern);
+        float splashDamage = CHAIN_DAMAGE_BASE * mult * conductivity.damageMultiplier();
+        List<LivingEntity> splashTargets = new ArrayList<>(chain.candidates().size() + 1);
+        splashTargets.add(start);
+        splashTargets.addAll(chain.candidates());
+        List<Vec3> points = chain.points();
+        for (int i = 0; i < points.size() - 1; i++) {
+            AABB splash = new AABB(points.get(i), points.get(i)).inflate(CHAIN_SPLASH_RANGE);
+            for (LivingEntity e : splashTargets) {
+                if (!e.isInvulnerable() && splash.intersects(e.getBoundingBox())) {
+                    e.hurt(splashSource, splashDamage);
+                }
+            }
+        }
+
+        LightningChainMessage.sendFrom(wyvern, points, CHAIN_ARC_SIZE, wyvern.isFemale());
     }
 
     // ===== Geometry helpers =====
@@ -218,43 +238,8 @@ public class RaevyxBiteAbility extends DragonAbility<Raevyx> {
         return null;
     }
 
-    private LivingEntity findNearestChainTarget(LivingEntity origin, Set<LivingEntity> exclude, ElectricalConductivityState conductivity) {
-        Raevyx wyvern = getUser();
-        double rangeMult = conductivity.rangeMultiplier();
-        List<LivingEntity> nearby = DragonMathUtil.getEntitiesNearby(origin, LivingEntity.class, CHAIN_RADIUS * rangeMult);
-        LivingEntity best = null;
-        double bestDist = Double.MAX_VALUE;
-        for (LivingEntity e : nearby) {
-            if (e == wyvern || exclude.contains(e) || !e.isAlive() || !e.attackable() || isAllied(wyvern, e)) continue;
-            double d = e.distanceToSqr(origin);
-            if (d < bestDist) {
-                // Optional LOS check for coherence
-                if (!wyvern.getSensing().hasLineOfSight(e)) continue;
-                bestDist = d;
-                best = e;
-            }
-        }
-        return best;
-    }
-
     private boolean isAllied(Raevyx wyvern, Entity other) {
         // Use the comprehensive ally system from DragonEntity
         return wyvern.isAlly(other);
     }
-
-    private void spawnArc(Vec3 from, Vec3 to, ElectricalConductivityState conductivity) {
-        if (!(getLevel() instanceof ServerLevel server)) return;
-        
-        // Create a single lightning chain entity instead of multiple particles
-        Raevyx wyvern = getUser();
-        float damage = CHAIN_DAMAGE_BASE * wyvern.getDamageMultiplier() * conductivity.damageMultiplier();
-        
-        RaevyxLightningChainEntity lightningEntity = new RaevyxLightningChainEntity(
-            server, from, to, 
-            damage, 1.2f,
-                wyvern, false // Not a chain lightning, just a single strike
-        );
-        
-        server.addFreshEntity(lightningEntity);
-    }
-}
\ No newline at end of file
+}
@@ -39,6 +39,13 @@ public class RaevyxHornGoreAbility extends DragonAbility<Raevyx> {
         super(type, user, TRACK, 3);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        hitIdsThisUse.clear();
+        playedSoundThisUse = false;
+    }
+
     @Override
     protected void beginSection(DragonAbilitySection section) {
         if (section == null) return;
@@ -62,7 +62,7 @@ public class RaevyxRoarAbility extends DragonAbility<Raevyx> {
             if (count > 1) {
                 strikesLeft = Math.min(6, Math.max(3, count * 2));
             } else {
-                strikesLeft = 2 + getUser().getRandom().nextInt(2); // 2-3 strikes
+                strikesLeft = 2 + getRandom().nextInt(2); // 2-3 strikes
             }
             
             // Double the strikes when supercharged
@@ -84,7 +84,7 @@ public class RaevyxRoarAbility extends DragonAbility<Raevyx> {
             if (getTicksInSection() >= ROAR_DELAY_TICKS && !getUser().level().isClientSide) {
                 // Play only the sound (avoid retriggering the animation)
                 var dragon = getUser();
-                float pitch = 0.9f + dragon.getRandom().nextFloat() * 0.15f;
+                float pitch = 0.9f + getRandom().nextFloat() * 0.15f;
                 dragon.playSound(com.leon.saintsdragons.common.registry.ModSounds.RAEVYX_ROAR.get(), 1.4f, pitch);
                 roarQueued = false;
             }
@@ -102,7 +102,7 @@ public class RaevyxRoarAbility extends DragonAbility<Raevyx> {
             } else {
                 spawnLightningStrike();
                 strikesLeft--;
-                strikeCooldown = 6 + getUser().getRandom().nextInt(6); // 0.3s to 0.6s between strikes
+                strikeCooldown = 6 + getRandom().nextInt(6); // 0.3s to 0.6s between strikes
             }
         }
     }
@@ -148,8 +148,8 @@ public class RaevyxRoarAbility extends DragonAbility<Raevyx> {
         net.minecraft.world.entity.LivingEntity target = nextValidTarget(server);
         if (target == null) return;
 
-        double ox = (dragon.getRandom().nextDouble() - 0.5) * 2.0; // slight scatter
-        double oz = (dragon.getRandom().nextDouble() - 0.5) * 2.0;
+        double ox = (getRandom().nextDouble() - 0.5) * 2.0; // slight scatter
+        double oz = (getRandom().nextDouble() - 0.5) * 2.0;
         double x = target.getX() + ox;
         double z = target.getZ() + oz;
         double y = target.getY();
@@ -174,11 +174,11 @@ public class RaevyxRoarAbility extends DragonAbility<Raevyx> {
 
     private void spawnElectrocuteArcs(ServerLevel server, net.minecraft.world.entity.LivingEntity target) {
         Raevyx dragon = getUser();
-        java.util.Random rnd = new java.util.Random(dragon.getRandom().nextLong());
+        java.util.Random rnd = new java.util.Random(getRandom().nextLong());
         boolean female = dragon.isFemale();
         Vec3 center = target.position().add(0, target.getBbHeight() * 0.5, 0);
         double radius = Math.max(target.getBoundingBox().getXsize(), target.getBoundingBox().getZsize()) * 0.6;
-        int count = 6 + dragon.getRandom().nextInt(5); // 6-10 short arcs
+        int count = 6 + getRandom().nextInt(5); // 6-10 short arcs
         for (int i = 0; i < count; i++) {
             // Pick two random directions on a sphere and radii within the body radius
             Vec3 a = randomUnit(rnd).scale(radius * (0.4 + rnd.nextDouble() * 0.6));
@@ -0,0 +1,91 @@
+package com.leon.saintsdragons.server.entity.ability.abilities.stegonaut;
+
+import com.leon.saintsdragons.SaintsDragons;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.OwnableEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.capabilities.RegisterCapabilitiesEvent;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drake Binder aura state carried by the entity itself, so it goes away with the entity instead of living in
+ * a static per-dimension map. Attached server side to players and ownable entities, the only entities the
+ * aura can buff. Not saved: the buffs are short and simply run out after a reload.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class BinderBuffState {
+    public static final Capability<BinderBuffState> CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {});
+    private static final ResourceLocation KEY = SaintsDragons.rl("binder_buff");
+
+    // Game time of the aura update that last buffed this entity
+    private long refreshedAt = Long.MIN_VALUE;
+    // Entities this carrier's aura buffed on its last update, so they can be cleared once out of range
+    private final List<LivingEntity> auraTargets = new ArrayList<>();
+
+    @Nullable
+    public static BinderBuffState get(Entity entity) {
+        return entity.getCapability(CAPABILITY).resolve().orElse(null);
+    }
+
+    public long refreshedAt() {
+        return refreshedAt;
+    }
+
+    void markRefreshed(long gameTime) {
+        this.refreshedAt = gameTime;
+    }
+
+    void addAuraTarget(LivingEntity entity) {
+        auraTargets.add(entity);
+    }
+
+    /**
+     * Move last update's aura targets into {@code into}, leaving this carrier's list empty for the new update.
+     */
+    void drainAuraTargets(List<LivingEntity> into) {
+        into.addAll(auraTargets);
+        auraTargets.clear();
+    }
+
+    public static void register(RegisterCapabilitiesEvent event) {
+        event.register(BinderBuffState.class);
+    }
+
+    @SubscribeEvent
+    public static void onAttachCapabilities(AttachCapabilitiesEvent<Entity> event) {
+        Entity entity = event.getObject();
+        if (!(entity instanceof LivingEntity) || entity.level().isClientSide) {
+            return;
+        }
+        if (!(entity instanceof Player) && !(entity instanceof OwnableEntity)) {
+            return;
+        }
+        Provider provider = new Provider();
+        event.addCapability(KEY, provider);
+        event.addListener(provider.optional::invalidate);
+    }
+
+    private static final class Provider implements ICapabilityProvider {
+        private final LazyOptional<BinderBuffState> optional = LazyOptional.of(BinderBuffState::new);
+
+        @Override
+        public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+            return CAPABILITY.orEmpty(cap, optional);
+        }
+    }
+}
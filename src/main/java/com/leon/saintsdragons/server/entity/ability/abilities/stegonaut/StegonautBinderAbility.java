@@ -1,29 +1,21 @@
 package com.leon.saintsdragons.server.entity.ability.abilities.stegonaut;
 
-import com.leon.saintsdragons.common.item.StegonautBinderItem;
 import com.leon.saintsdragons.server.entity.dragons.stegonaut.Stegonaut;
-import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.OwnableEntity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.Level;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Handles portable resistance buffs from bound Drake Binders.
  * When a player carries a bound Drake Binder anywhere in their inventory,
  * they and nearby allies get resistance buffs.
+ * Carriers come from {@link StegonautBinderIndex}; who was buffed is kept in {@link BinderBuffState}.
  */
 public final class StegonautBinderAbility {
 
@@ -33,9 +25,6 @@ public final class StegonautBinderAbility {
     private static final int BUFF_AMPLIFIER = 2; // Resistance
     private static final int ABSORPTION_AMPLIFIER = 1; // Absorption
 
-    // Track which entities are currently buffed per dimension so effects can be cleaned up
-    private static final Map<ResourceKey<Level>, Set<UUID>> ACTIVE_BUFF_TARGETS = new HashMap<>();
-
     private StegonautBinderAbility() {
         // Utility class
     }
@@ -44,42 +33,45 @@ public final class StegonautBinderAbility {
      * Update the portable resistance buffs for all players carrying bound Drake Binders
      */
     public static void updateAllPortableBuffs(ServerLevel level) {
-        Set<UUID> currentTargets = new HashSet<>();
+        long now = level.getGameTime();
+        List<LivingEntity> previousTargets = new ArrayList<>();
 
         for (Player player : level.players()) {
+            BinderBuffState carrier = BinderBuffState.get(player);
+            if (carrier == null) {
+                continue;
+            }
+            carrier.drainAuraTargets(previousTargets);
+
             if (!player.isAlive()) {
                 continue;
             }
 
-            if (!hasBoundDrakeBinder(player)) {
+            if (!StegonautBinderIndex.hasBoundDrakeBinder(player)) {
                 continue;
             }
 
-            applyPortableResistanceBuffs(level, player, currentTargets);
+            applyPortableResistanceBuffs(level, player, carrier, now);
         }
 
-        Set<UUID> previousTargets = ACTIVE_BUFF_TARGETS.getOrDefault(level.dimension(), Collections.emptySet());
-        if (!previousTargets.isEmpty()) {
-            for (UUID uuid : previousTargets) {
-                if (currentTargets.contains(uuid)) {
-                    continue;
-                }
-                Entity entity = level.getEntity(uuid);
-                if (entity instanceof LivingEntity livingEntity) {
-                    livingEntity.removeEffect(MobEffects.DAMAGE_RESISTANCE);
-                    livingEntity.removeEffect(MobEffects.ABSORPTION);
-                }
+        // Clear buffs from entities that no carrier reached this time
+        for (LivingEntity entity : previousTargets) {
+            if (entity.isRemoved() || entity.level() != level) {
+                continue;
+            }
+            BinderBuffState state = BinderBuffState.get(entity);
+            if (state != null && state.refreshedAt() != now) {
+                entity.removeEffect(MobEffects.DAMAGE_RESISTANCE);
+                entity.removeEffect(MobEffects.ABSORPTION);
             }
         }
-
-        ACTIVE_BUFF_TARGETS.put(level.dimension(), currentTargets);
     }
 
     /**
      * Apply portable resistance buffs to the player and nearby allies
      */
-    private static void applyPortableResistanceBuffs(ServerLevel level, Player player, Set<UUID> currentTargets) {
-        applyBuffsToEntity(player, currentTargets);
+    private static void applyPortableResistanceBuffs(ServerLevel level, Player player, BinderBuffState carrier, long now) {
+        applyBuffsToEntity(player, carrier, now);
 
         var nearbyEntities = level.getEntitiesOfClass(
             LivingEntity.class,
@@ -88,35 +80,10 @@ public final class StegonautBinderAbility {
         );
 
         for (LivingEntity entity : nearbyEntities) {
-            applyBuffsToEntity(entity, currentTargets);
+            applyBuffsToEntity(entity, carrier, now);
         }
     }
 
-    /**
-     * Check if the player has a bound Drake Binder anywhere in their inventory
-     */
-    private static boolean hasBoundDrakeBinder(Player player) {
-        if (findBoundDrakeBinderInList(player.getInventory().items)) {
-            return true;
-        }
-        if (findBoundDrakeBinderInList(player.getInventory().offhand)) {
-            return true;
-        }
-        return findBoundDrakeBinderInList(player.getInventory().armor);
-    }
-
-    private static boolean findBoundDrakeBinderInList(net.minecraft.core.NonNullList<ItemStack> stacks) {
-        for (ItemStack item : stacks) {
-            if (item.isEmpty()) {
-                continue;
-            }
-            if (item.getItem() instanceof StegonautBinderItem && StegonautBinderItem.isBound(item)) {
-                return StegonautBinderItem.getBoundDrakeUUID(item) != null;
-            }
-        }
-        return false;
-    }
-
     /**
      * Check if an entity is eligible for portable resistance buff
      */
@@ -150,7 +117,11 @@ public final class StegonautBinderAbility {
     /**
      * Apply resistance effect to an entity and record it for cleanup tracking
      */
-    private static void applyBuffsToEntity(LivingEntity entity, Set<UUID> currentTargets) {
+    private static void applyBuffsToEntity(LivingEntity entity, BinderBuffState carrier, long now) {
+        BinderBuffState state = BinderBuffState.get(entity);
+        if (state == null) {
+            return;
+        }
         MobEffectInstance resistanceEffect = new MobEffectInstance(
             MobEffects.DAMAGE_RESISTANCE,
             BUFF_DURATION_TICKS,
@@ -169,6 +140,7 @@ public final class StegonautBinderAbility {
         );
         entity.addEffect(resistanceEffect);
         entity.addEffect(absorptionEffect);
-        currentTargets.add(entity.getUUID());
+        state.markRefreshed(now);
+        carrier.addAuraTarget(entity);
     }
 }
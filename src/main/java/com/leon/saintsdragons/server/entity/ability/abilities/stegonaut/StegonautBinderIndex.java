@@ -0,0 +1,112 @@
+package com.leon.saintsdragons.server.entity.ability.abilities.stegonaut;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.item.StegonautBinderItem;
+import net.minecraft.core.NonNullList;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers which players carry a bound Drake Binder, so the aura update doesn't walk every inventory.
+ *
+ * A slot listener on the player's inventory menu, and on every container menu they open, flags the entry
+ * whenever one of the player's own slots changes; the inventory is only rescanned on the next lookup after
+ * such a change. Server side only, entries are dropped on logout.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class StegonautBinderIndex {
+    private static final Map<UUID, Entry> ENTRIES = new HashMap<>();
+
+    private StegonautBinderIndex() {}
+
+    /**
+     * @return whether the player has a bound Drake Binder anywhere in their inventory, offhand or armor
+     */
+    public static boolean hasBoundDrakeBinder(Player player) {
+        Entry entry = entry(player);
+        if (entry.dirty) {
+            entry.carrying = scan(player.getInventory());
+            entry.dirty = false;
+        }
+        return entry.carrying;
+    }
+
+    private static Entry entry(Player player) {
+        Entry entry = ENTRIES.computeIfAbsent(player.getUUID(), uuid -> new Entry());
+        if (entry.player != player) {
+            // First lookup, or a new player object after respawn: follow its inventory menu
+            entry.player = player;
+            entry.dirty = true;
+            player.inventoryMenu.addSlotListener(entry);
+        }
+        return entry;
+    }
+
+    private static boolean scan(Inventory inventory) {
+        return containsBoundBinder(inventory.items)
+                || containsBoundBinder(inventory.offhand)
+                || containsBoundBinder(inventory.armor);
+    }
+
+    private static boolean containsBoundBinder(NonNullList<ItemStack> stacks) {
+        for (ItemStack item : stacks) {
+            if (item.isEmpty()) {
+                continue;
+            }
+            if (item.getItem() instanceof StegonautBinderItem && StegonautBinderItem.isBound(item)) {
+                return StegonautBinderItem.getBoundDrakeUUID(item) != null;
+            }
+        }
+        return false;
+    }
+
+    @SubscribeEvent
+    public static void onContainerOpen(PlayerContainerEvent.Open event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            event.getContainer().addSlotListener(entry(player));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onContainerClose(PlayerContainerEvent.Close event) {
+        // Offhand and armor are not part of most container menus, so recheck once the inventory menu is back
+        Entry entry = ENTRIES.get(event.getEntity().getUUID());
+        if (entry != null) {
+            entry.dirty = true;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        ENTRIES.remove(event.getEntity().getUUID());
+    }
+
+    private static final class Entry implements ContainerListener {
+        private Player player;
+        private boolean dirty = true;
+        private boolean carrying;
+
+        @Override
+        public void slotChanged(AbstractContainerMenu menu, int slot, ItemStack stack) {
+            if (player != null && menu.getSlot(slot).container == player.getInventory()) {
+                dirty = true;
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu menu, int id, int value) {
+        }
+    }
+}
@@ -9,8 +9,12 @@ import com.leon.saintsdragons.server.entity.handler.DragonCombatHandler;
 import com.leon.saintsdragons.server.entity.interfaces.DragonSoundProfile;
 import com.leon.saintsdragons.server.entity.handler.DragonAllyManager;
 import com.leon.saintsdragons.common.network.DragonAnimTickets;
+import com.leon.saintsdragons.server.ai.DragonSensorScheduler;
+import com.leon.saintsdragons.server.ai.navigation.TerrainColumnCache;
+import com.leon.saintsdragons.util.math.PackedRotationSync;
 import java.util.Collections;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import net.minecraft.nbt.CompoundTag;
@@ -25,7 +29,6 @@ import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.MobSpawnType;
 import net.minecraft.world.entity.OwnableEntity;
 import net.minecraft.world.entity.SpawnGroupData;
@@ -35,6 +38,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3d;
 import software.bernie.geckolib.animatable.GeoEntity;
 import software.bernie.geckolib.core.animatable.instance.AnimatableInstanceCache;
 import software.bernie.geckolib.core.animation.AnimatableManager;
@@ -56,16 +60,22 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
     // Shared gender flag for all dragons (0=male,1=female)
     private static final EntityDataAccessor<Byte> DATA_GENDER =
             SynchedEntityData.defineId(DragonEntity.class, EntityDataSerializers.BYTE);
+
+    // Growth stage read by GeoModels to pick baby/adult resources (see DragonGrowthStage)
+    private static final EntityDataAccessor<Byte> DATA_GROWTH_STAGE =
+            SynchedEntityData.defineId(DragonEntity.class, EntityDataSerializers.BYTE);
     
     // Rotation deviation sync (REQUIRED for smooth animations)
-    private static final EntityDataAccessor<Float> DATA_BODY_DEVIATION =
-            SynchedEntityData.defineId(DragonEntity.class, EntityDataSerializers.FLOAT);
-    private static final EntityDataAccessor<Float> DATA_PITCH_DEVIATION =
-            SynchedEntityData.defineId(DragonEntity.class, EntityDataSerializers.FLOAT);
-    private static final EntityDataAccessor<Float> DATA_YAW_VELOCITY =
-            SynchedEntityData.defineId(DragonEntity.class, EntityDataSerializers.FLOAT);
+    // Body deviation, pitch deviation and yaw velocity quantized into one int (see PackedRotationSync)
+    private static final EntityDataAccessor<Integer> DATA_PACKED_ROTATION =
+            SynchedEntityData.defineId(DragonEntity.class, EntityDataSerializers.INT);
+    // Minimum change (in steps of the field, see PackedRotationSync) before a new rotation packet is worth sending
+    private static final int ROTATION_SYNC_DEADBAND = 2;
 
     private final AnimatableInstanceCache cache = GeckoLibUtil.createInstanceCache(this);
+
+    // Staggered, cached perception scans shared by this dragon's goals
+    private final DragonSensorScheduler sensors = new DragonSensorScheduler(this);
     
     // Dragon ability system (lightweight base – no global cooldown here)
     private DragonAbility<?> activeAbility = null;
@@ -84,9 +94,6 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
     private boolean dying = false;
     private boolean genderInitialized = false;
 
-    // Re-entrancy guard for setAge() to prevent infinite recursion during baby->adult respawn
-    private boolean isRespawning = false;
-
     // AstemirLib-style smooth rotation deviations (mirrored on both sides)
     // Smooths the DELTA (how much rotation changed) not the absolute rotation
     public final com.leon.saintsdragons.util.math.SmoothValue bodyRotDeviation =
@@ -134,9 +141,8 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
         this.entityData.define(DATA_COMMAND, 0); // 0=Follow, 1=Sit, 2=Wander (default Follow)
         this.entityData.define(DATA_SIT_PROGRESS, 0.0f); // Sit progress for smooth animations
         this.entityData.define(DATA_GENDER, DragonGender.MALE.getId());
-        this.entityData.define(DATA_BODY_DEVIATION, 0.0f);
-        this.entityData.define(DATA_PITCH_DEVIATION, 0.0f);
-        this.entityData.define(DATA_YAW_VELOCITY, 0.0f);
+        this.entityData.define(DATA_GROWTH_STAGE, DragonGrowthStage.ADULT.getId());
+        this.entityData.define(DATA_PACKED_ROTATION, 0);
     }
 
     public DragonGender getGender() {
@@ -176,6 +182,34 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
         return cache;
     }
 
+    public DragonSensorScheduler getSensors() {
+        return sensors;
+    }
+
+    public DragonGrowthStage getGrowthStage() {
+        return DragonGrowthStage.fromId(this.entityData.get(DATA_GROWTH_STAGE));
+    }
+
+    @Override
+    public void onSyncedDataUpdated(@NotNull EntityDataAccessor<?> key) {
+        super.onSyncedDataUpdated(key);
+        if (DATA_GROWTH_STAGE.equals(key) && level().isClientSide) {
+            onGrowthStageChanged();
+        }
+    }
+
+    /**
+     * Client hook for a growth stage swap. The GeoModel already resolves the new model/animation resources from
+     * {@link #getGrowthStage()}, but the animation controllers still hold animations baked from the old file and
+     * the bone snapshots of the old skeleton, so both are reset here. Subclasses holding their own per-model
+     * state should call super.
+     */
+    protected void onGrowthStageChanged() {
+        var manager = getAnimatableInstanceCache().getManagerForId(this.getId());
+        manager.getAnimationControllers().values().forEach(controller -> controller.forceAnimationReset());
+        manager.getBoneSnapshotCollection().clear();
+    }
+
     @Override
     public abstract void registerControllers(AnimatableManager.ControllerRegistrar controllers);
 
@@ -384,6 +418,7 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
     /**
      * Get the dragon type for this entity.
      * Used for elemental damage calculations and type-specific behavior.
+     * Dragons override this with a constant; the fallback is resolved once per entity class.
      */
     @Nullable
     public DragonType getDragonType() {
@@ -583,6 +618,19 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
         return null;
     }
 
+    /**
+     * Copy a client-side locator position into {@code out}. Dragons that sample locators into
+     * fixed slots override this to avoid the {@link Vec3} from {@link #getClientLocatorPosition(String)}.
+     *
+     * @return {@code false}, leaving {@code out} untouched, if the locator is unknown or unsampled
+     */
+    public boolean readClientLocator(String locator, Vector3d out) {
+        Vec3 pos = getClientLocatorPosition(locator);
+        if (pos == null) return false;
+        out.set(pos.x, pos.y, pos.z);
+        return true;
+    }
+
     /**
      * Get the maximum sit progress ticks for smooth sitting animation
      */
@@ -664,10 +712,11 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
      * For wild dragons: Calculates locally from vanilla rotation values.
      */
     private void updateRotationDeviations() {
-        // Read server-synced values
-        double headToBody = this.entityData.get(DATA_BODY_DEVIATION);
-        double pitchDelta = this.entityData.get(DATA_PITCH_DEVIATION);
-        double bodyYawDelta = this.entityData.get(DATA_YAW_VELOCITY);
+        // Read server-synced values; SmoothValue interpolates between received packets
+        int packed = this.entityData.get(DATA_PACKED_ROTATION);
+        double headToBody = PackedRotationSync.bodyDeviation(packed);
+        double pitchDelta = PackedRotationSync.pitchDeviation(packed);
+        double bodyYawDelta = PackedRotationSync.yawVelocity(packed);
         
         // Update smooth values
         bodyRotDeviation.setTo(headToBody);
@@ -684,26 +733,28 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
      * Updates smooth rotation targets on SERVER side and syncs to clients.
      * When ridden: Body deviation = 0 (body = head), but calculates yaw velocity for tail drag
      * When wild: Calculates all deviations for smooth look and tail drag
+     * Values are quantized and only pushed when they move past the deadband, so an idle or
+     * hovering dragon stops generating entity-data packets.
      */
     private void updateServerRotationTargets() {
         // Always calculate yaw velocity for tail drag (works for both ridden and wild)
         float bodyYawDelta = (float) (Mth.wrapDegrees(this.yBodyRot - this.yBodyRotO) * 2.0);
-        this.entityData.set(DATA_YAW_VELOCITY, bodyYawDelta);
-        
+        float headToBody = 0.0f;
+        float pitchDelta = 0.0f;
+
         // When ridden, body = head (set by copyRiderLook), so force visual deviations to 0
-        if (this.isVehicle()) {
-            this.entityData.set(DATA_BODY_DEVIATION, 0.0f);
-            this.entityData.set(DATA_PITCH_DEVIATION, 0.0f);
-            return;
+        if (!this.isVehicle()) {
+            // Wild dragons: calculate rotation deviations for smooth neck/head look
+            headToBody = (float) (Mth.wrapDegrees(this.yHeadRot - this.yBodyRot) * 0.25);
+            pitchDelta = (this.getXRot() - this.xRotO) * 0.5f;
         }
-        
-        // Wild dragons: calculate rotation deviations for smooth neck/head look
-        float headToBody = (float) (Mth.wrapDegrees(this.yHeadRot - this.yBodyRot) * 0.25);
-        float pitchDelta = (this.getXRot() - this.xRotO) * 0.5f;
-        
+
         // Push to SynchedEntityData for all observers
-        this.entityData.set(DATA_BODY_DEVIATION, headToBody);
-        this.entityData.set(DATA_PITCH_DEVIATION, pitchDelta);
+        int packed = PackedRotationSync.pack(headToBody, pitchDelta, bodyYawDelta);
+        int last = this.entityData.get(DATA_PACKED_ROTATION);
+        if (PackedRotationSync.exceedsDeadband(last, packed, ROTATION_SYNC_DEADBAND)) {
+            this.entityData.set(DATA_PACKED_ROTATION, packed);
+        }
     }
 
     // ===== COMMAND SYSTEM (shared) =====
@@ -744,84 +795,47 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
     /**
      * Check if an entity is an ally of this wyvern.
      * Includes owner, other dragons owned by the same player, and manually set allies.
+     * The entity is reduced to the player it answers to, then checked with one lookup in the owner's ally list.
      */
     public boolean isAlly(net.minecraft.world.entity.Entity entity) {
-        if (entity == null) return false;
+        UUID principal = allyPrincipal(entity);
+        if (principal == null) return false;
         
-        // Owner is always an ally
-        if (entity instanceof Player player && this.isTame() && this.isOwnedBy(player)) {
+        // Owner (and anything the owner tamed) is always an ally
+        if (this.isTame() && principal.equals(this.getOwnerUUID())) {
             return true;
         }
         
-        // Other dragons owned by the same player or allied players are allies
-        if (entity instanceof DragonEntity otherDragon && this.isTame() && otherDragon.isTame()) {
-            LivingEntity owner = this.getOwner();
-            if (owner instanceof Player ownerPlayer) {
-                if (otherDragon.isOwnedBy(ownerPlayer)) {
-                    return true;
-                }
-
-                LivingEntity otherOwner = otherDragon.getOwner();
-                if (otherOwner instanceof Player otherPlayer) {
-                    return allyManager.isAlly(otherPlayer);
-                }
-            }
-            return false;
-        }
-
-        
-        // Check manually set allies
+        // Manually set allies, and anything they tamed
+        return allyManager.isAlly(principal);
+    }
+    
+    /**
+     * The player an entity answers to for ally purposes: a player is themselves, a tamed pet or dragon is its owner.
+     */
+    private static UUID allyPrincipal(net.minecraft.world.entity.Entity entity) {
         if (entity instanceof Player player) {
-            return allyManager.isAlly(player);
+            return player.getUUID();
         }
-        
-        // Check if entity is owned by an ally (including the wyvern's owner)
-        if (entity instanceof net.minecraft.world.entity.TamableAnimal tamable && tamable.isTame()) {
-            net.minecraft.world.entity.LivingEntity owner = tamable.getOwner();
-            if (owner instanceof Player playerOwner) {
-                // Check if the pet's owner is the wyvern's owner OR a manually set ally
-                return (this.isTame() && this.isOwnedBy(playerOwner)) || allyManager.isAlly(playerOwner);
-            }
+        if (entity instanceof net.minecraft.world.entity.TamableAnimal tamable && !tamable.isTame()) {
+            return null;
         }
-        
         if (entity instanceof OwnableEntity ownable) {
-            LivingEntity owner = ownable.getOwner();
-            if (owner instanceof Player playerOwner) {
-                return (this.isTame() && this.isOwnedBy(playerOwner)) || allyManager.isAlly(playerOwner);
-            }
+            return ownable.getOwnerUUID();
         }
-        return false;
+        return null;
     }
     
     /**
      * Check if an entity should be considered a valid target for this wyvern.
      * This prevents targeting allies even in retaliation scenarios.
+     * Pets and dragons of the same owner are covered by {@link #isAlly}.
      */
     public boolean canTarget(net.minecraft.world.entity.Entity entity) {
         if (entity == null) return false;
         
         // Never target allies
-        if (isAlly(entity)) {
-            return false;
-        }
-        
-        // Additional check: Never target tamed animals owned by the same player
-        // This prevents targeting pets even if they're not explicitly marked as allies
-        if (entity instanceof net.minecraft.world.entity.TamableAnimal tamable && tamable.isTame()) {
-            net.minecraft.world.entity.LivingEntity owner = tamable.getOwner();
-            if (owner instanceof Player playerOwner && this.isTame() && this.isOwnedBy(playerOwner)) {
-                return false; // Never target pets owned by the same player
-            }
-        }
-        
-        if (entity instanceof OwnableEntity ownable) {
-            LivingEntity owner = ownable.getOwner();
-            if (owner instanceof Player playerOwner && this.isTame() && this.isOwnedBy(playerOwner)) {
-                return false; // Never target entities owned by the same player
-            }
-        }
-        
-        return true;
+        return !isAlly(entity);
     }
 
     /**
@@ -857,11 +871,6 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
      */
     @Override
     public void readAdditionalSaveData(@NotNull CompoundTag tag) {
-        // Read re-entrancy flag FIRST before calling super (which eventually calls setAge())
-        if (tag.contains("IsRespawning")) {
-            this.isRespawning = tag.getBoolean("IsRespawning");
-        }
-
         super.readAdditionalSaveData(tag);
         if (tag.contains("Command")) {
             setCommand(tag.getInt("Command"));
@@ -892,64 +901,24 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
 
     // ===== BABY/BREEDING SYSTEM =====
     /**
-     * Override setAge to detect baby->adult transition and force visual update.
-     * GeckoLib caches animations on the client renderer, so we need to force clients to refresh when aging up.
-     * This is a generic solution that works for all dragon types.
+     * Override setAge to keep the synced growth stage in step with the vanilla baby flag.
+     * The same entity instance swaps models in place (see {@link #onGrowthStageChanged()}), so growing up keeps
+     * the entity id, AI and navigation state.
      */
     @Override
     public void setAge(int age) {
-        boolean wasBaby = this.isBaby();
         super.setAge(age);
-        boolean isNowBaby = this.isBaby();
-
-        // Detect baby->adult or adult->baby transition
-        // Skip if:
-        // - Already in the middle of a respawn (prevents infinite recursion)
-        // - Entity isn't in a world yet (prevents discarding newly created babies during initialization)
-        if (wasBaby != isNowBaby && !level().isClientSide && !isRespawning && this.isAddedToWorld()) {
-            // Set flag to prevent re-entrancy when newEntity.load() calls setAge()
-            isRespawning = true;
-
-            // NUCLEAR OPTION: GeckoLib caches animations on the client renderer, and there's
-            // no clean way to invalidate that cache. So we force the entity to "respawn"
-            // by saving its state, removing it, and spawning a fresh copy.
-
-            // Save current state
-            CompoundTag nbt = new CompoundTag();
-            this.saveWithoutId(nbt);
-
-            // Mark in NBT that we're currently respawning - the new entity will inherit this flag
-            nbt.putBoolean("IsRespawning", true);
-
-            // Update age in the saved data
-            nbt.putInt("Age", age);
-
-            // Create fresh entity with updated data
-            @SuppressWarnings("unchecked")
-            DragonEntity newEntity = (DragonEntity) this.getType().create(this.level());
-            if (newEntity != null) {
-                newEntity.load(nbt);  // Reads IsRespawning=true, preventing another respawn when setAge() is called
-                newEntity.setPos(this.getX(), this.getY(), this.getZ());
-                newEntity.setYRot(this.getYRot());
-                newEntity.setXRot(this.getXRot());
-
-                // Preserve UUID if tamed (important for ownership)
-                if (this.isTame()) {
-                    newEntity.setUUID(this.getUUID());
-                }
-
-                // Clear the respawning flag now that the process is complete
-                newEntity.isRespawning = false;
-
-                // Remove old entity and spawn new one
-                this.discard();
-                this.level().addFreshEntity(newEntity);
-
-                // Visual/sound feedback for the transformation
-                this.level().broadcastEntityEvent(newEntity, (byte) 7); // Hearts
-            }
+        if (level().isClientSide) {
+            return;
+        }
 
-            // Note: We don't reset the flag on old entity because it's about to be discarded anyway
+        DragonGrowthStage stage = this.isBaby() ? DragonGrowthStage.BABY : DragonGrowthStage.ADULT;
+        if (stage != getGrowthStage()) {
+            this.entityData.set(DATA_GROWTH_STAGE, stage.getId());
+            // Visual feedback for the transformation; skipped while loading or during initial spawn setup
+            if (this.isAddedToWorld()) {
+                this.level().broadcastEntityEvent(this, (byte) 7); // Hearts
+            }
         }
     }
 
@@ -970,35 +939,18 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
     }
 
     /**
-     * Finds a safe landing block for newly spawned babies by scanning downward until a sturdy,
-     * non-fluid surface with air above is located. Returns null if no such surface is found.
+     * Finds a safe landing block for newly spawned babies using the shared terrain column scan:
+     * the first solid surface below with nothing but air above it. Returns null if no such surface
+     * is found (void, or the ground is under fluid).
      */
     @Nullable
     private net.minecraft.core.BlockPos findSafeBabySpawnPos(net.minecraft.world.level.LevelAccessor level, net.minecraft.core.BlockPos start) {
         if (level == null || start == null) return null;
-        net.minecraft.core.BlockPos.MutableBlockPos cursor = start.mutable();
-        int minY = level.getMinBuildHeight();
-
-        while (cursor.getY() >= minY) {
-            net.minecraft.world.level.block.state.BlockState state = level.getBlockState(cursor);
-            if (isStableBabyLandingSurface(level, cursor, state)) {
-                net.minecraft.core.BlockPos above = cursor.above();
-                net.minecraft.world.level.block.state.BlockState aboveState = level.getBlockState(above);
-                if (aboveState.getCollisionShape(level, above).isEmpty() && aboveState.getFluidState().isEmpty()) {
-                    return above;
-                }
-            }
-            cursor.move(net.minecraft.core.Direction.DOWN);
+        TerrainColumnCache.Column column = TerrainColumnCache.below(level, start);
+        if (!column.hasGround() || column.hasFluid()) {
+            return null;
         }
-        return null;
-    }
-
-    private boolean isStableBabyLandingSurface(net.minecraft.world.level.BlockGetter level, net.minecraft.core.BlockPos pos,
-                                               net.minecraft.world.level.block.state.BlockState state) {
-        if (state.isAir() || !state.getFluidState().isEmpty()) {
-            return false;
-        }
-        return state.isSolidRender(level, pos) || state.isFaceSturdy(level, pos, net.minecraft.core.Direction.UP);
+        return new net.minecraft.core.BlockPos(start.getX(), column.groundY(), start.getZ());
     }
 
     // ===== ABSTRACT METHODS =====
@@ -1013,4 +965,16 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
      * Override this in subclasses to provide accurate mouth positioning.
      */
     public abstract Vec3 getMouthPosition();
+
+    /**
+     * Copy the mouth position into {@code out}; overridden where it can be read without allocating.
+     *
+     * @return {@code false}, leaving {@code out} untouched, if there is no mouth position
+     */
+    public boolean readMouthPosition(Vector3d out) {
+        Vec3 mouth = getMouthPosition();
+        if (mouth == null) return false;
+        out.set(mouth.x, mouth.y, mouth.z);
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.leon.saintsdragons.server.entity.base;
+
+/**
+ * Growth stage of a dragon, synced to clients so models can pick their geo/animation/texture set.
+ * Uses a byte id so intermediate stages can be added later.
+ */
+public enum DragonGrowthStage {
+    BABY((byte) 0),
+    ADULT((byte) 1);
+
+    private final byte id;
+
+    DragonGrowthStage(byte id) {
+        this.id = id;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    public static DragonGrowthStage fromId(byte id) {
+        for (DragonGrowthStage stage : values()) {
+            if (stage.id == id) {
+                return stage;
+            }
+        }
+        return ADULT;
+    }
+}
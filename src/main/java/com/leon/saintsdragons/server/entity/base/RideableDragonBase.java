@@ -3,6 +3,8 @@ package com.leon.saintsdragons.server.entity.base;
 import com.leon.saintsdragons.server.entity.interfaces.RideableDragon;
 import com.leon.saintsdragons.common.network.DragonRiderAction;
 import com.leon.saintsdragons.common.network.MessageDragonRideInput;
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -28,6 +30,8 @@ public abstract class RideableDragonBase extends DragonEntity implements Rideabl
     private static final EntityDataAccessor<Integer> DATA_MELEE_MODE =
             net.minecraft.network.syncher.SynchedEntityData.defineId(RideableDragonBase.class, net.minecraft.network.syncher.EntityDataSerializers.INT);
 
+    private final RiderInputSnapshot riderInput = new RiderInputSnapshot();
+
     protected RideableDragonBase(EntityType<? extends TamableAnimal> entityType, Level level) {
         super(entityType, level);
     }
@@ -54,10 +58,43 @@ public abstract class RideableDragonBase extends DragonEntity implements Rideabl
     }
 
     public void handleRiderNetworkInput(ServerPlayer player, MessageDragonRideInput msg) {
+        RiderInputSnapshot input = riderInput.update(msg);
         boolean locked = isRiderInputLocked(player);
-        applyRiderVerticalInput(player, msg.goingUp(), msg.goingDown(), locked);
-        applyRiderMovementInput(player, msg.forward(), msg.strafe(), msg.yaw(), locked);
-        handleRiderAction(player, msg.action(), msg.abilityName(), locked);
+        applyRiderVerticalInput(player, input.goingUp(), input.goingDown(), locked);
+        applyRiderMovementInput(player, input.forward(), input.strafe(), input.yaw(), locked);
+
+        if (input.pressed(MessageDragonRideInput.ACCELERATE)) {
+            handleRiderAction(player, DragonRiderAction.ACCELERATE, null, locked);
+        } else if (input.released(MessageDragonRideInput.ACCELERATE)) {
+            handleRiderAction(player, DragonRiderAction.STOP_ACCELERATE, null, locked);
+        }
+        if (input.pressed(MessageDragonRideInput.TAKEOFF)) {
+            handleRiderAction(player, DragonRiderAction.TAKEOFF_REQUEST, null, locked);
+        }
+        if (input.pressed(MessageDragonRideInput.TOGGLE_MELEE)) {
+            handleRiderAction(player, DragonRiderAction.TOGGLE_MELEE, null, locked);
+        }
+        String stopped = abilityName(input.stoppedAbility());
+        if (stopped != null) {
+            handleRiderAction(player, DragonRiderAction.ABILITY_STOP, stopped, locked);
+        }
+        String started = abilityName(input.startedAbility());
+        if (started != null) {
+            handleRiderAction(player, DragonRiderAction.ABILITY_USE, started, locked);
+        }
+    }
+
+    /**
+     * Most recent rider input, including pitch, which the per-action hooks don't carry.
+     */
+    public RiderInputSnapshot getRiderInput() {
+        return riderInput;
+    }
+
+    @Nullable
+    private static String abilityName(int ordinal) {
+        DragonAbilityType<?, ?> type = AbilityRegistry.byOrdinal(ordinal);
+        return type != null ? type.getName() : null;
     }
 
     protected boolean isRiderInputLocked(Player player) {
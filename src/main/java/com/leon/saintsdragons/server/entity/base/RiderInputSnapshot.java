@@ -0,0 +1,98 @@
+package com.leon.saintsdragons.server.entity.base;
+
+import com.leon.saintsdragons.common.network.MessageDragonRideInput;
+
+/**
+ * Last rider input received by a dragon, decoded in place so packet handling allocates nothing.
+ * {@link #update} also works out which held keys went down or up since the previous message.
+ */
+public final class RiderInputSnapshot {
+    private int flags;
+    private int previousFlags;
+    private float forward;
+    private float strafe;
+    private float yaw;
+    private float pitch;
+
+    private int heldAbility = -1;
+    private int startedAbility = -1;
+    private int stoppedAbility = -1;
+
+    RiderInputSnapshot update(MessageDragonRideInput msg) {
+        previousFlags = flags;
+        flags = msg.flags();
+        forward = msg.forwardInput();
+        strafe = msg.strafeInput();
+        yaw = msg.yawDegrees();
+        pitch = msg.pitchDegrees();
+
+        startedAbility = -1;
+        stoppedAbility = -1;
+        if (msg.has(MessageDragonRideInput.ABILITY_PRESS)) {
+            startedAbility = msg.abilityOrdinal();
+        } else if (msg.has(MessageDragonRideInput.ABILITY_HELD)) {
+            if (heldAbility != msg.abilityOrdinal()) {
+                stoppedAbility = heldAbility;
+                startedAbility = msg.abilityOrdinal();
+                heldAbility = startedAbility;
+            }
+        } else if (heldAbility >= 0) {
+            stoppedAbility = heldAbility;
+            heldAbility = -1;
+        }
+        return this;
+    }
+
+    public boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    /**
+     * @return whether a held key went down with this message (or a one-shot key was pressed)
+     */
+    public boolean pressed(int flag) {
+        return (flags & flag) != 0 && ((previousFlags & flag) == 0 || (flag & MessageDragonRideInput.ONE_SHOT_FLAGS) != 0);
+    }
+
+    public boolean released(int flag) {
+        return (flags & flag) == 0 && (previousFlags & flag) != 0;
+    }
+
+    public boolean goingUp() {
+        return has(MessageDragonRideInput.GOING_UP);
+    }
+
+    public boolean goingDown() {
+        return has(MessageDragonRideInput.GOING_DOWN);
+    }
+
+    public float forward() {
+        return forward;
+    }
+
+    public float strafe() {
+        return strafe;
+    }
+
+    public float yaw() {
+        return yaw;
+    }
+
+    public float pitch() {
+        return pitch;
+    }
+
+    /**
+     * @return ordinal of the ability to use for this message, or -1
+     */
+    public int startedAbility() {
+        return startedAbility;
+    }
+
+    /**
+     * @return ordinal of the held ability that was released with this message, or -1
+     */
+    public int stoppedAbility() {
+        return stoppedAbility;
+    }
+}
@@ -0,0 +1,77 @@
+package com.leon.saintsdragons.server.entity.conductivity;
+
+import com.leon.saintsdragons.SaintsDragons;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-level memo of the weather exposure checks used by conductivity, keyed by {@link BlockPos#asLong}.
+ * Rain and sky visibility only change between ticks, so each position is probed at most once per game tick
+ * no matter how many beams, chain hops or bite arcs ask about it.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class ConductivityExposureCache {
+    private static final byte RAINING_AT = 1;
+    private static final byte SEES_SKY = 1 << 1;
+    private static final byte COMPUTED = (byte) (1 << 7);
+
+    private static final Map<LevelAccessor, ConductivityExposureCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Level level;
+    private final Long2ByteOpenHashMap exposure = new Long2ByteOpenHashMap();
+    private long cachedTick = Long.MIN_VALUE;
+
+    private ConductivityExposureCache(Level level) {
+        this.level = level;
+    }
+
+    public static ConductivityExposureCache get(Level level) {
+        return CACHES.computeIfAbsent(level, l -> new ConductivityExposureCache((Level) l));
+    }
+
+    /**
+     * Same as {@link Level#isRainingAt(BlockPos)}, memoized for the current tick.
+     */
+    public boolean isRainingAt(BlockPos pos) {
+        return (lookup(pos) & RAINING_AT) != 0;
+    }
+
+    /**
+     * Same as {@link Level#canSeeSky(BlockPos)}, memoized for the current tick.
+     */
+    public boolean canSeeSky(BlockPos pos) {
+        return (lookup(pos) & SEES_SKY) != 0;
+    }
+
+    private byte lookup(BlockPos pos) {
+        long now = level.getGameTime();
+        if (now != cachedTick) {
+            exposure.clear();
+            cachedTick = now;
+        }
+        long key = pos.asLong();
+        byte bits = exposure.get(key);
+        if (bits == 0) {
+            bits = COMPUTED;
+            // isRainingAt already requires sky access, so only probe it while it is raining at all
+            if (level.isRaining() && level.isRainingAt(pos)) bits |= RAINING_AT;
+            if (level.canSeeSky(pos)) bits |= SEES_SKY;
+            exposure.put(key, bits);
+        }
+        return bits;
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        CACHES.remove(event.getLevel());
+    }
+}
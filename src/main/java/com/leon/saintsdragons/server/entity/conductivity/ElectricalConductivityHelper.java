@@ -20,7 +20,14 @@ public final class ElectricalConductivityHelper {
 
         boolean submerged = entity.isInWaterOrBubble();
         // Rain checks: the vanilla helper does not include thunderstorms when under sky, so ensure we cover both.
-        boolean wet = entity.isInWaterRainOrBubble() || level.isRainingAt(pos) || level.isThundering() && level.canSeeSky(pos);
+        // Entity#isInRain probes the feet and head columns; both go through the shared per-tick exposure memo.
+        boolean wet = submerged;
+        if (!wet && level.isRaining()) {
+            ConductivityExposureCache exposure = ConductivityExposureCache.get(level);
+            wet = exposure.isRainingAt(pos)
+                    || exposure.isRainingAt(BlockPos.containing(entity.getX(), entity.getBoundingBox().maxY, entity.getZ()))
+                    || level.isThundering() && exposure.canSeeSky(pos);
+        }
 
         ElectricalConductivityProfile profile = subject.getConductivityProfile();
 
@@ -0,0 +1,56 @@
+package com.leon.saintsdragons.server.entity.conductivity;
+
+import com.leon.saintsdragons.server.entity.interfaces.ElectricalConductivityCapable;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+
+/**
+ * Per-entity cached {@link ElectricalConductivityState}.
+ * Re-evaluated at most every {@code refreshInterval} ticks, or immediately when the entity enters/leaves water
+ * or the weather turns, so hot paths (beam ticks, chain hops) read a field instead of probing the world.
+ */
+public final class ElectricalConductivityTracker {
+    private final ElectricalConductivityCapable subject;
+    private final int refreshInterval;
+
+    private ElectricalConductivityState state;
+    private long lastRefresh = Long.MIN_VALUE;
+    private boolean lastInWater;
+    private boolean lastRaining;
+    private boolean lastThundering;
+
+    public ElectricalConductivityTracker(ElectricalConductivityCapable subject, int refreshInterval) {
+        this.subject = subject;
+        this.refreshInterval = Math.max(1, refreshInterval);
+    }
+
+    public ElectricalConductivityState get() {
+        LivingEntity entity = subject.asConductiveEntity();
+        Level level = entity.level();
+        long now = level.getGameTime();
+        boolean inWater = entity.isInWaterOrBubble();
+        boolean raining = level.isRaining();
+        boolean thundering = level.isThundering();
+
+        if (state == null
+                || now - lastRefresh >= refreshInterval
+                || now < lastRefresh
+                || inWater != lastInWater
+                || raining != lastRaining
+                || thundering != lastThundering) {
+            state = ElectricalConductivityHelper.evaluate(subject);
+            lastRefresh = now;
+            lastInWater = inWater;
+            lastRaining = raining;
+            lastThundering = thundering;
+        }
+        return state;
+    }
+
+    /**
+     * Force the next {@link #get()} to re-evaluate.
+     */
+    public void invalidate() {
+        state = null;
+    }
+}
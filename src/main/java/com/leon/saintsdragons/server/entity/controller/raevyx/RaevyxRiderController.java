@@ -1,5 +1,7 @@
 package com.leon.saintsdragons.server.entity.controller.raevyx;
 
+import com.leon.saintsdragons.server.entity.dragons.raevyx.ClientLocators;
+import com.leon.saintsdragons.server.entity.dragons.raevyx.LocatorId;
 import com.leon.saintsdragons.server.entity.dragons.raevyx.Raevyx;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
@@ -245,29 +247,29 @@ public record RaevyxRiderController(Raevyx wyvern) {
     public void positionRider(@NotNull Entity passenger, Entity.@NotNull MoveFunction moveFunction) {
         if (!wyvern.hasPassenger(passenger)) return;
 
-        // Get the bone position from the renderer's cache (updated each render frame)
-        Vec3 passengerLoc = wyvern.getClientLocatorPosition("passengerLocator");
+        // Get the bone position from the renderer's cache (updated each render frame); read as primitives,
+        // since this runs for every passenger every frame
+        ClientLocators locators = wyvern.getClientLocators();
 
-        if (passengerLoc != null) {
+        if (locators.has(LocatorId.PASSENGER)) {
             // The cached position is in world-space but may be from the previous frame
             // We need to convert to dragon-local space to handle both movement AND rotation
 
-            // Get dragon's old position and rotation (from when bone was sampled)
-            Vec3 dragonOldPos = new Vec3(wyvern.xo, wyvern.yo, wyvern.zo);
-            float oldYaw = wyvern.yRotO;
-
-            // Calculate offset in world space
-            Vec3 worldOffset = passengerLoc.subtract(dragonOldPos);
+            // Calculate offset in world space from the dragon's old position (from when bone was sampled)
+            double worldX = locators.x(LocatorId.PASSENGER) - wyvern.xo;
+            double worldY = locators.y(LocatorId.PASSENGER) - wyvern.yo;
+            double worldZ = locators.z(LocatorId.PASSENGER) - wyvern.zo;
 
             // Convert world offset to dragon-local space (relative to old rotation)
+            float oldYaw = wyvern.yRotO;
             double oldYawRad = Math.toRadians(-oldYaw); // Negative because Minecraft yaw is inverted
             double cosOld = Math.cos(oldYawRad);
             double sinOld = Math.sin(oldYawRad);
 
             // Rotate world offset back to local space
-            double localX = worldOffset.x * cosOld - worldOffset.z * sinOld;
-            double localY = worldOffset.y;
-            double localZ = worldOffset.x * sinOld + worldOffset.z * cosOld;
+            double localX = worldX * cosOld - worldZ * sinOld;
+            double localY = worldY;
+            double localZ = worldX * sinOld + worldZ * cosOld;
 
             // Now rotate local offset to current rotation
             float currentYaw = wyvern.getYRot();
@@ -279,10 +281,7 @@ public record RaevyxRiderController(Raevyx wyvern) {
             double currentWorldZ = -localX * sinCurrent + localZ * cosCurrent;
 
             // Apply to current dragon position
-            Vec3 dragonCurrentPos = wyvern.position();
-            Vec3 passengerCurrentPos = dragonCurrentPos.add(currentWorldX, localY, currentWorldZ);
-
-            moveFunction.accept(passenger, passengerCurrentPos.x, passengerCurrentPos.y, passengerCurrentPos.z);
+            moveFunction.accept(passenger, wyvern.getX() + currentWorldX, wyvern.getY() + localY, wyvern.getZ() + currentWorldZ);
         } else {
             // Fallback to vanilla positioning if bone position not available yet
             double x = wyvern.getX();
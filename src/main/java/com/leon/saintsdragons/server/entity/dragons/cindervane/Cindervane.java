@@ -4,6 +4,7 @@ import com.leon.saintsdragons.common.registry.ModEntities;
 import com.leon.saintsdragons.common.registry.AbilityRegistry;
 import com.leon.saintsdragons.common.registry.ModSounds;
 import com.leon.saintsdragons.common.registry.cindervane.CindervaneAbilities;
+import com.leon.saintsdragons.common.registry.DragonType;
 import com.leon.saintsdragons.server.ai.goals.cindervane.CindervaneCombatGoal;
 import com.leon.saintsdragons.server.ai.goals.cindervane.CindervaneFlightGoal;
 import com.leon.saintsdragons.server.ai.goals.cindervane.CindervaneFollowOwnerGoal;
@@ -13,6 +14,7 @@ import com.leon.saintsdragons.server.ai.goals.cindervane.CindervaneSleepGoal;
 import com.leon.saintsdragons.server.ai.navigation.DragonFlightMoveHelper;
 import com.leon.saintsdragons.server.ai.navigation.DragonPathNavigateGround;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
+import com.leon.saintsdragons.server.entity.ability.abilities.cindervane.CindervaneFireBodyAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.base.DragonEntity;
 import com.leon.saintsdragons.server.entity.base.RideableDragonBase;
@@ -29,6 +31,8 @@ import com.leon.saintsdragons.server.entity.interfaces.DragonFlightCapable;
 import com.leon.saintsdragons.server.entity.interfaces.SoundHandledDragon;
 import com.leon.saintsdragons.server.entity.interfaces.ShakesScreen;
 import com.leon.saintsdragons.server.entity.interfaces.DragonSleepCapable;
+import com.leon.saintsdragons.common.network.ParticleBurstMessage;
+import com.leon.saintsdragons.server.ai.navigation.TerrainColumnCache;
 import com.leon.saintsdragons.common.network.DragonRiderAction;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.core.Direction;
@@ -628,9 +632,20 @@ public class Cindervane extends RideableDragonBase implements DragonFlightCapabl
         if (level().isClientSide) {
             prevSitProgress = sitProgress;
             sitProgress = this.entityData.get(DATA_SIT_PROGRESS);
+            tickFireAura();
         }
     }
 
+    /**
+     * Fire body visuals are driven by the synced fire state rather than per-tick particle packets.
+     */
+    private void tickFireAura() {
+        if (!isBreathingFire()) {
+            return;
+        }
+        CindervaneFireBodyAbility.spawnAuraParticles(this);
+    }
+
     private void handleAmbientSounds() {
         if (nextAmbientSoundDelay <= 0) {
             resetAmbientSoundTimer();
@@ -931,62 +946,29 @@ public class Cindervane extends RideableDragonBase implements DragonFlightCapabl
         Vec3 pos = position();
         AABB box = getBoundingBox();
 
-        // Check for water below (scan down from dragon position)
-        for (int checkDown = 0; checkDown < WATER_EFFECT_MAX_HEIGHT; checkDown++) {
-            BlockPos checkPos = new BlockPos(
-                (int) Math.floor(pos.x),
-                (int) Math.floor(pos.y) - checkDown,
-                (int) Math.floor(pos.z)
-            );
-
-            BlockState state = level().getBlockState(checkPos);
-
-            // Found water surface?
-            if (!state.getFluidState().isEmpty()) {
-                double waterY = checkPos.getY() + 1.0; // Top of water block
-
-                // === VANILLA-STYLE SPLASH BASED ON BOUNDING BOX SIZE ===
-                // Calculate bounding box dimensions
-                double boxWidth = box.getXsize();   // Width (X axis)
-                double boxLength = box.getZsize();  // Length (Z axis)
-
-                // Calculate particle count based on entity size (vanilla formula)
-                // Bigger bounding box = more particles
-                int particleCount = (int) Math.ceil((boxWidth + boxLength) / 2.0 * WATER_EFFECT_INTENSITY * 8.0);
-                particleCount = Math.min(particleCount, 50); // Cap to prevent lag
-
-                // Spawn particles around the perimeter of the bounding box
-                for (int i = 0; i < particleCount; i++) {
-                    // Random position within bounding box horizontal area
-                    double offsetX = (random.nextDouble() - 0.5) * boxWidth;
-                    double offsetZ = (random.nextDouble() - 0.5) * boxLength;
-
-                    double particleX = pos.x + offsetX;
-                    double particleZ = pos.z + offsetZ;
-
-                    // Spawn splash particles
-                    ((ServerLevel) level()).sendParticles(
-                        ParticleTypes.SPLASH,
-                        particleX, waterY, particleZ,
-                        1,
-                        offsetX * 0.2, 0.1, offsetZ * 0.2,  // Velocity based on offset (spreads outward)
-                        0.1
-                    );
-
-                    // Bubbles (fewer than splashes)
-                    if (random.nextFloat() < 0.3f) {
-                        ((ServerLevel) level()).sendParticles(
-                            ParticleTypes.BUBBLE_POP,
-                            particleX, waterY, particleZ,
-                            1,
-                            0.0, 0.0, 0.0,
-                            0.0
-                        );
-                    }
-                }
+        // Check for water below (shared per-tick column scan from dragon position)
+        int dragonY = (int) Math.floor(pos.y);
+        TerrainColumnCache.Column column = TerrainColumnCache.get(level())
+                .below((int) Math.floor(pos.x), dragonY, (int) Math.floor(pos.z));
 
-                break; // Found water, stop scanning down
-            }
+        // Found water surface within range?
+        if (column.hasFluid() && dragonY - (column.fluidSurfaceY() - 1) < WATER_EFFECT_MAX_HEIGHT) {
+            double waterY = column.fluidSurfaceY(); // Top of water block
+
+            // === VANILLA-STYLE SPLASH BASED ON BOUNDING BOX SIZE ===
+            // Calculate bounding box dimensions
+            double boxWidth = box.getXsize();   // Width (X axis)
+            double boxLength = box.getZsize();  // Length (Z axis)
+
+            // Calculate particle count based on entity size (vanilla formula)
+            // Bigger bounding box = more particles
+            int particleCount = (int) Math.ceil((boxWidth + boxLength) / 2.0 * WATER_EFFECT_INTENSITY * 8.0);
+            particleCount = Math.min(particleCount, 50); // Cap to prevent lag
+
+            // One burst packet; clients scatter the splashes over the bounding box footprint
+            ParticleBurstMessage.sendFrom(this, ParticleBurstMessage.Emitter.WATER_SPLASH,
+                    ParticleBurstMessage.Shape.DISC, new Vec3(pos.x, waterY, pos.z),
+                    (float) (boxWidth * 0.5), 0.0f, (float) (boxLength * 0.5), particleCount);
         }
     }
 
@@ -1669,6 +1651,11 @@ public class Cindervane extends RideableDragonBase implements DragonFlightCapabl
         return true;
     }
 
+    @Override
+    public DragonType getDragonType() {
+        return DragonType.FIRE;
+    }
+
     @Override
     public Vec3 getHeadPosition() {
         return this.getEyePosition();
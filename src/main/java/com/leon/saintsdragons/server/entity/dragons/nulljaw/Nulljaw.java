@@ -21,6 +21,7 @@ import com.leon.saintsdragons.server.entity.handler.DragonSoundHandler;
 import com.leon.saintsdragons.server.entity.interfaces.*;
 import com.leon.saintsdragons.common.network.DragonRiderAction;
 import com.leon.saintsdragons.common.registry.ModSounds;
+import com.leon.saintsdragons.common.registry.DragonType;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.RandomSource;
 import com.leon.saintsdragons.server.entity.controller.nulljaw.NulljawRiderController;
@@ -805,6 +806,11 @@ public class Nulljaw extends RideableDragonBase implements AquaticDragon, Shakes
         }
     }
 
+    @Override
+    public DragonType getDragonType() {
+        return DragonType.PHYSICAL_BRUTE;
+    }
+
     @Override
     public Vec3 getHeadPosition() {
         return this.getEyePosition();
@@ -0,0 +1,65 @@
+package com.leon.saintsdragons.server.entity.dragons.raevyx;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3d;
+import org.joml.Vector4f;
+
+/**
+ * World positions of the Raevyx locators, sampled by the renderer every frame (client side only).
+ * Fixed slots indexed by {@link LocatorId}, three doubles each; neither sampling nor reading allocates.
+ */
+public final class ClientLocators {
+    private final double[] positions = new double[LocatorId.COUNT * 3];
+    private final boolean[] valid = new boolean[LocatorId.COUNT];
+    // Scratch for sample(); render thread only
+    private final Vector4f scratch = new Vector4f();
+
+    /**
+     * Transform a pixel-space offset through a bone's world matrix and store the result in the locator's slot.
+     */
+    public void sample(LocatorId id, Matrix4f boneToWorld, float px, float py, float pz) {
+        // Pixels to model units (blocks)
+        scratch.set(px / 16f, py / 16f, pz / 16f, 1f);
+        boneToWorld.transform(scratch);
+        set(id, scratch.x(), scratch.y(), scratch.z());
+    }
+
+    public void set(LocatorId id, double x, double y, double z) {
+        int base = id.ordinal() * 3;
+        positions[base] = x;
+        positions[base + 1] = y;
+        positions[base + 2] = z;
+        valid[id.ordinal()] = true;
+    }
+
+    /**
+     * @return whether the renderer has sampled this locator yet
+     */
+    public boolean has(LocatorId id) {
+        return id != null && valid[id.ordinal()];
+    }
+
+    public double x(LocatorId id) {
+        return positions[id.ordinal() * 3];
+    }
+
+    public double y(LocatorId id) {
+        return positions[id.ordinal() * 3 + 1];
+    }
+
+    public double z(LocatorId id) {
+        return positions[id.ordinal() * 3 + 2];
+    }
+
+    /**
+     * Copy a sampled position into {@code out}.
+     *
+     * @return {@code false}, leaving {@code out} untouched, if the locator has not been sampled
+     */
+    public boolean read(LocatorId id, Vector3d out) {
+        if (!has(id)) return false;
+        int base = id.ordinal() * 3;
+        out.set(positions[base], positions[base + 1], positions[base + 2]);
+        return true;
+    }
+}
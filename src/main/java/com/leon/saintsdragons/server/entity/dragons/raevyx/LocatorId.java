@@ -0,0 +1,42 @@
+package com.leon.saintsdragons.server.entity.dragons.raevyx;
+
+/**
+ * Fixed locator slots sampled by the Raevyx renderer each frame.
+ * Each slot maps to three doubles in {@link ClientLocators}, so sampling never allocates.
+ */
+public enum LocatorId {
+    LEFT_FEET("leftfeetLocator"),
+    RIGHT_FEET("rightfeetLocator"),
+    MOUTH("mouth_origin"),
+    BODY("bodyLocator"),
+    PASSENGER("passengerLocator");
+
+    public static final int COUNT = values().length;
+
+    private final String locatorName;
+
+    LocatorId(String locatorName) {
+        this.locatorName = locatorName;
+    }
+
+    public String getLocatorName() {
+        return locatorName;
+    }
+
+    /**
+     * Resolve a string locator name (as authored in keyframes / used by shared handlers) to its slot.
+     *
+     * @return the slot, or {@code null} if Raevyx does not sample this locator
+     */
+    public static LocatorId byName(String name) {
+        if (name == null) return null;
+        return switch (name) {
+            case "leftfeetLocator" -> LEFT_FEET;
+            case "rightfeetLocator" -> RIGHT_FEET;
+            case "mouth_origin" -> MOUTH;
+            case "bodyLocator" -> BODY;
+            case "passengerLocator" -> PASSENGER;
+            default -> null;
+        };
+    }
+}
@@ -28,6 +28,7 @@ import static com.leon.saintsdragons.server.entity.dragons.raevyx.handlers.Raevy
 import com.leon.saintsdragons.server.entity.interfaces.ElectricalConductivityCapable;
 import com.leon.saintsdragons.server.entity.conductivity.ElectricalConductivityProfile;
 import com.leon.saintsdragons.server.entity.conductivity.ElectricalConductivityState;
+import com.leon.saintsdragons.server.entity.conductivity.ElectricalConductivityTracker;
 import com.leon.saintsdragons.server.entity.controller.raevyx.RaevyxRiderController;
 import com.leon.saintsdragons.server.entity.handler.DragonSoundHandler;
 import com.leon.saintsdragons.util.DragonMathUtil;
@@ -36,6 +37,11 @@ import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.common.registry.ModEntities;
 import com.leon.saintsdragons.common.registry.ModSounds;
 import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.common.registry.DragonType;
+import com.leon.saintsdragons.common.config.SaintsDragonsConfig;
+import com.leon.saintsdragons.common.network.ParticleBurstMessage;
+import com.leon.saintsdragons.server.ai.DragonSensorScheduler;
+import com.leon.saintsdragons.server.ai.navigation.TerrainColumnCache;
 import com.leon.saintsdragons.common.network.DragonRiderAction;
 import java.util.Map;
 
@@ -63,6 +69,7 @@ import net.minecraft.world.entity.animal.Animal;
 import net.minecraft.world.entity.animal.FlyingAnimal;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.world.item.ItemStack;
@@ -74,7 +81,7 @@ import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.pathfinder.BlockPathTypes;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.AABB;
-import net.minecraft.core.particles.ParticleTypes;
+import org.joml.Vector3d;
 
 
 //GeckoLib
@@ -87,7 +94,6 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nonnull;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 //Just everything
 public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAttackMob,
@@ -208,13 +214,34 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
     public static final float MAX_BEAM_PITCH_DEG = 50.0f;
 
 
-    // Simple per-field caches - more maintainable than generic system
-    private double cachedOwnerDistance = Double.MAX_VALUE;
-    private int ownerDistanceCacheTime = -1;
-    private List<Projectile> cachedNearbyProjectiles = new java.util.concurrent.CopyOnWriteArrayList<>();
-    private int nearbyProjectilesCacheTime = -1;
-    private int projectileCacheIntervalTicks = 3; // dynamic backoff (min 3)
+    // Perception shared by goals, rescanned on staggered periods (see DragonSensorScheduler)
     private int emptyProjectileScans = 0;
+    private final DragonSensorScheduler.Sensor<Double> ownerDistanceSensor = getSensors().register("owner_distance",
+            SaintsDragonsConfig.AI_OWNER_SENSOR_PERIOD::get,
+            () -> {
+                LivingEntity owner = getOwner();
+                return owner != null ? distanceToSqr(owner) : Double.MAX_VALUE;
+            });
+    // Back off by 2 ticks per empty scan (up to 4) while calm
+    private final DragonSensorScheduler.Sensor<List<Projectile>> projectileSensor = getSensors().register("projectiles",
+            () -> SaintsDragonsConfig.AI_PROJECTILE_SENSOR_PERIOD.get() + emptyProjectileScans * 2,
+            this::scanNearbyProjectiles);
+    private final DragonSensorScheduler.Sensor<List<Raevyx>> babySensor = getSensors().register("babies",
+            SaintsDragonsConfig.AI_KIN_SENSOR_PERIOD::get,
+            () -> level().getEntitiesOfClass(Raevyx.class, getBoundingBox().inflate(16.0D),
+                    baby -> baby != null && baby.isBaby() && baby.isAlive()));
+    private final DragonSensorScheduler.Sensor<List<Raevyx>> adultSensor = getSensors().register("adults",
+            SaintsDragonsConfig.AI_KIN_SENSOR_PERIOD::get,
+            () -> level().getEntitiesOfClass(Raevyx.class, getBoundingBox().inflate(12.0D, 6.0D, 12.0D),
+                    adult -> adult != null && !adult.isBaby() && adult.isAlive()));
+    private final DragonSensorScheduler.Sensor<ItemEntity> foodSensor = getSensors().register("food",
+            SaintsDragonsConfig.AI_FOOD_SENSOR_PERIOD::get,
+            () -> nearest(level().getEntitiesOfClass(ItemEntity.class, getBoundingBox().inflate(12.0D),
+                    item -> isFood(item.getItem()))));
+    private final DragonSensorScheduler.Sensor<Player> feederSensor = getSensors().register("feeder",
+            SaintsDragonsConfig.AI_FOOD_SENSOR_PERIOD::get,
+            () -> nearest(level().getEntitiesOfClass(Player.class, getBoundingBox().inflate(10.0D),
+                    player -> player.isAlive() && !player.isSpectator())));
     private double cachedHorizontalSpeed = 0.0;
     private int horizontalSpeedCacheTime = -1;
     private static final double RIDER_GLIDE_ALTITUDE_THRESHOLD = 40.0D;
@@ -399,7 +426,10 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
     private final com.leon.saintsdragons.server.entity.sleep.DragonRestManager restManager;
 
     // ===== CLIENT LOCATOR CACHE (client-side only) =====
-    private final Map<String, Vec3> clientLocatorCache = new ConcurrentHashMap<>();
+    // Written by the renderer every frame; read by rider placement, sounds and the mouth origin
+    private final ClientLocators clientLocators = new ClientLocators();
+    // Client-side tail drag smoothing, kept per entity so dragons rendered in the same frame don't share it
+    private float tailDragVelocity = 0f;
 
     // ===== CUSTOM SITTING SYSTEM =====
     // Completely replace TamableAnimal's broken sitting behavior
@@ -485,15 +515,35 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
         return restManager;
     }
 
-    // Client-only: stash per-frame sampled locator world positions
-    public void setClientLocatorPosition(String name, Vec3 pos) {
-        if (name == null || pos == null) return;
-        this.clientLocatorCache.put(name, pos);
+    // Client-only: per-frame sampled locator world positions
+    public ClientLocators getClientLocators() {
+        return clientLocators;
     }
 
+    /**
+     * Allocates a new {@link Vec3}; per-frame callers read {@link #getClientLocators()} instead.
+     */
+    public Vec3 getClientLocatorPosition(LocatorId id) {
+        if (!clientLocators.has(id)) return null;
+        return new Vec3(clientLocators.x(id), clientLocators.y(id), clientLocators.z(id));
+    }
+
+    @Override
     public Vec3 getClientLocatorPosition(String name) {
-        if (name == null) return null;
-        return this.clientLocatorCache.get(name);
+        return getClientLocatorPosition(LocatorId.byName(name));
+    }
+
+    @Override
+    public boolean readClientLocator(String name, Vector3d out) {
+        return clientLocators.read(LocatorId.byName(name), out);
+    }
+
+    public float getTailDragVelocity() {
+        return tailDragVelocity;
+    }
+
+    public void setTailDragVelocity(float tailDragVelocity) {
+        this.tailDragVelocity = tailDragVelocity;
     }
 
     public boolean isStayOrSitMuted() {
@@ -729,6 +779,11 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
 
     // (External callers should use triggerable action keys on the GeckoLib controller.)
 
+    @Override
+    public DragonType getDragonType() {
+        return DragonType.LIGHTNING;
+    }
+
     @Override
     public Vec3 getHeadPosition() {
         return getEyePosition();
@@ -736,14 +791,18 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
     @Override
     public Vec3 getMouthPosition() {
         // Try to use bone-based mouth position from renderer cache (most accurate!)
-        Vec3 mouthLoc = getClientLocatorPosition("mouth_origin");
-        if (mouthLoc != null) {
-            return mouthLoc;
+        if (clientLocators.has(LocatorId.MOUTH)) {
+            return new Vec3(clientLocators.x(LocatorId.MOUTH), clientLocators.y(LocatorId.MOUTH), clientLocators.z(LocatorId.MOUTH));
         }
         // Fallback to computed position if bone data not available (server-side, etc.)
         return computeHeadMouthOrigin(1.0f);
     }
 
+    @Override
+    public boolean readMouthPosition(Vector3d out) {
+        return clientLocators.read(LocatorId.MOUTH, out) || super.readMouthPosition(out);
+    }
+
     /**
      * Compute a mouth origin in world space from head yaw/pitch and a fixed local offset.
      * FALLBACK ONLY - bone-based positioning is preferred and more accurate!
@@ -1285,62 +1344,29 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
         Vec3 pos = position();
         AABB box = getBoundingBox();
 
-        // Check for water below (scan down from dragon position)
-        for (int checkDown = 0; checkDown < WATER_EFFECT_MAX_HEIGHT; checkDown++) {
-            BlockPos checkPos = new BlockPos(
-                (int) Math.floor(pos.x),
-                (int) Math.floor(pos.y) - checkDown,
-                (int) Math.floor(pos.z)
-            );
-
-            BlockState state = level().getBlockState(checkPos);
-
-            // Found water surface?
-            if (!state.getFluidState().isEmpty()) {
-                double waterY = checkPos.getY() + 1.0; // Top of water block
-
-                // === VANILLA-STYLE SPLASH BASED ON BOUNDING BOX SIZE ===
-                // Calculate bounding box dimensions
-                double boxWidth = box.getXsize();   // Width (X axis)
-                double boxLength = box.getZsize();  // Length (Z axis)
-
-                // Calculate particle count based on entity size (vanilla formula)
-                // Bigger bounding box = more particles
-                int particleCount = (int) Math.ceil((boxWidth + boxLength) / 2.0 * WATER_EFFECT_INTENSITY * 8.0);
-                particleCount = Math.min(particleCount, 50); // Cap to prevent lag
-
-                // Spawn particles around the perimeter of the bounding box
-                for (int i = 0; i < particleCount; i++) {
-                    // Random position within bounding box horizontal area
-                    double offsetX = (random.nextDouble() - 0.5) * boxWidth;
-                    double offsetZ = (random.nextDouble() - 0.5) * boxLength;
-
-                    double particleX = pos.x + offsetX;
-                    double particleZ = pos.z + offsetZ;
-
-                    // Spawn splash particles
-                    ((ServerLevel) level()).sendParticles(
-                        ParticleTypes.SPLASH,
-                        particleX, waterY, particleZ,
-                        1,
-                        offsetX * 0.2, 0.1, offsetZ * 0.2,  // Velocity based on offset (spreads outward)
-                        0.1
-                    );
-
-                    // Bubbles (fewer than splashes)
-                    if (random.nextFloat() < 0.25f) {
-                        ((ServerLevel) level()).sendParticles(
-                            ParticleTypes.BUBBLE_POP,
-                            particleX, waterY, particleZ,
-                            1,
-                            0.0, 0.0, 0.0,
-                            0.0
-                        );
-                    }
-                }
+        // Check for water below (shared per-tick column scan from dragon position)
+        int dragonY = (int) Math.floor(pos.y);
+        TerrainColumnCache.Column column = TerrainColumnCache.get(level())
+                .below((int) Math.floor(pos.x), dragonY, (int) Math.floor(pos.z));
 
-                break; // Found water, stop scanning down
-            }
+        // Found water surface within range?
+        if (column.hasFluid() && dragonY - (column.fluidSurfaceY() - 1) < WATER_EFFECT_MAX_HEIGHT) {
+            double waterY = column.fluidSurfaceY(); // Top of water block
+
+            // === VANILLA-STYLE SPLASH BASED ON BOUNDING BOX SIZE ===
+            // Calculate bounding box dimensions
+            double boxWidth = box.getXsize();   // Width (X axis)
+            double boxLength = box.getZsize();  // Length (Z axis)
+
+            // Calculate particle count based on entity size (vanilla formula)
+            // Bigger bounding box = more particles
+            int particleCount = (int) Math.ceil((boxWidth + boxLength) / 2.0 * WATER_EFFECT_INTENSITY * 8.0);
+            particleCount = Math.min(particleCount, 50); // Cap to prevent lag
+
+            // One burst packet; clients scatter the splashes over the bounding box footprint
+            ParticleBurstMessage.sendFrom(this, ParticleBurstMessage.Emitter.WATER_SPLASH,
+                    ParticleBurstMessage.Shape.DISC, new Vec3(pos.x, waterY, pos.z),
+                    (float) (boxWidth * 0.5), 0.0f, (float) (boxLength * 0.5), particleCount);
         }
     }
 
@@ -1950,28 +1976,20 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
             return Double.POSITIVE_INFINITY;
         }
 
-        // Use MOTION_BLOCKING (includes water surface) to find the actual surface
-        int surfaceY = this.level().getHeight(net.minecraft.world.level.levelgen.Heightmap.Types.MOTION_BLOCKING,
-                pos.getX(), pos.getZ());
+        // Shared per-tick column scan from slightly above the dragon (in case partially submerged)
+        int dragonY = (int) Math.floor(this.getY());
+        TerrainColumnCache.Column column = TerrainColumnCache.get(level()).below(pos.getX(), dragonY + 3, pos.getZ());
+        if (column.hasFluid()) {
+            // Water/lava detected in column - don't trigger landing
+            return Double.POSITIVE_INFINITY;
+        }
 
-        // Use MOTION_BLOCKING_NO_LEAVES to find solid ground below water
+        // Use MOTION_BLOCKING_NO_LEAVES to find solid ground below any canopy the scan stopped on
         int groundY = this.level().getHeight(net.minecraft.world.level.levelgen.Heightmap.Types.MOTION_BLOCKING_NO_LEAVES,
                 pos.getX(), pos.getZ());
-
-        // Scan a column from slightly above dragon down to BELOW the heightmap (heightmap returns +1 above actual blocks)
-        int dragonY = (int) Math.floor(this.getY());
-        int scanTopY = dragonY + 3; // Check a bit above dragon (in case partially submerged)
-        int scanBottomY = Math.min(groundY - 1, dragonY - 15);  // Scan below heightmap to catch water
-
-        // Scan downward from above dragon to ground, checking for water at any height
-        for (int y = scanTopY; y >= scanBottomY; y--) {
-            net.minecraft.core.BlockPos checkPos = new net.minecraft.core.BlockPos(pos.getX(), y, pos.getZ());
-            net.minecraft.world.level.block.state.BlockState checkState = level().getBlockState(checkPos);
-
-            if (!checkState.getFluidState().isEmpty()) {
-                // Water/lava detected in column - don't trigger landing
-                return Double.POSITIVE_INFINITY;
-            }
+        if (!level().getFluidState(pos.atY(groundY - 1)).isEmpty()) {
+            // Water under the leaves (mangroves, flooded forests)
+            return Double.POSITIVE_INFINITY;
         }
 
         return this.getY() - groundY;
@@ -3153,35 +3171,73 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
     }
     // Cache frequently used calculations
     public double getCachedDistanceToOwner() {
-        // Lower cache window for snappier follow responsiveness
-        int currentTick = tickCount;
-        if (currentTick - ownerDistanceCacheTime >= 3) {
-            LivingEntity owner = getOwner();
-            cachedOwnerDistance = owner != null ? distanceToSqr(owner) : Double.MAX_VALUE;
-            ownerDistanceCacheTime = currentTick;
-        }
-        return cachedOwnerDistance;
+        return ownerDistanceSensor.get();
     }
     public List<Projectile> getCachedNearbyProjectiles() {
         // Server-side only; clients don't need this heavy scan
         if (!(this.level() instanceof net.minecraft.server.level.ServerLevel)) {
             return java.util.Collections.emptyList();
         }
-        if (tickCount - nearbyProjectilesCacheTime >= projectileCacheIntervalTicks) {
-            List<Projectile> found = DragonMathUtil.getEntitiesNearby(this, Projectile.class, 30.0);
-            cachedNearbyProjectiles = found;
-            nearbyProjectilesCacheTime = tickCount;
+        return projectileSensor.get();
+    }
+    private List<Projectile> scanNearbyProjectiles() {
+        List<Projectile> found = DragonMathUtil.getEntitiesNearby(this, Projectile.class, 30.0);
+        emptyProjectileScans = found.isEmpty() ? Math.min(emptyProjectileScans + 1, 4) : 0;
+        return found;
+    }
 
-            if (found.isEmpty()) {
-                emptyProjectileScans = Math.min(emptyProjectileScans + 1, 4);
-                // Back off up to ~11 ticks when calm (3,5,7,9,11)
-                projectileCacheIntervalTicks = 3 + (emptyProjectileScans * 2);
-            } else {
-                emptyProjectileScans = 0;
-                projectileCacheIntervalTicks = 3;
+    /**
+     * Living baby Raevyx within 16 blocks, this one included if it is a baby, as of the last kin scan.
+     */
+    public List<Raevyx> getNearbyBabies() {
+        return babySensor.get();
+    }
+
+    /**
+     * Living adult Raevyx within 12 blocks (6 vertically), as of the last kin scan.
+     */
+    public List<Raevyx> getNearbyAdults() {
+        return adultSensor.get();
+    }
+
+    /**
+     * Closest food item on the ground within 12 blocks. Rescans early if the cached item was picked up.
+     */
+    @Nullable
+    public ItemEntity getNearestFoodItem() {
+        ItemEntity item = foodSensor.get();
+        if (item != null && !item.isAlive()) {
+            foodSensor.invalidate();
+            item = foodSensor.get();
+        }
+        return item;
+    }
+
+    /**
+     * Closest player within 10 blocks, taken to be the one feeding this dragon.
+     */
+    @Nullable
+    public Player getNearestFeedingPlayer() {
+        Player player = feederSensor.get();
+        if (player != null && player.isRemoved()) {
+            feederSensor.invalidate();
+            player = feederSensor.get();
+        }
+        return player;
+    }
+
+    @Nullable
+    private <T extends Entity> T nearest(List<T> entities) {
+        T closest = null;
+        double closestDistance = Double.MAX_VALUE;
+        for (T entity : entities) {
+            double distance = distanceToSqr(entity);
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = entity;
             }
         }
-        return cachedNearbyProjectiles;
+        return closest;
     }
     // DYNAMIC EYE HEIGHT SYSTEM
     // Will be calculated dynamically from renderer
@@ -3488,6 +3544,10 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
 
     private static final ElectricalConductivityProfile CONDUCTIVITY_PROFILE =
             new ElectricalConductivityProfile(1.0f, 0.5f, 0.0f, 1.0, 0.3, 0.0);
+    // Conductivity only matters for beam/bite scaling, so re-evaluating twice a second (or on water/weather change) is plenty
+    private static final int CONDUCTIVITY_REFRESH_TICKS = 10;
+    private final ElectricalConductivityTracker conductivityTracker =
+            new ElectricalConductivityTracker(this, CONDUCTIVITY_REFRESH_TICKS);
 
     @Override
     public ElectricalConductivityProfile getConductivityProfile() {
@@ -3496,7 +3556,7 @@ public class Raevyx extends RideableDragonBase implements FlyingAnimal, RangedAt
 
     @Override
     public ElectricalConductivityState getConductivityState() {
-        return ElectricalConductivityCapable.super.getConductivityState();
+        return conductivityTracker.get();
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.leon.saintsdragons.server.entity.dragons.stegonaut;
 
+import com.leon.saintsdragons.server.ai.RaevyxPresenceIndex;
 import com.leon.saintsdragons.server.ai.goals.stegonaut.*;
 import com.leon.saintsdragons.server.entity.ability.abilities.stegonaut.StegonautPassiveBuffAbility;
 import com.leon.saintsdragons.server.entity.base.DragonEntity;
@@ -33,6 +34,7 @@ import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.common.registry.ModEntities;
 import com.leon.saintsdragons.common.registry.ModSounds;
 import com.leon.saintsdragons.common.registry.stegonaut.StegonautAbilities;
+import com.leon.saintsdragons.common.registry.DragonType;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageTypes;
 import net.minecraft.world.InteractionHand;
@@ -206,6 +208,11 @@ public class Stegonaut extends DragonEntity implements DragonSleepCapable, Sound
                stack.is(net.minecraft.world.item.Items.SALMON);
     }
     
+    @Override
+    public DragonType getDragonType() {
+        return DragonType.PHYSICAL_SUPPORT;
+    }
+
     @Override
     public Vec3 getHeadPosition() {
         // Use eye position - more reliable than bone positions
@@ -370,14 +377,10 @@ public class Stegonaut extends DragonEntity implements DragonSleepCapable, Sound
                 // Check if there's still a reason to play dead (wild lightning wyvern nearby)
                 boolean shouldStillPlayDead = false;
                 
-                // Look for nearby lightning dragons
-                var nearbyLightningDragons = this.level().getEntitiesOfClass(
-                    Raevyx.class,
-                    this.getBoundingBox().inflate(8.0), // Same range as play dead detection
-                    dragon -> dragon != null && !dragon.isRemoved() && !dragon.isTame() // Only wild lightning dragons
-                );
-                
-                if (!nearbyLightningDragons.isEmpty()) {
+                // Look for nearby wild lightning dragons
+                if (RaevyxPresenceIndex.get(this.level()).anyInBox(
+                        this.getBoundingBox().inflate(8.0), // Same range as play dead detection
+                        dragon -> !dragon.isTame())) {
                     shouldStillPlayDead = true;
                 }
                 
@@ -1013,10 +1016,10 @@ public class Stegonaut extends DragonEntity implements DragonSleepCapable, Sound
 
     @Nullable
     private Raevyx findLightningThreat() {
-        List<Raevyx> dragons = level().getEntitiesOfClass(
-            Raevyx.class,
+        // Indexed lookup, cheap enough to run every tick while playing dead
+        List<Raevyx> dragons = RaevyxPresenceIndex.get(level()).getInBox(
             this.getBoundingBox().inflate(PLAY_DEAD_DETECTION_RANGE),
-            dragon -> dragon != null && !dragon.isRemoved()
+            dragon -> true
         );
 
         if (dragons.isEmpty()) {
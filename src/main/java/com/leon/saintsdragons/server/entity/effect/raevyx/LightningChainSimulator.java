@@ -0,0 +1,128 @@
+package com.leon.saintsdragons.server.entity.effect.raevyx;
+
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Resolves a whole chain lightning strike in one pass on the server.
+ *
+ * One entity query covers the furthest the chain could reach; hops are then picked greedily, each going to
+ * the nearest unvisited candidate within hop range of the previous target. The result is a polyline that
+ * is sent to clients as a single {@code LightningChainMessage}.
+ */
+public final class LightningChainSimulator {
+    private LightningChainSimulator() {}
+
+    /**
+     * @param targets    chained entities in hop order (the start entity is not included)
+     * @param points     arc polyline: the start entity's center followed by each target's center
+     * @param candidates every entity from the broadphase that passed the base filter, for splash effects
+     */
+    public record Chain(List<LivingEntity> targets, List<Vec3> points, List<LivingEntity> candidates) {
+        public boolean isEmpty() {
+            return targets.isEmpty();
+        }
+    }
+
+    /**
+     * @param start       entity the chain jumps from first
+     * @param hopRadius   max feet-to-feet jump distance, extended by half the target's width
+     * @param maxJumps    max number of targets
+     * @param splashRange extra broadphase margin around the reachable area for callers' splash effects
+     * @param filter      base filter applied during the broadphase (alive, not an ally...)
+     * @param eligible    whether a candidate may be chained to, on top of {@code filter}
+     * @param visible     line of sight test, only evaluated for a candidate about to become the nearest
+     */
+    public static Chain simulate(LivingEntity start, double hopRadius, int maxJumps, double splashRange,
+                                 Predicate<LivingEntity> filter, Predicate<LivingEntity> eligible,
+                                 Predicate<LivingEntity> visible) {
+        double reach = hopRadius * maxJumps + splashRange;
+        AABB broadphase = start.getBoundingBox().inflate(reach);
+        List<LivingEntity> candidates = start.level().getEntitiesOfClass(LivingEntity.class, broadphase,
+                e -> e != start && filter.test(e));
+
+        int count = candidates.size();
+        double[] positions = new double[count * 3];
+        double[] hopRanges = new double[count];
+        boolean[] chainable = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            LivingEntity e = candidates.get(i);
+            positions[i * 3] = e.getX();
+            positions[i * 3 + 1] = e.getY();
+            positions[i * 3 + 2] = e.getZ();
+            hopRanges[i] = hopRadius + e.getBbWidth() / 2.0;
+            chainable[i] = eligible.test(e);
+        }
+
+        int[] order = new int[Math.min(maxJumps, count)];
+        int hops = selectChain(positions, hopRanges, count, start.getX(), start.getY(), start.getZ(), order,
+                i -> chainable[i] && visible.test(candidates.get(i)));
+
+        List<LivingEntity> targets = new ArrayList<>(hops);
+        List<Vec3> points = new ArrayList<>(hops + 1);
+        points.add(center(start));
+        for (int i = 0; i < hops; i++) {
+            LivingEntity target = candidates.get(order[i]);
+            targets.add(target);
+            points.add(center(target));
+        }
+        return new Chain(targets, points, candidates);
+    }
+
+    /**
+     * Greedy nearest-neighbour chain over plain coordinates. Ties go to the lower index, so the same input
+     * always yields the same chain.
+     *
+     * @param positions candidate feet positions as (x, y, z) triples
+     * @param hopRanges max hop distance to reach each candidate
+     * @param count     number of candidates
+     * @param out       receives candidate indices in hop order; its length is the max number of hops
+     * @param accept    lazily checked for a candidate that would become the nearest so far
+     * @return number of hops written to {@code out}
+     */
+    public static int selectChain(double[] positions, double[] hopRanges, int count,
+                                  double startX, double startY, double startZ,
+                                  int[] out, IntPredicate accept) {
+        boolean[] visited = new boolean[count];
+        double cx = startX;
+        double cy = startY;
+        double cz = startZ;
+        int hops = 0;
+        while (hops < out.length) {
+            int best = -1;
+            double bestDistSqr = Double.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                if (visited[i]) continue;
+                double dx = positions[i * 3] - cx;
+                double dy = positions[i * 3 + 1] - cy;
+                double dz = positions[i * 3 + 2] - cz;
+                double distSqr = dx * dx + dy * dy + dz * dz;
+                if (distSqr >= bestDistSqr || distSqr > hopRanges[i] * hopRanges[i]) continue;
+                if (!accept.test(i)) {
+                    // Rejections don't depend on where the chain currently is
+                    visited[i] = true;
+                    continue;
+                }
+                best = i;
+                bestDistSqr = distSqr;
+            }
+            if (best < 0) break;
+            visited[best] = true;
+            out[hops++] = best;
+            cx = positions[best * 3];
+            cy = positions[best * 3 + 1];
+            cz = positions[best * 3 + 2];
+        }
+        return hops;
+    }
+
+    private static Vec3 center(LivingEntity entity) {
+        return entity.position().add(0, entity.getBbHeight() * 0.5, 0);
+    }
+}
@@ -0,0 +1,78 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+
+import java.util.Arrays;
+
+/**
+ * Per-ability cooldowns as absolute game-time expiries, indexed by {@link DragonAbilityType#ordinal()}.
+ * Nothing needs ticking: a cooldown is over once the game time passes its expiry.
+ */
+public final class AbilityCooldowns {
+    private long[] expiry = new long[0];
+
+    public boolean isReady(DragonAbilityType<?, ?> abilityType, long now) {
+        int index = abilityType.ordinal();
+        return index < 0 || index >= expiry.length || expiry[index] <= now;
+    }
+
+    public void set(DragonAbilityType<?, ?> abilityType, int cooldownTicks, long now) {
+        int index = abilityType.ordinal();
+        if (index < 0) {
+            return; // Unregistered type; nothing to key the cooldown by
+        }
+        if (index >= expiry.length) {
+            expiry = Arrays.copyOf(expiry, Math.max(index + 1, AbilityRegistry.size()));
+        }
+        expiry[index] = now + Math.max(0, cooldownTicks);
+    }
+
+    public int remaining(DragonAbilityType<?, ?> abilityType, long now) {
+        int index = abilityType.ordinal();
+        if (index < 0 || index >= expiry.length) {
+            return 0;
+        }
+        return (int) Math.max(0L, Math.min(Integer.MAX_VALUE, expiry[index] - now));
+    }
+
+    public void clear() {
+        Arrays.fill(expiry, 0L);
+    }
+
+    /**
+     * Write the running cooldowns as remaining ticks by ability name, so saves stay valid across registry
+     * order changes. Nothing is written when no cooldown is running.
+     */
+    public void save(CompoundTag tag, String key, long now) {
+        CompoundTag cd = new CompoundTag();
+        for (int i = 0; i < expiry.length; i++) {
+            long remaining = expiry[i] - now;
+            if (remaining <= 0) continue;
+            DragonAbilityType<?, ?> type = AbilityRegistry.byOrdinal(i);
+            String name = type != null ? AbilityRegistry.getName(type) : null;
+            if (name != null && !name.isEmpty()) {
+                cd.putInt(name, (int) Math.min(Integer.MAX_VALUE, remaining));
+            }
+        }
+        if (!cd.isEmpty()) {
+            tag.put(key, cd);
+        }
+    }
+
+    public void load(CompoundTag tag, String key, long now) {
+        clear();
+        if (tag.contains(key, Tag.TAG_COMPOUND)) {
+            CompoundTag cd = tag.getCompound(key);
+            for (String name : cd.getAllKeys()) {
+                var type = AbilityRegistry.get(name);
+                if (type != null) {
+                    int val = Math.max(0, cd.getInt(name));
+                    if (val > 0) set(type, val, now);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.leon.saintsdragons.SaintsDragons;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-wide ally lists, keyed by owner UUID and stored with the overworld's saved data.
+ * Every tamed dragon of an owner reads the same {@link AllyList}, so one change applies to all of them.
+ *
+ * Lists are immutable snapshots swapped atomically per owner: lookups never lock, and concurrent
+ * add/remove calls for the same owner are serialized by {@link ConcurrentHashMap#compute}.
+ */
+public class DragonAllyGraph extends SavedData {
+    private static final String DATA_NAME = SaintsDragons.MOD_ID + "_allies";
+    private static final Interner<String> USERNAMES = Interners.newWeakInterner();
+
+    private static volatile DragonAllyGraph cached;
+
+    private final Map<UUID, AllyList> byOwner = new ConcurrentHashMap<>();
+    private MinecraftServer server;
+
+    public static DragonAllyGraph get(MinecraftServer server) {
+        DragonAllyGraph graph = cached;
+        if (graph == null || graph.server != server) {
+            graph = server.overworld().getDataStorage().computeIfAbsent(DragonAllyGraph::load, DragonAllyGraph::new, DATA_NAME);
+            graph.server = server;
+            cached = graph;
+        }
+        return graph;
+    }
+
+    /**
+     * @return the owner's ally list, or {@link AllyList#EMPTY}
+     */
+    public AllyList get(UUID owner) {
+        if (owner == null) return AllyList.EMPTY;
+        return byOwner.getOrDefault(owner, AllyList.EMPTY);
+    }
+
+    public boolean isAlly(UUID owner, UUID candidate) {
+        return get(owner).contains(candidate);
+    }
+
+    public DragonAllyManager.AllyResult add(UUID owner, UUID ally, String username, int maxAllies) {
+        DragonAllyManager.AllyResult[] result = {DragonAllyManager.AllyResult.SUCCESS};
+        byOwner.compute(owner, (key, list) -> {
+            AllyList current = list != null ? list : AllyList.EMPTY;
+            if (current.contains(ally)) {
+                result[0] = DragonAllyManager.AllyResult.ALREADY_ALLY;
+                return list;
+            }
+            if (current.size() >= maxAllies) {
+                result[0] = DragonAllyManager.AllyResult.ALLY_LIMIT_REACHED;
+                return list;
+            }
+            return current.with(ally, username);
+        });
+        if (result[0] == DragonAllyManager.AllyResult.SUCCESS) {
+            setDirty();
+        }
+        return result[0];
+    }
+
+    /**
+     * @return the removed ally's username, or {@code null} if they were not an ally
+     */
+    public String remove(UUID owner, UUID ally) {
+        String[] removed = {null};
+        byOwner.computeIfPresent(owner, (key, list) -> {
+            int index = list.indexOf(ally);
+            if (index < 0) return list;
+            removed[0] = list.name(index);
+            AllyList next = list.without(index);
+            return next.isEmpty() ? null : next;
+        });
+        if (removed[0] != null) {
+            setDirty();
+        }
+        return removed[0];
+    }
+
+    public void clear(UUID owner) {
+        if (byOwner.remove(owner) != null) {
+            setDirty();
+        }
+    }
+
+    /**
+     * Merge a legacy per-dragon ally list into the owner's shared list, up to {@code maxAllies}.
+     */
+    public void merge(UUID owner, AllyList legacy, int maxAllies) {
+        if (legacy.isEmpty()) return;
+        boolean[] changed = {false};
+        byOwner.compute(owner, (key, list) -> {
+            AllyList merged = list != null ? list : AllyList.EMPTY;
+            for (int i = 0; i < legacy.size() && merged.size() < maxAllies; i++) {
+                if (!merged.contains(legacy.uuid(i))) {
+                    merged = merged.with(legacy.uuid(i), legacy.name(i));
+                    changed[0] = true;
+                }
+            }
+            return merged.isEmpty() ? null : merged;
+        });
+        if (changed[0]) {
+            setDirty();
+        }
+    }
+
+    public static DragonAllyGraph load(CompoundTag tag) {
+        DragonAllyGraph graph = new DragonAllyGraph();
+        ListTag owners = tag.getList("Owners", Tag.TAG_COMPOUND);
+        for (int i = 0; i < owners.size(); i++) {
+            CompoundTag ownerTag = owners.getCompound(i);
+            if (!ownerTag.hasUUID("Owner")) continue;
+            AllyList list = AllyList.read(ownerTag.getList("Allies", Tag.TAG_COMPOUND));
+            if (!list.isEmpty()) {
+                graph.byOwner.put(ownerTag.getUUID("Owner"), list);
+            }
+        }
+        return graph;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag) {
+        ListTag owners = new ListTag();
+        for (Map.Entry<UUID, AllyList> entry : byOwner.entrySet()) {
+            CompoundTag ownerTag = new CompoundTag();
+            ownerTag.putUUID("Owner", entry.getKey());
+            ownerTag.put("Allies", entry.getValue().write());
+            owners.add(ownerTag);
+        }
+        tag.put("Owners", owners);
+        return tag;
+    }
+
+    /**
+     * Immutable ally set: UUIDs sorted for binary search, with interned usernames in a parallel array.
+     */
+    public static final class AllyList {
+        public static final AllyList EMPTY = new AllyList(new UUID[0], new String[0]);
+
+        private final UUID[] uuids;
+        private final String[] names;
+
+        private AllyList(UUID[] uuids, String[] names) {
+            this.uuids = uuids;
+            this.names = names;
+        }
+
+        public int size() {
+            return uuids.length;
+        }
+
+        public boolean isEmpty() {
+            return uuids.length == 0;
+        }
+
+        public boolean contains(UUID uuid) {
+            return uuid != null && Arrays.binarySearch(uuids, uuid) >= 0;
+        }
+
+        public int indexOf(UUID uuid) {
+            return uuid == null ? -1 : Arrays.binarySearch(uuids, uuid);
+        }
+
+        /**
+         * Case-insensitive username lookup.
+         */
+        public int indexOfName(String username) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(username)) return i;
+            }
+            return -1;
+        }
+
+        public UUID uuid(int index) {
+            return uuids[index];
+        }
+
+        public String name(int index) {
+            return names[index];
+        }
+
+        public List<String> names() {
+            return List.of(names);
+        }
+
+        public Set<UUID> uuids() {
+            return new HashSet<>(Arrays.asList(uuids));
+        }
+
+        public AllyList with(UUID uuid, String username) {
+            int index = Arrays.binarySearch(uuids, uuid);
+            if (index >= 0) return this;
+            int insert = -index - 1;
+            UUID[] nextUuids = new UUID[uuids.length + 1];
+            String[] nextNames = new String[names.length + 1];
+            System.arraycopy(uuids, 0, nextUuids, 0, insert);
+            System.arraycopy(names, 0, nextNames, 0, insert);
+            nextUuids[insert] = uuid;
+            nextNames[insert] = USERNAMES.intern(username);
+            System.arraycopy(uuids, insert, nextUuids, insert + 1, uuids.length - insert);
+            System.arraycopy(names, insert, nextNames, insert + 1, names.length - insert);
+            return new AllyList(nextUuids, nextNames);
+        }
+
+        public AllyList without(int index) {
+            if (index < 0 || index >= uuids.length) return this;
+            if (uuids.length == 1) return EMPTY;
+            UUID[] nextUuids = new UUID[uuids.length - 1];
+            String[] nextNames = new String[names.length - 1];
+            System.arraycopy(uuids, 0, nextUuids, 0, index);
+            System.arraycopy(names, 0, nextNames, 0, index);
+            System.arraycopy(uuids, index + 1, nextUuids, index, uuids.length - index - 1);
+            System.arraycopy(names, index + 1, nextNames, index, names.length - index - 1);
+            return new AllyList(nextUuids, nextNames);
+        }
+
+        /**
+         * Read the {@code [{UUID, Username}]} list format used by both the graph and legacy dragon NBT.
+         */
+        public static AllyList read(ListTag allyList) {
+            AllyList list = EMPTY;
+            for (int i = 0; i < allyList.size(); i++) {
+                CompoundTag allyTag = allyList.getCompound(i);
+                if (allyTag.hasUUID("UUID") && allyTag.contains("Username", Tag.TAG_STRING)) {
+                    list = list.with(allyTag.getUUID("UUID"), allyTag.getString("Username"));
+                }
+            }
+            return list;
+        }
+
+        public ListTag write() {
+            ListTag allyList = new ListTag();
+            for (int i = 0; i < uuids.length; i++) {
+                CompoundTag allyTag = new CompoundTag();
+                allyTag.putUUID("UUID", uuids[i]);
+                allyTag.putString("Username", names[i]);
+                allyList.add(allyTag);
+            }
+            return allyList;
+        }
+    }
+}
@@ -2,10 +2,10 @@ package com.leon.saintsdragons.server.entity.handler;
 
 import com.leon.saintsdragons.SaintsDragons;
 import com.leon.saintsdragons.server.entity.base.DragonEntity;
+import com.leon.saintsdragons.util.ModerationFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.MinecraftServer;
@@ -14,34 +14,36 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * Manages ally relationships for dragons.
  * Handles UUID validation, username resolution, and persistence.
- * Thread-safe for server-side operations.
+ *
+ * Tamed dragons on the server share their owner's list in {@link DragonAllyGraph}; untamed dragons
+ * (and client-side copies) keep a local list. Both are immutable snapshots, so reads never lock.
  */
 public class DragonAllyManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(DragonAllyManager.class);
     private final DragonEntity dragon;
     
-    // Map of ally UUIDs to their usernames (for display purposes)
-    private final Map<UUID, String> allies = new ConcurrentHashMap<>();
-    
-    // Cache for username-to-UUID resolution to avoid repeated lookups
-    private final Map<String, UUID> usernameCache = new ConcurrentHashMap<>();
+    // Allies of a dragon without an owner graph entry (untamed or client side)
+    private volatile DragonAllyGraph.AllyList localAllies = DragonAllyGraph.AllyList.EMPTY;
     
     // Maximum number of allies per wyvern
     private static final int MAX_ALLIES = 10;
     
+    private static final Pattern VALID_USERNAME = Pattern.compile("^[a-zA-Z0-9_]+$");
+    
     public DragonAllyManager(DragonEntity dragon) {
         this.dragon = dragon;
     }
     
     /**
-     * Add an ally by username. Validates the username exists and matches UUID.
+     * Check the format and content of a username, without looking the player up.
+     * @return {@link AllyResult#SUCCESS} if the trimmed name can be added
      */
-    public AllyResult addAlly(String username) {
+    public static AllyResult checkUsername(String username) {
         if (username == null || username.trim().isEmpty()) {
             return AllyResult.INVALID_USERNAME;
         }
@@ -54,15 +56,29 @@ public class DragonAllyManager {
         }
         
         // Check for valid Minecraft username characters (alphanumeric and underscore only)
-        if (!username.matches("^[a-zA-Z0-9_]+$")) {
+        if (!VALID_USERNAME.matcher(username).matches()) {
             return AllyResult.INVALID_USERNAME;
         }
         
         // Check for inappropriate content
-        if (containsInappropriateContent(username)) {
+        if (ModerationFilter.DEFAULT.isInappropriateUsername(username)) {
             return AllyResult.INAPPROPRIATE_CONTENT;
         }
         
+        return AllyResult.SUCCESS;
+    }
+    
+    /**
+     * Add an ally by username. Validates the username exists and matches UUID.
+     */
+    public AllyResult addAlly(String username) {
+        AllyResult check = checkUsername(username);
+        if (check != AllyResult.SUCCESS) {
+            return check;
+        }
+        
+        username = username.trim();
+        
         // Easter egg: Check for famous names first
         if (username.equalsIgnoreCase("Notch")) {
             return AllyResult.EASTER_EGG;
@@ -89,15 +105,13 @@ public class DragonAllyManager {
         }
         
         // Check if already an ally
-        if (usernameCache.containsKey(username)) {
-            UUID existingUuid = usernameCache.get(username);
-            if (allies.containsKey(existingUuid)) {
-                return AllyResult.ALREADY_ALLY;
-            }
+        DragonAllyGraph.AllyList current = allies();
+        if (current.indexOfName(username) >= 0) {
+            return AllyResult.ALREADY_ALLY;
         }
         
         // Check ally limit
-        if (allies.size() >= MAX_ALLIES) {
+        if (current.size() >= MAX_ALLIES) {
             return AllyResult.ALLY_LIMIT_REACHED;
         }
         
@@ -113,9 +127,11 @@ public class DragonAllyManager {
             return AllyResult.UUID_MISMATCH;
         }
         
-        // Add to allies
-        allies.put(playerUuid, resolvedUsername);
-        usernameCache.put(resolvedUsername.toLowerCase(), playerUuid);
+        // Add to allies (the graph re-checks duplicates and the limit atomically)
+        AllyResult result = addResolved(playerUuid, resolvedUsername);
+        if (result != AllyResult.SUCCESS) {
+            return result;
+        }
         
         LOGGER.info("Added ally '{}' ({}) to wyvern {}", resolvedUsername, playerUuid, dragon);
         return AllyResult.SUCCESS;
@@ -129,15 +145,18 @@ public class DragonAllyManager {
             return AllyResult.INVALID_USERNAME;
         }
         
-        username = username.trim().toLowerCase();
+        username = username.trim();
         
-        UUID uuid = usernameCache.get(username);
-        if (uuid == null) {
+        DragonAllyGraph.AllyList current = allies();
+        int index = current.indexOfName(username);
+        if (index < 0) {
             return AllyResult.NOT_ALLY;
         }
         
-        allies.remove(uuid);
-        usernameCache.remove(username);
+        UUID uuid = current.uuid(index);
+        if (!removeResolved(uuid)) {
+            return AllyResult.NOT_ALLY;
+        }
         
         LOGGER.info("Removed ally '{}' ({}) from wyvern {}", username, uuid, dragon);
         return AllyResult.SUCCESS;
@@ -147,9 +166,11 @@ public class DragonAllyManager {
      * Remove an ally by UUID
      */
     public boolean removeAlly(UUID uuid) {
-        String username = allies.remove(uuid);
-        if (username != null) {
-            usernameCache.remove(username.toLowerCase());
+        DragonAllyGraph.AllyList current = allies();
+        int index = current.indexOf(uuid);
+        if (index < 0) return false;
+        String username = current.name(index);
+        if (removeResolved(uuid)) {
             LOGGER.info("Removed ally '{}' ({}) from wyvern {}", username, uuid, dragon);
             return true;
         }
@@ -161,35 +182,35 @@ public class DragonAllyManager {
      */
     public boolean isAlly(Player player) {
         if (player == null) return false;
-        return allies.containsKey(player.getUUID());
+        return allies().contains(player.getUUID());
     }
     
     /**
      * Check if a UUID is an ally
      */
     public boolean isAlly(UUID uuid) {
-        return allies.containsKey(uuid);
+        return allies().contains(uuid);
     }
     
     /**
      * Get all ally usernames
      */
     public List<String> getAllyUsernames() {
-        return new ArrayList<>(allies.values());
+        return new ArrayList<>(allies().names());
     }
     
     /**
      * Get all ally UUIDs
      */
     public Set<UUID> getAllyUuids() {
-        return new HashSet<>(allies.keySet());
+        return allies().uuids();
     }
     
     /**
      * Get current ally count
      */
     public int getAllyCount() {
-        return allies.size();
+        return allies().size();
     }
     
     /**
@@ -203,11 +224,58 @@ public class DragonAllyManager {
      * Clear all allies
      */
     public void clearAllies() {
-        allies.clear();
-        usernameCache.clear();
+        DragonAllyGraph graph = graph();
+        if (graph != null) {
+            graph.clear(dragon.getOwnerUUID());
+        } else {
+            localAllies = DragonAllyGraph.AllyList.EMPTY;
+        }
         LOGGER.info("Cleared all allies from wyvern {}", dragon);
     }
     
+    /**
+     * Current ally snapshot: the owner's shared list for tamed server-side dragons, otherwise the local list.
+     */
+    private DragonAllyGraph.AllyList allies() {
+        DragonAllyGraph graph = graph();
+        return graph != null ? graph.get(dragon.getOwnerUUID()) : localAllies;
+    }
+    
+    /**
+     * @return the server ally graph if this dragon has an owner to key it by, otherwise {@code null}
+     */
+    private DragonAllyGraph graph() {
+        if (dragon.getOwnerUUID() == null) return null;
+        MinecraftServer server = dragon.level().getServer();
+        return server != null ? DragonAllyGraph.get(server) : null;
+    }
+    
+    private AllyResult addResolved(UUID uuid, String username) {
+        DragonAllyGraph graph = graph();
+        if (graph != null) {
+            return graph.add(dragon.getOwnerUUID(), uuid, username, MAX_ALLIES);
+        }
+        synchronized (this) {
+            if (localAllies.contains(uuid)) return AllyResult.ALREADY_ALLY;
+            if (localAllies.size() >= MAX_ALLIES) return AllyResult.ALLY_LIMIT_REACHED;
+            localAllies = localAllies.with(uuid, username);
+        }
+        return AllyResult.SUCCESS;
+    }
+    
+    private boolean removeResolved(UUID uuid) {
+        DragonAllyGraph graph = graph();
+        if (graph != null) {
+            return graph.remove(dragon.getOwnerUUID(), uuid) != null;
+        }
+        synchronized (this) {
+            int index = localAllies.indexOf(uuid);
+            if (index < 0) return false;
+            localAllies = localAllies.without(index);
+        }
+        return true;
+    }
+    
     /**
      * Resolve username to UUID using server player list
      */
@@ -258,81 +326,35 @@ public class DragonAllyManager {
     }
     
     /**
-     * Save ally data to NBT
+     * Save ally data to NBT. Owned dragons live in the shared graph, so only local allies are written here.
      */
     public void saveToNBT(CompoundTag tag) {
-        ListTag allyList = new ListTag();
-        for (Map.Entry<UUID, String> entry : allies.entrySet()) {
-            CompoundTag allyTag = new CompoundTag();
-            allyTag.putUUID("UUID", entry.getKey());
-            allyTag.putString("Username", entry.getValue());
-            allyList.add(allyTag);
-        }
-        tag.put("Allies", allyList);
-    }
-    
-    /**
-     * Load ally data from NBT
-     */
-    public void loadFromNBT(CompoundTag tag) {
-        allies.clear();
-        usernameCache.clear();
-        
-        if (tag.contains("Allies", Tag.TAG_LIST)) {
-            ListTag allyList = tag.getList("Allies", Tag.TAG_COMPOUND);
-            for (int i = 0; i < allyList.size(); i++) {
-                CompoundTag allyTag = allyList.getCompound(i);
-                if (allyTag.hasUUID("UUID") && allyTag.contains("Username", Tag.TAG_STRING)) {
-                    UUID uuid = allyTag.getUUID("UUID");
-                    String username = allyTag.getString("Username");
-                    allies.put(uuid, username);
-                    usernameCache.put(username.toLowerCase(), uuid);
-                }
-            }
+        if (graph() != null) return;
+        DragonAllyGraph.AllyList current = localAllies;
+        if (!current.isEmpty()) {
+            tag.put("Allies", current.write());
         }
     }
     
     /**
-     * Check if username contains inappropriate content
-     * Uses pattern matching to catch common profanity and variations
+     * Load ally data from NBT. A legacy per-dragon "Allies" list on an owned dragon is merged into
+     * the owner's shared list once; it is not written back afterwards.
      */
-    private boolean containsInappropriateContent(String username) {
-        String lowerUsername = username.toLowerCase();
-        
-        // Common profanity patterns (using regex to catch variations)
-        String[] inappropriatePatterns = {
-            // Common profanity with character substitutions
-            "f[uv]ck", "sh[i1]t", "b[i1]tch", "d[i1]ck", "p[i1]ss", "c[o0]ck",
-            "a[s$][s$]", "f[a@]g", "n[i1]gg[a@]", "r[e3]t[a@]rd", "wh[o0]r[e3]",
-            // Common variations
-            "f[u]ck", "sh[i]t", "b[i]tch", "d[i]ck", "p[i]ss", "c[o]ck",
-            "a[s]s", "f[a]g", "n[i]gg[a]", "r[e]t[a]rd", "wh[o]r[e]",
-            // Leetspeak variations
-            "f[u]ck", "sh[i]t", "b[i]tch", "d[i]ck", "p[i]ss", "c[o]ck",
-            // Common misspellings
-            "fuk", "shyt", "bich", "dik", "pis", "cok",
-            // Other inappropriate terms
-            "h[e3]ll", "d[a@]mn", "cr[a@]p", "p[o0]rn", "s[e3]x"
-        };
-        
-        for (String pattern : inappropriatePatterns) {
-            if (lowerUsername.matches(".*" + pattern + ".*")) {
-                return true;
+    public void loadFromNBT(CompoundTag tag) {
+        DragonAllyGraph.AllyList legacy = tag.contains("Allies", Tag.TAG_LIST)
+                ? DragonAllyGraph.AllyList.read(tag.getList("Allies", Tag.TAG_COMPOUND))
+                : DragonAllyGraph.AllyList.EMPTY;
+        
+        DragonAllyGraph graph = graph();
+        if (graph != null) {
+            localAllies = DragonAllyGraph.AllyList.EMPTY;
+            if (!legacy.isEmpty()) {
+                graph.merge(dragon.getOwnerUUID(), legacy, MAX_ALLIES);
+                LOGGER.info("Migrated {} allies from wyvern {} to owner {}", legacy.size(), dragon, dragon.getOwnerUUID());
             }
+        } else {
+            localAllies = legacy;
         }
-        
-        // Check for repeated characters (common way to bypass filters)
-        if (lowerUsername.matches(".*(.)\\1{2,}.*")) {
-            return true;
-        }
-        
-        // Check for excessive numbers (another bypass method)
-        long numberCount = lowerUsername.chars().filter(Character::isDigit).count();
-        if (numberCount > username.length() / 2) {
-            return true;
-        }
-        
-        return false;
     }
     
     /**
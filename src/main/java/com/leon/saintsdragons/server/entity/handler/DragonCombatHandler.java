@@ -4,8 +4,9 @@ import com.leon.saintsdragons.server.entity.base.DragonEntity;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+
+import java.util.Arrays;
 
 /**
  * Single responsibility: Track active ability and global cooldowns
@@ -18,39 +19,20 @@ public class DragonCombatHandler {
     private int globalCooldown = 0; // Global cooldown between any abilities
     private boolean processingAbility = false; // Prevent re-entry during ability start
     
-    // Per-ability cooldown tracking
-    private final Map<DragonAbilityType<?, ?>, Integer> abilityCooldowns = new HashMap<>();
-    private final Map<DragonAbilityType<?, ?>, Boolean> overlayAbilityCache = new HashMap<>();
+    private final AbilityCooldowns cooldowns = new AbilityCooldowns();
+    // Reusable instances for pooled ability types, indexed by DragonAbilityType.ordinal()
+    private DragonAbility<?>[] abilityPool = new DragonAbility<?>[0];
 
     // ===== PERSISTENCE =====
     // Persist global + per-ability cooldowns across save/load
     public void saveToNBT(net.minecraft.nbt.CompoundTag tag) {
         tag.putInt("GlobalAbilityCooldown", Math.max(0, globalCooldown));
-        net.minecraft.nbt.CompoundTag cd = new net.minecraft.nbt.CompoundTag();
-        for (Map.Entry<DragonAbilityType<?, ?>, Integer> e : abilityCooldowns.entrySet()) {
-            String name = com.leon.saintsdragons.common.registry.AbilityRegistry.getName(e.getKey());
-            if (name != null && !name.isEmpty()) {
-                cd.putInt(name, Math.max(0, e.getValue()));
-            }
-        }
-        if (!cd.isEmpty()) {
-            tag.put("AbilityCooldowns", cd);
-        }
+        cooldowns.save(tag, "AbilityCooldowns", gameTime());
     }
 
     public void loadFromNBT(net.minecraft.nbt.CompoundTag tag) {
         this.globalCooldown = Math.max(0, tag.getInt("GlobalAbilityCooldown"));
-        this.abilityCooldowns.clear();
-        if (tag.contains("AbilityCooldowns", net.minecraft.nbt.Tag.TAG_COMPOUND)) {
-            net.minecraft.nbt.CompoundTag cd = tag.getCompound("AbilityCooldowns");
-            for (String key : cd.getAllKeys()) {
-                var type = com.leon.saintsdragons.common.registry.AbilityRegistry.get(key);
-                if (type != null) {
-                    int val = Math.max(0, cd.getInt(key));
-                    if (val > 0) this.abilityCooldowns.put(type, val);
-                }
-            }
-        }
+        cooldowns.load(tag, "AbilityCooldowns", gameTime());
     }
 
     public DragonCombatHandler(DragonEntity dragon) {
@@ -116,21 +98,25 @@ public class DragonCombatHandler {
      * Check if a specific ability's cooldown is ready
      */
     public boolean isAbilityCooldownReady(DragonAbilityType<?, ?> abilityType) {
-        return abilityCooldowns.getOrDefault(abilityType, 0) <= 0;
+        return cooldowns.isReady(abilityType, gameTime());
     }
     
     /**
      * Set cooldown for a specific ability type
      */
     public void setAbilityCooldown(DragonAbilityType<?, ?> abilityType, int cooldownTicks) {
-        abilityCooldowns.put(abilityType, cooldownTicks);
+        cooldowns.set(abilityType, cooldownTicks, gameTime());
     }
     
     /**
      * Get remaining cooldown ticks for a specific ability type
      */
     public int getCooldownTicks(DragonAbilityType<?, ?> abilityType) {
-        return abilityCooldowns.getOrDefault(abilityType, 0);
+        return cooldowns.remaining(abilityType, gameTime());
+    }
+
+    private long gameTime() {
+        return dragon.level().getGameTime();
     }
 
     public void tryUseAbility(DragonAbilityType<?, ?> abilityType) {
@@ -148,8 +134,7 @@ public class DragonCombatHandler {
 
         processingAbility = true; // Guard against re-entry
         try {
-            @SuppressWarnings("unchecked")
-            var ability = ((DragonAbilityType<DragonEntity, ?>) abilityType).makeInstance(dragon);
+            DragonAbility<?> ability = acquireAbility(abilityType);
 
             if (!ability.tryAbility()) {
                 return;
@@ -211,16 +196,37 @@ public class DragonCombatHandler {
         
         // Clear all cooldowns
         globalCooldown = 0;
-        abilityCooldowns.clear();
+        cooldowns.clear();
         processingAbility = false;
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
     private boolean isOverlayAbilityType(DragonAbilityType<?, ?> abilityType) {
-        return overlayAbilityCache.computeIfAbsent(abilityType, type -> {
-            DragonAbility ability = ((DragonAbilityType) type).makeInstance(dragon);
-            return ability.isOverlayAbility();
-        });
+        return abilityType.isOverlay();
+    }
+
+    /**
+     * Instance for the next cast: pooled types reuse this dragon's finished instance after {@link DragonAbility#reset()},
+     * everything else gets a fresh one.
+     */
+    @SuppressWarnings("unchecked")
+    private DragonAbility<?> acquireAbility(DragonAbilityType<?, ?> abilityType) {
+        int index = abilityType.ordinal();
+        if (!abilityType.isPooled() || index < 0) {
+            return ((DragonAbilityType<DragonEntity, ?>) abilityType).makeInstance(dragon);
+        }
+        if (index >= abilityPool.length) {
+            abilityPool = Arrays.copyOf(abilityPool, Math.max(index + 1, AbilityRegistry.size()));
+        }
+        DragonAbility<?> pooled = abilityPool[index];
+        if (pooled != null && pooled != activeAbility && pooled != overlayAbility && !pooled.isUsing()) {
+            pooled.reset();
+            return pooled;
+        }
+        DragonAbility<?> fresh = ((DragonAbilityType<DragonEntity, ?>) abilityType).makeInstance(dragon);
+        if (pooled == null) {
+            abilityPool[index] = fresh;
+        }
+        return fresh;
     }
 
     // Removed unused target validation stub
@@ -232,17 +238,7 @@ public class DragonCombatHandler {
         if (globalCooldown > 0) {
             globalCooldown--;
         }
-        
-        // Tick down per-ability cooldowns
-        abilityCooldowns.entrySet().removeIf(entry -> {
-            int newValue = entry.getValue() - 1;
-            if (newValue <= 0) {
-                return true; // Remove from map when cooldown reaches 0
-            } else {
-                entry.setValue(newValue);
-                return false;
-            }
-        });
+        // Per-ability cooldowns are absolute expiries and need no ticking
         
         if (overlayAbility != null) {
             if (overlayAbility.isUsing()) {
@@ -8,6 +8,8 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3d;
+import software.bernie.geckolib.core.keyframe.event.data.SoundKeyframeData;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +32,8 @@ public class DragonSoundHandler {
             "die", 62
     );
     private final Map<String, Integer> vocalCooldowns = new HashMap<>();
+    // Step sounds resolve their locator into this every step; client thread only
+    private final Vector3d locatorScratch = new Vector3d();
     
     public DragonSoundHandler(DragonEntity dragon) {
         this.dragon = dragon;
@@ -46,54 +50,30 @@ public class DragonSoundHandler {
      * Handle keyframe-based sound effects during animations
      * Call this from animation controller sound handlers (legacy support)
      */
-    public void handleAnimationSound(DragonEntity entity, Object keyframeData, software.bernie.geckolib.core.animation.AnimationController<?> controller) {
+    public void handleAnimationSound(DragonEntity entity, SoundKeyframeData keyframeData, software.bernie.geckolib.core.animation.AnimationController<?> controller) {
         if (dragon.isDying()) return;
         // IMPORTANT: GeckoLib fires animation sound events on BOTH client and server!
         // We ONLY want to handle on client side for local playback
         if (!dragon.level().isClientSide) return; // Block server-side completely
         if (keyframeData == null) return;
-        String controllerName = null;
-        try {
-            if (controller != null && controller.getName() != null) {
-                controllerName = controller.getName();
-            }
-        } catch (Throwable ignored) {}
+        String controllerName = controller != null ? controller.getName() : null;
         boolean sittingMuted = dragon.isStayOrSitMuted();
         boolean sleeping = dragon.isSleeping();
         boolean sleepTransitioning = dragon.isSleepTransitioning();
         // Sleep always silences keyframes, sitting is handled per vocal profile opt-ins
         if (sleeping) return;
         if (sleepTransitioning && (!"action".equals(controllerName))) return;
-        String raw;
-        String locator = null;
-        try {
-            // Use reflection to call getSound() method on the keyframe data
-            raw = (String) keyframeData.getClass().getMethod("getSound").invoke(keyframeData);
-            // Try to get locator if available
-            try {
-                locator = (String) keyframeData.getClass().getMethod("getLocator").invoke(keyframeData);
-            } catch (Exception ignored) {
-                // Locator might not be present in all sound keyframes
-            }
-        } catch (Exception e) {
-            return; // If we can't get the sound data, skip
-        }
-        if (raw == null || raw.isEmpty()) return;
-        String sound = raw.toLowerCase(java.util.Locale.ROOT);
 
-        // Auto format: namespace:soundid or namespace:soundid|vol|pitch
-        if (sound.contains(":")) {
-            handleAutoSoundSpec(sound);
+        // Parsed once per keyframe and cached by identity
+        SoundCue cue = SoundCue.of(keyframeData);
+        if (cue == null) return;
+
+        if (cue.spec()) {
+            playSoundCue(cue);
             return;
         }
-        String normalizedForFlap = null;
-        if (sound.contains("flap")) {
-            normalizedForFlap = sound.substring(sound.indexOf("flap"));
-        }
-        String normalizedForStep = null;
-        if (sound.contains("step")) {
-            normalizedForStep = sound.substring(sound.indexOf("step"));
-        }
+        String sound = cue.key();
+        String locator = cue.locator();
         if (profile.handleAnimationSound(this, dragon, sound, locator)) {
             return;
         }
@@ -101,21 +81,16 @@ public class DragonSoundHandler {
             return;
         }
         // Allow flexible keys from animation JSON: flap1, flap_right, raevyx_flap1, step2, raevyx_run_step1, etc.
-        if (normalizedForFlap != null && normalizedForFlap.startsWith("flap")) {
-            handleWingFlapSound(normalizedForFlap);
+        if (cue.flapKey() != null) {
+            handleWingFlapSound(cue.flapKey());
             return;
         }
-        if (normalizedForStep != null && (normalizedForStep.startsWith("step") || normalizedForStep.startsWith("run_step"))) {
+        if (cue.stepKey() != null) {
             // Only handle footsteps from the movement controller (runs walk/run)
-            try {
-                if (controller != null && controller.getName() != null) {
-                    String ctrl = controller.getName();
-                    if (!"movement".equals(ctrl)) return; // ignore non-movement controllers for steps
-                }
-            } catch (Throwable ignored) {}
+            if (controllerName != null && !"movement".equals(controllerName)) return; // ignore non-movement controllers for steps
             // Use locator position if provided by the keyframe
-            String stepLocator = (locator != null && !locator.isEmpty()) ? locator : mapStepKeyToLocator(normalizedForStep);
-            handleStepSound(normalizedForStep, stepLocator);
+            String stepLocator = (locator != null && !locator.isEmpty()) ? locator : mapStepKeyToLocator(cue.stepKey());
+            handleStepSound(cue.stepKey(), stepLocator);
             return;
         }
         switch (sound) {
@@ -290,11 +265,11 @@ public class DragonSoundHandler {
 
         float volume = 0.65f * weight;
         float pitch = (0.9f + dragon.getRandom().nextFloat() * 0.2f) / weight;
-        Vec3 at = resolveLocatorWorldPos(locator);
+        boolean at = resolveLocatorWorldPos(locator, locatorScratch);
 
-        double x = at != null ? at.x : dragon.getX();
-        double y = at != null ? at.y : dragon.getY();
-        double z = at != null ? at.z : dragon.getZ();
+        double x = at ? locatorScratch.x : dragon.getX();
+        double y = at ? locatorScratch.y : dragon.getY();
+        double z = at ? locatorScratch.z : dragon.getZ();
 
         // Let profile handle dragon-specific step sounds
         if (profile.handleStepSound(this, dragon, which, locator, x, y, z, volume, pitch)) {
@@ -307,30 +282,17 @@ public class DragonSoundHandler {
     }
 
     /**
-     * Parses and plays sounds specified as namespace:soundid or namespace:soundid|vol|pitch
+     * Plays sounds specified as namespace:soundid or namespace:soundid|vol|pitch
      * Uses client-side local playback for animation keyframe sounds.
      */
-    private void handleAutoSoundSpec(String spec) {
+    private void playSoundCue(SoundCue cue) {
         if (dragon.isStayOrSitMuted() || dragon.isSleeping()) return;
         if (!dragon.level().isClientSide) return; // Only on client for animation sounds
-        if (spec == null) return;
-        String[] parts = spec.split("\\|");
-        String id = parts[0];
-        float vol = 1.0f;
-        float pitch = 1.0f;
-        try {
-            if (parts.length >= 2) vol = Float.parseFloat(parts[1]);
-            if (parts.length >= 3) pitch = Float.parseFloat(parts[2]);
-        } catch (Exception ignored) {}
-
-        net.minecraft.resources.ResourceLocation rl = net.minecraft.resources.ResourceLocation.tryParse(id);
-        if (rl == null) return;
-        net.minecraft.sounds.SoundEvent evt = net.minecraftforge.registries.ForgeRegistries.SOUND_EVENTS.getValue(rl);
-        if (evt == null) return;
+        if (cue.sound() == null) return;
 
         // Client-side local playback
         dragon.level().playLocalSound(dragon.getX(), dragon.getY(), dragon.getZ(),
-                evt, SoundSource.NEUTRAL, vol, pitch, false);
+                cue.sound(), SoundSource.NEUTRAL, cue.volume(), cue.pitch(), false);
     }
 
     /**
@@ -382,6 +344,23 @@ public class DragonSoundHandler {
         // Sound will play at entity center position instead
         return null;
     }
+
+    /**
+     * Same lookup as {@link #resolveLocatorWorldPos(String)}, copied into {@code out} instead of a new {@link Vec3}.
+     *
+     * @return {@code false}, leaving {@code out} untouched, if the locator is not found
+     */
+    public boolean resolveLocatorWorldPos(String locator, Vector3d out) {
+        if (locator == null || locator.isEmpty()) return false;
+
+        // Special case: mouth position may have dynamic getter
+        if ("mouth_origin".equals(locator) && dragon.readMouthPosition(out)) {
+            return true;
+        }
+
+        // Use renderer-sampled position (calculated from actual animated bone matrices)
+        return dragon.readClientLocator(locator, out);
+    }
     
     /**
      * Takeoff sound with urgency variation
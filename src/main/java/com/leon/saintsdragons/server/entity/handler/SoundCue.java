@@ -0,0 +1,127 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraftforge.registries.ForgeRegistries;
+import software.bernie.geckolib.core.keyframe.event.data.SoundKeyframeData;
+
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Pre-parsed GeckoLib sound keyframe.
+ * Keyframe strings are parsed once per keyframe instance and cached by identity, so the per-frame
+ * dispatch in {@link DragonSoundHandler} does no string work, reflection or registry lookups.
+ *
+ * Two keyframe formats are understood:
+ * <ul>
+ *     <li>{@code namespace:soundid} or {@code namespace:soundid|vol|pitch} - a direct sound spec, resolved to {@link #sound()}</li>
+ *     <li>anything else - a vocal/flap/step key routed through the dragon's sound profile</li>
+ * </ul>
+ *
+ * @param sound    resolved sound for direct specs; {@code null} for vocal keys or unknown sound ids
+ * @param soundId  sound id of a direct spec, {@code null} for vocal keys or ids that don't parse
+ * @param locator  locator name authored on the keyframe, if any
+ * @param volume   volume for direct specs (defaults to 1)
+ * @param pitch    pitch for direct specs (defaults to 1)
+ * @param key      lower-cased keyframe key (the full spec for direct specs)
+ * @param spec     whether this keyframe is a direct {@code namespace:soundid} spec
+ * @param flapKey  key trimmed to start at "flap", or {@code null} if it has none
+ * @param stepKey  key trimmed to start at "step", or {@code null} if it has none
+ */
+public record SoundCue(SoundEvent sound, ResourceLocation soundId, String locator, float volume, float pitch, String key, boolean spec,
+                       String flapKey, String stepKey) {
+
+    /** Keyframe instances belong to baked animations, so this stays small; the cap only guards against resource reloads. */
+    private static final int MAX_CACHED = 4096;
+    private static final Map<Object, SoundCue> CACHE = new IdentityHashMap<>();
+    private static final SoundCue EMPTY = new SoundCue(null, null, null, 1.0f, 1.0f, "", false, null, null);
+    private static final ClassValue<Method> LOCATOR_GETTER = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getLocator");
+            } catch (NoSuchMethodException e) {
+                // Locator is not present in all GeckoLib versions
+                return null;
+            }
+        }
+    };
+
+    /**
+     * @return the cached cue for this keyframe, parsing it on first sight; {@code null} if the keyframe has no sound
+     */
+    public static SoundCue of(SoundKeyframeData keyframeData) {
+        if (keyframeData == null) return null;
+        SoundCue cue;
+        synchronized (CACHE) {
+            cue = CACHE.get(keyframeData);
+        }
+        if (cue == null) {
+            cue = parse(keyframeData.getSound(), readLocator(keyframeData));
+            synchronized (CACHE) {
+                if (CACHE.size() >= MAX_CACHED) {
+                    CACHE.clear();
+                }
+                CACHE.put(keyframeData, cue);
+            }
+        }
+        return cue == EMPTY ? null : cue;
+    }
+
+    /**
+     * Parse a raw keyframe string, resolving direct specs against the sound registry. Does not touch the cache.
+     */
+    public static SoundCue parse(String raw, String locator) {
+        // A lambda, not a method reference, so vocal keys never touch the registry
+        return parse(raw, locator, id -> ForgeRegistries.SOUND_EVENTS.getValue(id));
+    }
+
+    /**
+     * Parse a raw keyframe string, resolving direct specs with {@code sounds}. Does not touch the cache.
+     */
+    public static SoundCue parse(String raw, String locator, Function<ResourceLocation, SoundEvent> sounds) {
+        if (raw == null || raw.isEmpty()) return EMPTY;
+        String key = raw.toLowerCase(Locale.ROOT);
+
+        // Auto format: namespace:soundid or namespace:soundid|vol|pitch
+        if (key.contains(":")) {
+            String[] parts = key.split("\\|");
+            float vol = 1.0f;
+            float pitch = 1.0f;
+            try {
+                if (parts.length >= 2) vol = Float.parseFloat(parts[1]);
+                if (parts.length >= 3) pitch = Float.parseFloat(parts[2]);
+            } catch (Exception ignored) {}
+            ResourceLocation rl = ResourceLocation.tryParse(parts[0]);
+            SoundEvent evt = rl != null ? sounds.apply(rl) : null;
+            return new SoundCue(evt, rl, locator, vol, pitch, key, true, null, null);
+        }
+
+        int flap = key.indexOf("flap");
+        int step = key.indexOf("step");
+        return new SoundCue(null, null, locator, 1.0f, 1.0f, key, false,
+                flap >= 0 ? key.substring(flap) : null,
+                step >= 0 ? key.substring(step) : null);
+    }
+
+    /** Number of keyframes currently cached, sounds or not. */
+    public static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    private static String readLocator(SoundKeyframeData keyframeData) {
+        Method getter = LOCATOR_GETTER.get(keyframeData.getClass());
+        if (getter == null) return null;
+        try {
+            return (String) getter.invoke(keyframeData);
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.leon.saintsdragons.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled profanity filter for player-entered text.
+ *
+ * Blocked terms are authored with single-character classes for leetspeak ({@code sh[i1]t}); every
+ * variant is expanded into one Aho-Corasick automaton at class load, so a check is a single pass over
+ * the text with no allocation. Matching is case-insensitive.
+ */
+public final class ModerationFilter {
+    private static final String[] BLOCKED_TERMS = {
+        // Common profanity with character substitutions
+        "f[uv]ck", "sh[i1]t", "b[i1]tch", "d[i1]ck", "p[i1]ss", "c[o0]ck",
+        "a[s$][s$]", "f[a@]g", "n[i1]gg[a@]", "r[e3]t[a@]rd", "wh[o0]r[e3]",
+        // Common misspellings
+        "fuk", "shyt", "bich", "dik", "pis", "cok",
+        // Other inappropriate terms
+        "h[e3]ll", "d[a@]mn", "cr[a@]p", "p[o0]rn", "s[e3]x"
+    };
+
+    /** Three or more of the same character in a row, a common way to pad past filters. */
+    private static final Pattern REPEATED_CHARACTERS = Pattern.compile("(.)\\1{2,}", Pattern.CASE_INSENSITIVE);
+
+    public static final ModerationFilter DEFAULT = new ModerationFilter(BLOCKED_TERMS);
+
+    private static final int ASCII = 128;
+
+    // Alphabet index per ASCII char (-1 for chars that never occur in a term)
+    private final int[] charIndex = new int[ASCII];
+    private final int alphabetSize;
+    // DFA transitions: state * alphabetSize + charIndex
+    private final int[] transitions;
+    private final boolean[] accepting;
+
+    /**
+     * @param terms blocked terms, lower case, with optional single-character classes like {@code [i1]}
+     */
+    public ModerationFilter(String... terms) {
+        List<String> words = new ArrayList<>();
+        for (String term : terms) {
+            expand(term, 0, new StringBuilder(), words);
+        }
+
+        Arrays.fill(charIndex, -1);
+        int size = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (charIndex[c] < 0) charIndex[c] = size++;
+            }
+        }
+        this.alphabetSize = size;
+
+        // Trie
+        List<int[]> gotos = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        gotos.add(newRow());
+        ends.add(false);
+        for (String word : words) {
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int c = charIndex[word.charAt(i)];
+                if (gotos.get(state)[c] < 0) {
+                    gotos.get(state)[c] = gotos.size();
+                    gotos.add(newRow());
+                    ends.add(false);
+                }
+                state = gotos.get(state)[c];
+            }
+            ends.set(state, true);
+        }
+
+        // Failure links, folded into a complete transition table (breadth first)
+        int states = gotos.size();
+        int[] fail = new int[states];
+        this.transitions = new int[states * alphabetSize];
+        this.accepting = new boolean[states];
+        for (int s = 0; s < states; s++) accepting[s] = ends.get(s);
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < alphabetSize; c++) {
+            int next = gotos.get(0)[c];
+            if (next < 0) {
+                transitions[c] = 0;
+            } else {
+                transitions[c] = next;
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            accepting[state] |= accepting[fail[state]];
+            for (int c = 0; c < alphabetSize; c++) {
+                int next = gotos.get(state)[c];
+                if (next < 0) {
+                    transitions[state * alphabetSize + c] = transitions[fail[state] * alphabetSize + c];
+                } else {
+                    transitions[state * alphabetSize + c] = next;
+                    fail[next] = transitions[fail[state] * alphabetSize + c];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether the text contains any blocked term (case-insensitive)
+     */
+    public boolean containsBlockedTerm(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int index = c < ASCII ? charIndex[c] : -1;
+            state = index < 0 ? 0 : transitions[state * alphabetSize + index];
+            if (accepting[state]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Username check: blocked terms, padding with repeated characters, or mostly digits.
+     */
+    public boolean isInappropriateUsername(String username) {
+        if (containsBlockedTerm(username)) {
+            return true;
+        }
+        if (REPEATED_CHARACTERS.matcher(username).find()) {
+            return true;
+        }
+        int digits = 0;
+        for (int i = 0; i < username.length(); i++) {
+            if (Character.isDigit(username.charAt(i))) digits++;
+        }
+        return digits > username.length() / 2;
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static void expand(String term, int from, StringBuilder prefix, List<String> out) {
+        if (from >= term.length()) {
+            out.add(prefix.toString());
+            return;
+        }
+        char c = term.charAt(from);
+        if (c != '[') {
+            prefix.append(c);
+            expand(term, from + 1, prefix, out);
+            prefix.setLength(prefix.length() - 1);
+            return;
+        }
+        int close = term.indexOf(']', from);
+        for (int i = from + 1; i < close; i++) {
+            prefix.append(term.charAt(i));
+            expand(term, close + 1, prefix, out);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+}
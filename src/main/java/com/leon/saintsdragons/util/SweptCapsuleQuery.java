@@ -0,0 +1,140 @@
+package com.leon.saintsdragons.util;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Spatial query for a capsule swept along a line segment (beams, breath, charges).
+ *
+ * Candidates are gathered with a single lookup over the entity sections that overlap the
+ * segment's bounding hull, then each one is tested with an exact segment-vs-AABB distance.
+ * Hits come back ordered by how far along the segment they were touched.
+ */
+public final class SweptCapsuleQuery {
+
+    private SweptCapsuleQuery() {}
+
+    /**
+     * A single entity touched by the capsule.
+     *
+     * @param entity   the entity that was hit
+     * @param t        normalized position along the segment (0 = start, 1 = end) of the closest approach
+     * @param distance distance along the segment in blocks
+     * @param point    closest point on the segment to the entity's bounding box
+     */
+    public record Hit<T>(T entity, double t, double distance, Vec3 point) {}
+
+    /**
+     * Collect every entity of the given class whose bounding box lies within {@code radius}
+     * of the segment {@code start -> end}, ordered along the segment.
+     */
+    public static <T extends Entity> List<Hit<T>> query(Level level, Class<T> entityClass, Vec3 start, Vec3 end,
+                                                        double radius, Predicate<? super T> filter) {
+        AABB hull = new AABB(start, end).inflate(radius);
+        List<T> candidates = level.getEntitiesOfClass(entityClass, hull, filter);
+        return intersect(candidates, Entity::getBoundingBox, start, end, radius);
+    }
+
+    /**
+     * Narrow phase of {@link #query}: keep the candidates whose box lies within {@code radius} of the
+     * segment, ordered along it. Candidates touched at the same point keep their input order.
+     */
+    public static <T> List<Hit<T>> intersect(List<T> candidates, Function<? super T, AABB> bounds,
+                                             Vec3 start, Vec3 end, double radius) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        double length = end.distanceTo(start);
+        double radiusSqr = radius * radius;
+        double[] closest = new double[2];
+        List<Hit<T>> hits = new ArrayList<>(candidates.size());
+        for (T candidate : candidates) {
+            segmentDistanceSqr(start, end, bounds.apply(candidate), closest);
+            if (closest[0] <= radiusSqr) {
+                double t = closest[1];
+                hits.add(new Hit<>(candidate, t, t * length, start.lerp(end, t)));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::t));
+        return hits;
+    }
+
+    /**
+     * Exact squared distance between a segment and an axis-aligned box.
+     *
+     * The squared distance along the segment is convex and piecewise quadratic, with breakpoints
+     * wherever the segment crosses one of the box's planes. Each piece is minimized analytically.
+     *
+     * @param out receives {@code [distanceSqr, t]} where {@code t} is the segment parameter of the closest point
+     * @return the squared distance
+     */
+    public static double segmentDistanceSqr(Vec3 start, Vec3 end, AABB box, double[] out) {
+        double[] s = {start.x, start.y, start.z};
+        double[] d = {end.x - start.x, end.y - start.y, end.z - start.z};
+        double[] min = {box.minX, box.minY, box.minZ};
+        double[] max = {box.maxX, box.maxY, box.maxZ};
+
+        // Breakpoints: t = 0, t = 1 and every plane crossing in between
+        double[] breaks = new double[8];
+        int count = 0;
+        breaks[count++] = 0.0;
+        breaks[count++] = 1.0;
+        for (int axis = 0; axis < 3; axis++) {
+            if (Math.abs(d[axis]) < 1.0e-12) continue;
+            double tMin = (min[axis] - s[axis]) / d[axis];
+            double tMax = (max[axis] - s[axis]) / d[axis];
+            if (tMin > 0.0 && tMin < 1.0) breaks[count++] = tMin;
+            if (tMax > 0.0 && tMax < 1.0) breaks[count++] = tMax;
+        }
+        Arrays.sort(breaks, 0, count);
+
+        double bestDistSqr = Double.MAX_VALUE;
+        double bestT = 0.0;
+        for (int i = 0; i + 1 < count; i++) {
+            double a = breaks[i];
+            double b = breaks[i + 1];
+            double mid = (a + b) * 0.5;
+
+            // Inside this interval every axis stays on one side of the box, so the distance is
+            // a single quadratic qa*t^2 + qb*t + qc.
+            double qa = 0.0, qb = 0.0, qc = 0.0;
+            for (int axis = 0; axis < 3; axis++) {
+                double p = s[axis] + d[axis] * mid;
+                double bound;
+                if (p < min[axis]) {
+                    bound = min[axis];
+                } else if (p > max[axis]) {
+                    bound = max[axis];
+                } else {
+                    continue;
+                }
+                double offset = s[axis] - bound;
+                qa += d[axis] * d[axis];
+                qb += 2.0 * d[axis] * offset;
+                qc += offset * offset;
+            }
+
+            double t = qa > 1.0e-12 ? Math.max(a, Math.min(b, -qb / (2.0 * qa))) : a;
+            double distSqr = Math.max(0.0, (qa * t + qb) * t + qc);
+            if (distSqr < bestDistSqr) {
+                bestDistSqr = distSqr;
+                bestT = t;
+                if (distSqr == 0.0) break;
+            }
+        }
+
+        out[0] = bestDistSqr;
+        out[1] = bestT;
+        return bestDistSqr;
+    }
+}
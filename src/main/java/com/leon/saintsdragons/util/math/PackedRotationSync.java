@@ -0,0 +1,81 @@
+package com.leon.saintsdragons.util.math;
+
+/**
+ * Packs the three synced rotation deltas (body deviation, pitch deviation, yaw velocity) into one int.
+ *
+ * Layout (low to high bits):
+ * <ul>
+ *     <li>11 bits - body deviation, 1/16 degree steps, degrees in [-64, 64)</li>
+ *     <li>10 bits - pitch deviation, 1/16 degree steps, degrees in [-32, 32)</li>
+ *     <li>11 bits - yaw velocity, 1/2 degree steps, degrees in [-512, 512)</li>
+ * </ul>
+ * Yaw velocity is twice the wrapped body yaw delta, so it can reach +-360 and gets the coarser step.
+ * Values outside a field's range are clamped.
+ */
+public final class PackedRotationSync {
+    public static final float DEVIATION_STEP = 1.0f / 16.0f;
+    public static final float YAW_VELOCITY_STEP = 1.0f / 2.0f;
+
+    private static final int BODY_BITS = 11;
+    private static final int PITCH_BITS = 10;
+    private static final int YAW_BITS = 11;
+
+    private static final int BODY_SHIFT = 0;
+    private static final int PITCH_SHIFT = BODY_BITS;
+    private static final int YAW_SHIFT = BODY_BITS + PITCH_BITS;
+
+    private PackedRotationSync() {}
+
+    public static int pack(float bodyDeviation, float pitchDeviation, float yawVelocity) {
+        return (quantize(bodyDeviation, DEVIATION_STEP, BODY_BITS) << BODY_SHIFT)
+                | (quantize(pitchDeviation, DEVIATION_STEP, PITCH_BITS) << PITCH_SHIFT)
+                | (quantize(yawVelocity, YAW_VELOCITY_STEP, YAW_BITS) << YAW_SHIFT);
+    }
+
+    public static float bodyDeviation(int packed) {
+        return dequantize(packed >>> BODY_SHIFT, DEVIATION_STEP, BODY_BITS);
+    }
+
+    public static float pitchDeviation(int packed) {
+        return dequantize(packed >>> PITCH_SHIFT, DEVIATION_STEP, PITCH_BITS);
+    }
+
+    public static float yawVelocity(int packed) {
+        return dequantize(packed >>> YAW_SHIFT, YAW_VELOCITY_STEP, YAW_BITS);
+    }
+
+    /**
+     * Whether {@code next} differs enough from {@code last} to be worth syncing.
+     * Any field moving by at least {@code deadbandSteps} of its own steps counts, and so does a field settling to exactly zero,
+     * so an idle dragon always comes to rest on the client.
+     */
+    public static boolean exceedsDeadband(int last, int next, int deadbandSteps) {
+        if (last == next) return false;
+        return fieldExceeds(last >>> BODY_SHIFT, next >>> BODY_SHIFT, BODY_BITS, deadbandSteps)
+                || fieldExceeds(last >>> PITCH_SHIFT, next >>> PITCH_SHIFT, PITCH_BITS, deadbandSteps)
+                || fieldExceeds(last >>> YAW_SHIFT, next >>> YAW_SHIFT, YAW_BITS, deadbandSteps);
+    }
+
+    private static boolean fieldExceeds(int last, int next, int bits, int deadbandSteps) {
+        int a = signed(last, bits);
+        int b = signed(next, bits);
+        if (a == b) return false;
+        return b == 0 || Math.abs(b - a) >= deadbandSteps;
+    }
+
+    private static int quantize(float degrees, float step, int bits) {
+        int max = (1 << (bits - 1)) - 1;
+        int q = Math.round(degrees / step);
+        q = Math.max(-max - 1, Math.min(max, q));
+        return q & ((1 << bits) - 1);
+    }
+
+    private static float dequantize(int raw, float step, int bits) {
+        return signed(raw, bits) * step;
+    }
+
+    private static int signed(int raw, int bits) {
+        int shift = 32 - bits;
+        return (raw << shift) >> shift;
+    }
+}
@@ -0,0 +1,147 @@
+package com.leon.saintsdragons.server.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scan timing of {@link DragonSensorScheduler} against a hand-driven clock.
+ */
+class DragonSensorSchedulerTest {
+    private long now;
+
+    @BeforeEach
+    void resetClock() {
+        now = 1000L;
+    }
+
+    @Test
+    void nextScanTickIsTheNextTickAlignedToThePhase() {
+        for (int period = 2; period <= 40; period++) {
+            for (int phase = 0; phase < 3 * period; phase += 7) {
+                for (long tick = -50L; tick < 200L; tick++) {
+                    long next = DragonSensorScheduler.nextScanTick(tick, period, phase);
+                    assertTrue(next > tick && next <= tick + period,
+                            "tick " + tick + ", period " + period + ", phase " + phase + " -> " + next);
+                    assertEquals(0, Math.floorMod(next + phase, period),
+                            "tick " + tick + ", period " + period + ", phase " + phase + " -> " + next);
+                }
+            }
+        }
+    }
+
+    @Test
+    void periodOfOneOrLessScansEveryTick() {
+        assertEquals(11L, DragonSensorScheduler.nextScanTick(10L, 1, 5));
+        assertEquals(11L, DragonSensorScheduler.nextScanTick(10L, 0, 5));
+        assertEquals(11L, DragonSensorScheduler.nextScanTick(10L, -3, 5));
+    }
+
+    @Test
+    void readsBetweenScansShareOneResult() {
+        AtomicInteger scans = new AtomicInteger();
+        DragonSensorScheduler scheduler = new DragonSensorScheduler(() -> now, () -> 3);
+        DragonSensorScheduler.Sensor<Integer> sensor = scheduler.register("test", () -> 10, scans::incrementAndGet);
+
+        int reads = 0;
+        int expectedScans = 0;
+        for (int tick = 0; tick < 100; tick++, now++) {
+            // The first read always scans, then only ticks where (tick + phase) % period == 0 do
+            if (tick == 0 || Math.floorMod(now + 3, 10) == 0) {
+                expectedScans++;
+            }
+            for (int goal = 0; goal < 3; goal++) {
+                assertEquals(expectedScans, sensor.get().intValue());
+                reads++;
+            }
+        }
+        assertEquals(300, reads);
+        assertEquals(expectedScans, scans.get());
+        assertEquals(expectedScans, sensor.scans());
+        assertEquals(11, expectedScans);
+    }
+
+    @Test
+    void nothingIsScannedWhileNoGoalReads() {
+        AtomicInteger scans = new AtomicInteger();
+        DragonSensorScheduler scheduler = new DragonSensorScheduler(() -> now, () -> 0);
+        DragonSensorScheduler.Sensor<Integer> sensor = scheduler.register("test", () -> 5, scans::incrementAndGet);
+
+        now += 500L;
+        assertEquals(0, sensor.scans());
+
+        sensor.get();
+        // A long idle stretch costs one scan on the next read, not one per missed period
+        now += 500L;
+        sensor.get();
+        assertEquals(2, scans.get());
+    }
+
+    @Test
+    void invalidateForcesTheNextReadToScan() {
+        AtomicInteger scans = new AtomicInteger();
+        DragonSensorScheduler scheduler = new DragonSensorScheduler(() -> now, () -> 0);
+        DragonSensorScheduler.Sensor<Integer> first = scheduler.register("first", () -> 100, scans::incrementAndGet);
+        DragonSensorScheduler.Sensor<Integer> second = scheduler.register("second", () -> 100, scans::incrementAndGet);
+
+        first.get();
+        second.get();
+        first.get();
+        assertEquals(2, scans.get());
+
+        scheduler.invalidateAll();
+        first.get();
+        second.get();
+        assertEquals(4, scans.get());
+        assertEquals(2, first.scans());
+    }
+
+    @Test
+    void periodIsReadAgainAfterEveryScan() {
+        int[] period = {10};
+        DragonSensorScheduler scheduler = new DragonSensorScheduler(() -> now, () -> 0);
+        DragonSensorScheduler.Sensor<Long> sensor = scheduler.register("test", () -> period[0], () -> now);
+
+        now = 1000L;
+        sensor.get();
+        period[0] = 4;
+        now = 1009L;
+        assertEquals(1000L, sensor.get().longValue());
+        now = 1010L;
+        assertEquals(1010L, sensor.get().longValue());
+        // The next scan uses the new period
+        now = 1012L;
+        assertEquals(1012L, sensor.get().longValue());
+    }
+
+    @Test
+    void consecutivePhasesSpreadScansOverThePeriod() {
+        int period = 20;
+        int herd = 20;
+        List<DragonSensorScheduler.Sensor<Boolean>> sensors = new ArrayList<>();
+        int[] scansThisTick = {0};
+        for (int id = 0; id < herd; id++) {
+            int phase = 100 + id;
+            DragonSensorScheduler scheduler = new DragonSensorScheduler(() -> now, () -> phase);
+            sensors.add(scheduler.register("kin", () -> period, () -> {
+                scansThisTick[0]++;
+                return Boolean.TRUE;
+            }));
+        }
+
+        for (int tick = 0; tick < 5 * period; tick++, now++) {
+            scansThisTick[0] = 0;
+            for (DragonSensorScheduler.Sensor<Boolean> sensor : sensors) {
+                sensor.get();
+            }
+            // Everyone scans on the first read; afterwards exactly one of the herd scans per tick
+            assertEquals(tick == 0 ? herd : 1, scansThisTick[0], "tick " + tick);
+        }
+    }
+}
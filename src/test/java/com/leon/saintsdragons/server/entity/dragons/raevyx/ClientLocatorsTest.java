@@ -0,0 +1,105 @@
+package com.leon.saintsdragons.server.entity.dragons.raevyx;
+
+import com.sun.management.ThreadMXBean;
+import org.joml.Matrix4f;
+import org.joml.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link ClientLocators} as the Raevyx renderer writes it and the rider, sound and mouth paths read it,
+ * with the bone world matrix stood in by a plain {@link Matrix4f}.
+ */
+class ClientLocatorsTest {
+    private static final double EPSILON = 1.0E-5D;
+    private static final int SAMPLES = 100_000;
+    // Cached, since values() clones its array on every call
+    private static final LocatorId[] IDS = LocatorId.values();
+
+    @Test
+    void sampleScalesPixelsToBlocksAndTransformsThroughTheBone() {
+        ClientLocators locators = new ClientLocators();
+        Matrix4f bone = new Matrix4f().translation(10.0F, 64.0F, -3.0F);
+
+        locators.sample(LocatorId.MOUTH, bone, 16.0F, 8.0F, -32.0F);
+
+        assertTrue(locators.has(LocatorId.MOUTH));
+        assertEquals(11.0D, locators.x(LocatorId.MOUTH), EPSILON);
+        assertEquals(64.5D, locators.y(LocatorId.MOUTH), EPSILON);
+        assertEquals(-5.0D, locators.z(LocatorId.MOUTH), EPSILON);
+    }
+
+    @Test
+    void slotsAreIndependent() {
+        ClientLocators locators = new ClientLocators();
+        locators.set(LocatorId.LEFT_FEET, 1.0D, 2.0D, 3.0D);
+        locators.set(LocatorId.RIGHT_FEET, 4.0D, 5.0D, 6.0D);
+
+        assertEquals(1.0D, locators.x(LocatorId.LEFT_FEET), EPSILON);
+        assertEquals(6.0D, locators.z(LocatorId.RIGHT_FEET), EPSILON);
+        assertFalse(locators.has(LocatorId.PASSENGER));
+        assertFalse(locators.has(null));
+    }
+
+    @Test
+    void readCopiesSampledSlotsAndLeavesOutAloneOtherwise() {
+        ClientLocators locators = new ClientLocators();
+        Vector3d out = new Vector3d(7.0D, 8.0D, 9.0D);
+
+        assertFalse(locators.read(LocatorId.PASSENGER, out));
+        assertFalse(locators.read(null, out));
+        assertEquals(7.0D, out.x, EPSILON);
+
+        locators.set(LocatorId.PASSENGER, -1.0D, 70.0D, 2.5D);
+        assertTrue(locators.read(LocatorId.PASSENGER, out));
+        assertEquals(-1.0D, out.x, EPSILON);
+        assertEquals(70.0D, out.y, EPSILON);
+        assertEquals(2.5D, out.z, EPSILON);
+    }
+
+    /**
+     * The renderer samples every locator every frame and the rider/sound paths read them back;
+     * none of that may allocate.
+     */
+    @Test
+    void samplingAndReadingDoNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "thread allocation accounting unsupported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        ClientLocators locators = new ClientLocators();
+        Matrix4f bone = new Matrix4f().translation(10.0F, 64.0F, -3.0F);
+        Vector3d out = new Vector3d();
+
+        sampleAndRead(locators, bone, out, SAMPLES); // Warm up, so class loading and compilation are not counted
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        double sum = sampleAndRead(locators, bone, out, SAMPLES);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sum != 0.0D);
+        // A few hundred bytes of slack for the measurement itself; one Vec3 per sample would be megabytes
+        assertTrue(allocated < 1024L, allocated + " bytes allocated over " + SAMPLES + " samples");
+    }
+
+    private static double sampleAndRead(ClientLocators locators, Matrix4f bone, Vector3d out, int samples) {
+        double sum = 0.0D;
+        for (int i = 0; i < samples; i++) {
+            float offset = i & 15;
+            for (LocatorId id : IDS) {
+                locators.sample(id, bone, offset, 40.0F, -offset);
+            }
+            sum += locators.x(LocatorId.PASSENGER) + locators.y(LocatorId.PASSENGER) + locators.z(LocatorId.PASSENGER);
+            if (locators.read(LocatorId.MOUTH, out)) {
+                sum += out.y;
+            }
+        }
+        return sum;
+    }
+}
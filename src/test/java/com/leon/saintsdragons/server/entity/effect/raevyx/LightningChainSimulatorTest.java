@@ -0,0 +1,123 @@
+package com.leon.saintsdragons.server.entity.effect.raevyx;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Target selection of {@link LightningChainSimulator#selectChain}, over hand-made layouts on the x axis
+ * unless stated otherwise. The chain starts at the origin.
+ */
+class LightningChainSimulatorTest {
+    private static final double HOP = 7.0D;
+
+    private static double[] positions(double... xs) {
+        double[] positions = new double[xs.length * 3];
+        for (int i = 0; i < xs.length; i++) {
+            positions[i * 3] = xs[i];
+        }
+        return positions;
+    }
+
+    private static double[] ranges(int count, double range) {
+        double[] ranges = new double[count];
+        Arrays.fill(ranges, range);
+        return ranges;
+    }
+
+    private static int[] chain(double[] positions, double[] ranges, int maxJumps) {
+        int count = ranges.length;
+        int[] out = new int[Math.min(maxJumps, count)];
+        int hops = LightningChainSimulator.selectChain(positions, ranges, count, 0, 0, 0, out, i -> true);
+        return Arrays.copyOf(out, hops);
+    }
+
+    @Test
+    void hopsGoToTheNearestUnvisitedCandidate() {
+        double[] positions = positions(9.0D, 3.0D, -2.0D, 14.0D);
+        assertArrayEquals(new int[] {2, 1, 0, 3}, chain(positions, ranges(4, HOP), 5));
+    }
+
+    @Test
+    void maxJumpsCapsTheChain() {
+        double[] positions = positions(1.0D, 2.0D, 3.0D, 4.0D);
+        assertArrayEquals(new int[] {0, 1}, chain(positions, ranges(4, HOP), 2));
+    }
+
+    @Test
+    void tiesGoToTheLowerIndex() {
+        // Both at distance 4 from the origin, then from index 1 the other is 8 away: still in range
+        double[] positions = positions(4.0D, -4.0D);
+        assertArrayEquals(new int[] {0}, chain(positions, ranges(2, HOP), 1));
+        assertArrayEquals(new int[] {0, 1}, chain(positions, ranges(2, 8.0D), 2));
+
+        // Same tie with the indices swapped
+        assertArrayEquals(new int[] {0, 1}, chain(positions(-4.0D, 4.0D), ranges(2, 8.0D), 2));
+
+        // Equidistant in different directions, off the x axis
+        double[] spread = {0.0D, 0.0D, 5.0D, 3.0D, 0.0D, 4.0D, 0.0D, 3.0D, 4.0D};
+        assertArrayEquals(new int[] {0}, chain(spread, ranges(3, HOP), 1));
+    }
+
+    @Test
+    void hopRangeIsMeasuredFromThePreviousTarget() {
+        // 12 is out of reach from the origin but 6 away from the first hop
+        double[] positions = positions(12.0D, 6.0D);
+        assertArrayEquals(new int[] {1, 0}, chain(positions, ranges(2, HOP), 5));
+
+        // A gap wider than the hop range ends the chain even with candidates left
+        assertArrayEquals(new int[] {0}, chain(positions(5.0D, 13.0D), ranges(2, HOP), 5));
+    }
+
+    @Test
+    void hopRangeIsPerCandidate() {
+        // The wider target at 8 is reachable, the narrower one at 7.5 is not
+        double[] positions = positions(7.5D, 8.0D);
+        double[] ranges = {HOP + 0.3D, HOP + 1.5D};
+        assertArrayEquals(new int[] {1, 0}, chain(positions, ranges, 5));
+
+        // Exactly at the range still counts
+        assertArrayEquals(new int[] {0}, chain(positions(HOP), ranges(1, HOP), 5));
+    }
+
+    @Test
+    void rejectedCandidatesAreNeverChained() {
+        double[] positions = positions(1.0D, 2.0D, 3.0D);
+        List<Integer> asked = new ArrayList<>();
+        int[] out = new int[3];
+        int hops = LightningChainSimulator.selectChain(positions, ranges(3, HOP), 3, 0, 0, 0, out, i -> {
+            asked.add(i);
+            return i != 1;
+        });
+        // Index 1 is skipped: the chain jumps from 0 straight to 2
+        assertArrayEquals(new int[] {0, 2}, Arrays.copyOf(out, hops));
+        // A rejection is final, it is not asked again from a later hop
+        assertEquals(List.of(0, 1, 2), asked);
+    }
+
+    @Test
+    void acceptIsOnlyAskedForTheNearestSoFar() {
+        // Index 0 is the nearest when first seen, so index 1 (further) is never asked on the first hop
+        double[] positions = positions(1.0D, 5.0D);
+        List<Integer> asked = new ArrayList<>();
+        int[] out = new int[1];
+        int hops = LightningChainSimulator.selectChain(positions, ranges(2, HOP), 2, 0, 0, 0, out, i -> {
+            asked.add(i);
+            return true;
+        });
+        assertEquals(1, hops);
+        assertEquals(0, out[0]);
+        assertEquals(List.of(0), asked);
+    }
+
+    @Test
+    void noCandidatesInRangeGivesAnEmptyChain() {
+        assertEquals(0, chain(positions(20.0D, -30.0D), ranges(2, HOP), 5).length);
+        assertEquals(0, chain(new double[0], new double[0], 5).length);
+    }
+}
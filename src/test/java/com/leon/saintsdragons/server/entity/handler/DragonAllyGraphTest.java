@@ -0,0 +1,172 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrent mutations of one owner's shared ally list.
+ */
+class DragonAllyGraphTest {
+    private static final int THREADS = 8;
+    private static final int MAX_ALLIES = 10;
+
+    private static UUID ally(int thread, int i) {
+        return new UUID(thread + 1, i + 1);
+    }
+
+    private static void runConcurrently(int threads, ThreadTask task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+
+    @Test
+    void concurrentAddsNeverExceedTheLimit() throws Exception {
+        DragonAllyGraph graph = new DragonAllyGraph();
+        UUID owner = UUID.randomUUID();
+        Set<UUID> accepted = ConcurrentHashMap.newKeySet();
+        AtomicInteger limitReached = new AtomicInteger();
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < 100; i++) {
+                UUID ally = ally(thread, i);
+                switch (graph.add(owner, ally, "player" + thread + "_" + i, MAX_ALLIES)) {
+                    case SUCCESS -> accepted.add(ally);
+                    case ALLY_LIMIT_REACHED -> limitReached.incrementAndGet();
+                    default -> throw new AssertionError("unexpected result for a new ally");
+                }
+            }
+        });
+
+        DragonAllyGraph.AllyList list = graph.get(owner);
+        assertEquals(MAX_ALLIES, list.size());
+        assertEquals(accepted, list.uuids());
+        assertEquals(THREADS * 100 - MAX_ALLIES, limitReached.get());
+    }
+
+    @Test
+    void concurrentAddAndRemoveLoseNoUpdates() throws Exception {
+        DragonAllyGraph graph = new DragonAllyGraph();
+        UUID owner = UUID.randomUUID();
+
+        // Each thread owns its allies: add them all, then remove the odd ones, racing the other threads
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < 200; i++) {
+                assertEquals(DragonAllyManager.AllyResult.SUCCESS,
+                        graph.add(owner, ally(thread, i), "p" + thread + "_" + i, Integer.MAX_VALUE));
+            }
+            for (int i = 1; i < 200; i += 2) {
+                assertEquals("p" + thread + "_" + i, graph.remove(owner, ally(thread, i)));
+            }
+        });
+
+        Set<UUID> expected = new HashSet<>();
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < 200; i += 2) {
+                expected.add(ally(t, i));
+            }
+        }
+        DragonAllyGraph.AllyList list = graph.get(owner);
+        assertEquals(expected, list.uuids());
+        for (int i = 0; i < list.size(); i++) {
+            UUID uuid = list.uuid(i);
+            assertEquals("p" + (uuid.getMostSignificantBits() - 1) + "_" + (uuid.getLeastSignificantBits() - 1), list.name(i));
+        }
+    }
+
+    @Test
+    void sameAllyAddedFromManyThreadsIsAcceptedOnce() throws Exception {
+        DragonAllyGraph graph = new DragonAllyGraph();
+        UUID owner = UUID.randomUUID();
+        UUID ally = UUID.randomUUID();
+        AtomicInteger successes = new AtomicInteger();
+
+        runConcurrently(THREADS, thread -> {
+            if (graph.add(owner, ally, "Steve", MAX_ALLIES) == DragonAllyManager.AllyResult.SUCCESS) {
+                successes.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, successes.get());
+        assertEquals(1, graph.get(owner).size());
+        assertEquals("Steve", graph.remove(owner, ally));
+        assertNull(graph.remove(owner, ally));
+        assertTrue(graph.get(owner).isEmpty());
+    }
+
+    @Test
+    void readersAlwaysSeeAConsistentSnapshot() throws Exception {
+        DragonAllyGraph graph = new DragonAllyGraph();
+        UUID owner = UUID.randomUUID();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger writersLeft = new AtomicInteger(THREADS / 2);
+
+        runConcurrently(THREADS, thread -> {
+            if (thread % 2 == 0) {
+                try {
+                    for (int round = 0; round < 500; round++) {
+                        UUID ally = ally(thread, round % 20);
+                        if (graph.add(owner, ally, "w" + thread, MAX_ALLIES) != DragonAllyManager.AllyResult.SUCCESS) {
+                            graph.remove(owner, ally);
+                        }
+                    }
+                } finally {
+                    if (writersLeft.decrementAndGet() == 0) {
+                        writing.set(false);
+                    }
+                }
+            } else {
+                while (writing.get()) {
+                    DragonAllyGraph.AllyList list = graph.get(owner);
+                    assertTrue(list.size() <= MAX_ALLIES, "snapshot over the limit: " + list.size());
+                    for (int i = 0; i < list.size(); i++) {
+                        UUID uuid = list.uuid(i);
+                        assertTrue(i == 0 || list.uuid(i - 1).compareTo(uuid) < 0, "snapshot not sorted");
+                        assertTrue(list.contains(uuid));
+                        assertEquals("w" + (uuid.getMostSignificantBits() - 1), list.name(i));
+                    }
+                }
+            }
+        });
+
+        assertTrue(graph.get(owner).size() <= MAX_ALLIES);
+    }
+}
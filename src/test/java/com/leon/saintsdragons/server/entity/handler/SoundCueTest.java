@@ -0,0 +1,163 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.sounds.SoundEvent;
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.core.keyframe.event.data.SoundKeyframeData;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Parsing of synthetic sound keyframe strings, against a fixed sound table instead of the registry, and the
+ * keyframe cache behind {@link SoundCue#of}.
+ */
+class SoundCueTest {
+    private static final ResourceLocation ROAR_ID = new ResourceLocation("saintsdragons", "raevyx_roar");
+    private static final SoundEvent ROAR = SoundEvent.createVariableRangeEvent(ROAR_ID);
+    private static final Map<ResourceLocation, SoundEvent> SOUNDS = Map.of(ROAR_ID, ROAR);
+
+    private static SoundCue parse(String raw, String locator) {
+        return SoundCue.parse(raw, locator, SOUNDS::get);
+    }
+
+    @Test
+    void directSpecReadsSoundIdVolumeAndPitch() {
+        SoundCue cue = parse("SaintsDragons:Raevyx_Roar|0.8|1.25", "mouth");
+        assertTrue(cue.spec());
+        assertEquals(ROAR_ID, cue.soundId());
+        assertSame(ROAR, cue.sound());
+        assertEquals("mouth", cue.locator());
+        assertEquals(0.8f, cue.volume());
+        assertEquals(1.25f, cue.pitch());
+        assertEquals("saintsdragons:raevyx_roar|0.8|1.25", cue.key());
+        assertNull(cue.flapKey());
+        assertNull(cue.stepKey());
+    }
+
+    @Test
+    void directSpecWithoutVolumeOrPitchUsesDefaults() {
+        SoundCue bare = parse("saintsdragons:raevyx_roar", null);
+        assertSame(ROAR, bare.sound());
+        assertNull(bare.locator());
+        assertEquals(1.0f, bare.volume());
+        assertEquals(1.0f, bare.pitch());
+
+        SoundCue volumeOnly = parse("saintsdragons:raevyx_roar|0.5", null);
+        assertEquals(0.5f, volumeOnly.volume());
+        assertEquals(1.0f, volumeOnly.pitch());
+    }
+
+    @Test
+    void unknownSoundKeepsTheIdButResolvesToNothing() {
+        SoundCue cue = parse("saintsdragons:not_a_sound|2|0.5", null);
+        assertTrue(cue.spec());
+        assertEquals(new ResourceLocation("saintsdragons", "not_a_sound"), cue.soundId());
+        assertNull(cue.sound());
+        assertEquals(2.0f, cue.volume());
+        assertEquals(0.5f, cue.pitch());
+    }
+
+    @Test
+    void vocalKeysExposeFlapAndStepSubKeys() {
+        SoundCue flap = parse("Wing_Flap_Heavy", "wing_l");
+        assertFalse(flap.spec());
+        assertNull(flap.sound());
+        assertNull(flap.soundId());
+        assertEquals("wing_l", flap.locator());
+        assertEquals("wing_flap_heavy", flap.key());
+        assertEquals("flap_heavy", flap.flapKey());
+        assertNull(flap.stepKey());
+
+        SoundCue step = parse("run_step_left", null);
+        assertEquals("step_left", step.stepKey());
+        assertNull(step.flapKey());
+
+        SoundCue plain = parse("roar", null);
+        assertEquals("roar", plain.key());
+        assertNull(plain.flapKey());
+        assertNull(plain.stepKey());
+        assertEquals(1.0f, plain.volume());
+        assertEquals(1.0f, plain.pitch());
+    }
+
+    @Test
+    void emptyKeyframesParseToDefaults() {
+        for (String raw : new String[] {null, ""}) {
+            SoundCue cue = parse(raw, "mouth");
+            assertNull(cue.sound());
+            assertNull(cue.soundId());
+            assertNull(cue.locator());
+            assertEquals("", cue.key());
+            assertFalse(cue.spec());
+            assertEquals(1.0f, cue.volume());
+            assertEquals(1.0f, cue.pitch());
+        }
+    }
+
+    @Test
+    void malformedKeyframesFallBackWithoutThrowing() {
+        // Unparseable volume: both values keep their defaults
+        SoundCue badVolume = assertDoesNotThrow(() -> parse("saintsdragons:raevyx_roar|loud|1.5", null));
+        assertSame(ROAR, badVolume.sound());
+        assertEquals(1.0f, badVolume.volume());
+        assertEquals(1.0f, badVolume.pitch());
+
+        // Unparseable pitch only
+        SoundCue badPitch = assertDoesNotThrow(() -> parse("saintsdragons:raevyx_roar|0.5|high", null));
+        assertEquals(0.5f, badPitch.volume());
+        assertEquals(1.0f, badPitch.pitch());
+
+        // Invalid resource locations resolve to no sound instead of throwing
+        for (String raw : new String[] {"bad id:roar", "a:b:c", ":", "saintsdragons:", "|0.5|1.0:"}) {
+            SoundCue cue = assertDoesNotThrow(() -> parse(raw, null), raw);
+            assertTrue(cue.spec(), raw);
+            assertNull(cue.sound(), raw);
+        }
+        assertNull(parse("bad id:roar", null).soundId());
+
+        SoundCue separatorsOnly = assertDoesNotThrow(() -> parse("||", null));
+        assertFalse(separatorsOnly.spec());
+        assertNull(separatorsOnly.sound());
+    }
+
+    @Test
+    void ofCachesOneCuePerKeyframe() {
+        SoundKeyframeData roar = new SoundKeyframeData(0.0D, "roar");
+        SoundKeyframeData flap = new SoundKeyframeData(5.0D, "wing_flap");
+        int before = SoundCue.cacheSize();
+
+        SoundCue first = SoundCue.of(roar);
+        assertEquals(before + 1, SoundCue.cacheSize());
+        assertSame(first, SoundCue.of(roar));
+        assertEquals(before + 1, SoundCue.cacheSize());
+
+        SoundCue other = SoundCue.of(flap);
+        assertEquals(before + 2, SoundCue.cacheSize());
+        assertNotSame(first, other);
+        assertNotEquals(first, other);
+        assertEquals("flap", other.flapKey());
+        assertSame(other, SoundCue.of(flap));
+    }
+
+    @Test
+    void ofReturnsNullForSilentKeyframes() {
+        assertNull(SoundCue.of(null));
+
+        SoundKeyframeData silent = new SoundKeyframeData(0.0D, "");
+        int before = SoundCue.cacheSize();
+        assertNull(SoundCue.of(silent));
+        // Silent keyframes are cached too, so they are not parsed again every frame
+        assertEquals(before + 1, SoundCue.cacheSize());
+        assertNull(SoundCue.of(silent));
+        assertEquals(before + 1, SoundCue.cacheSize());
+    }
+}
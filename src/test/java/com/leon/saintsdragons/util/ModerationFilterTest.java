@@ -0,0 +1,109 @@
+package com.leon.saintsdragons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModerationFilterTest {
+    // The pattern list of the old DragonAllyManager.containsInappropriateContent, duplicates included
+    private static final String[] LEGACY_PATTERNS = {
+        "f[uv]ck", "sh[i1]t", "b[i1]tch", "d[i1]ck", "p[i1]ss", "c[o0]ck",
+        "a[s$][s$]", "f[a@]g", "n[i1]gg[a@]", "r[e3]t[a@]rd", "wh[o0]r[e3]",
+        "f[u]ck", "sh[i]t", "b[i]tch", "d[i]ck", "p[i]ss", "c[o]ck",
+        "a[s]s", "f[a]g", "n[i]gg[a]", "r[e]t[a]rd", "wh[o]r[e]",
+        "f[u]ck", "sh[i]t", "b[i]tch", "d[i]ck", "p[i]ss", "c[o]ck",
+        "fuk", "shyt", "bich", "dik", "pis", "cok",
+        "h[e3]ll", "d[a@]mn", "cr[a@]p", "p[o0]rn", "s[e3]x"
+    };
+
+    private static final String USERNAME_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_";
+    // Fragments of blocked terms, so generated names come close to matching far more often than random text
+    private static final String[] FRAGMENTS = {
+        "fuck", "fvck", "fuk", "sh1t", "shyt", "b1tch", "bich", "d1ck", "dik", "p1ss", "pis", "c0ck", "cok",
+        "a$$", "as$", "fag", "f@g", "n1gg@", "nigga", "r3t@rd", "retard", "wh0r3", "whore", "h3ll", "hell",
+        "d@mn", "damn", "cr@p", "crap", "p0rn", "porn", "s3x", "sex",
+        "fu", "uck", "sh", "hit", "bit", "tch", "di", "ick", "ss", "co", "ock", "he", "ll", "da", "mn", "se", "ex",
+        "Shi", "PoR", "DaM", "Xx", "111", "aa", "pp", "_"
+    };
+
+    private static boolean legacyIsInappropriate(String username) {
+        String lowerUsername = username.toLowerCase();
+        for (String pattern : LEGACY_PATTERNS) {
+            if (lowerUsername.matches(".*" + pattern + ".*")) {
+                return true;
+            }
+        }
+        if (lowerUsername.matches(".*(.)\\1{2,}.*")) {
+            return true;
+        }
+        long numberCount = lowerUsername.chars().filter(Character::isDigit).count();
+        return numberCount > username.length() / 2;
+    }
+
+    private static String randomName(Random random) {
+        int length = 3 + random.nextInt(14);
+        StringBuilder name = new StringBuilder(length);
+        while (name.length() < length) {
+            if (random.nextInt(4) == 0) {
+                String fragment = FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+                for (int i = 0; i < fragment.length(); i++) {
+                    char c = fragment.charAt(i);
+                    name.append(random.nextInt(3) == 0 ? Character.toUpperCase(c) : c);
+                }
+            } else {
+                name.append(USERNAME_CHARS.charAt(random.nextInt(USERNAME_CHARS.length())));
+            }
+        }
+        name.setLength(length);
+        return name.toString();
+    }
+
+    @Test
+    void matchesLegacyFilterOnGeneratedNames() {
+        Random random = new Random(9L);
+        int flagged = 0;
+        for (int i = 0; i < 200_000; i++) {
+            String name = randomName(random);
+            boolean expected = legacyIsInappropriate(name);
+            assertEquals(expected, ModerationFilter.DEFAULT.isInappropriateUsername(name), name);
+            if (expected) flagged++;
+        }
+        // Both outcomes well represented
+        assertTrue(flagged > 40_000 && flagged < 160_000, "flagged " + flagged);
+    }
+
+    @Test
+    void catchesLeetspeakAndMixedCase() {
+        ModerationFilter filter = ModerationFilter.DEFAULT;
+        assertTrue(filter.containsBlockedTerm("xXSh1tXx"));
+        assertTrue(filter.containsBlockedTerm("FvCkThis"));
+        assertTrue(filter.containsBlockedTerm("big_a$$"));
+        assertTrue(filter.containsBlockedTerm("N1GG@"));
+        assertTrue(filter.containsBlockedTerm("wh0r3"));
+        // A term starting inside a partial match of another one
+        assertTrue(filter.containsBlockedTerm("fupiss"));
+        assertFalse(filter.containsBlockedTerm("Steve"));
+        assertFalse(filter.containsBlockedTerm("Dragon_Rider"));
+    }
+
+    @Test
+    void usernameRules() {
+        ModerationFilter filter = ModerationFilter.DEFAULT;
+        assertTrue(filter.isInappropriateUsername("aaab"));
+        assertTrue(filter.isInappropriateUsername("ab1234"));
+        assertFalse(filter.isInappropriateUsername("abc12"));
+        assertFalse(filter.isInappropriateUsername("Notch"));
+    }
+
+    @Test
+    void customTermsExpandCharacterClasses() {
+        ModerationFilter filter = new ModerationFilter("dr[a4]g[o0]n");
+        assertTrue(filter.containsBlockedTerm("reddr4g0n"));
+        assertTrue(filter.containsBlockedTerm("DRAGON"));
+        assertFalse(filter.containsBlockedTerm("drag_on"));
+    }
+}
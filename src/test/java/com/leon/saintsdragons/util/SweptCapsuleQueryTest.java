@@ -0,0 +1,168 @@
+package com.leon.saintsdragons.util;
+
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the swept capsule against the stepped sampling the beam used before: one box of half size
+ * {@code radius} every block along the segment, entities collected in the order they are first touched.
+ */
+class SweptCapsuleQueryTest {
+    private static final double RADIUS = 1.2D;
+    private static final double STEP = 1.0D;
+
+    private record Target(String name, AABB box) {}
+
+    /**
+     * The stepped loop from the old RaevyxBeamAbility.damageAlongBeam, over a fixed candidate list.
+     */
+    private static List<String> steppedHits(List<Target> candidates, Vec3 start, Vec3 end) {
+        Vec3 dir = end.subtract(start).normalize();
+        double len = end.distanceTo(start);
+        Set<String> hit = new LinkedHashSet<>();
+        for (double d = 0; d <= len; d += STEP) {
+            Vec3 p = start.add(dir.scale(d));
+            AABB aabb = new AABB(p, p).inflate(RADIUS);
+            for (Target target : candidates) {
+                if (target.box().intersects(aabb)) {
+                    hit.add(target.name());
+                }
+            }
+        }
+        return new ArrayList<>(hit);
+    }
+
+    private static List<String> capsuleHits(List<Target> candidates, Vec3 start, Vec3 end) {
+        List<String> names = new ArrayList<>();
+        for (SweptCapsuleQuery.Hit<Target> hit : SweptCapsuleQuery.intersect(candidates, Target::box, start, end, RADIUS)) {
+            names.add(hit.entity().name());
+        }
+        return names;
+    }
+
+    private static AABB boxAround(Vec3 center, double width, double height) {
+        return new AABB(center.x - width / 2, center.y - height / 2, center.z - width / 2,
+                center.x + width / 2, center.y + height / 2, center.z + width / 2);
+    }
+
+    @Test
+    void matchesSteppedLoopOnRandomLayouts() {
+        Random random = new Random(0x5EEDL);
+        for (int layout = 0; layout < 2000; layout++) {
+            Vec3 start = new Vec3(random.nextDouble() * 64 - 32, 64 + random.nextDouble() * 16, random.nextDouble() * 64 - 32);
+            Vec3 dir = new Vec3(random.nextGaussian(), random.nextGaussian() * 0.5, random.nextGaussian()).normalize();
+            double len = 12 + random.nextDouble() * 28;
+            Vec3 end = start.add(dir.scale(len));
+
+            // Two unit vectors perpendicular to the beam
+            Vec3 helper = Math.abs(dir.y) < 0.9 ? new Vec3(0, 1, 0) : new Vec3(1, 0, 0);
+            Vec3 u = dir.cross(helper).normalize();
+            Vec3 v = dir.cross(u);
+
+            // Targets clearly inside (centre within R/2 of the line) or clearly outside (box further than
+            // R*sqrt(3) + one step), spaced 4 blocks apart along the beam. Boxes in between are covered by
+            // cubeCornersOnlyHitBySteppedLoop.
+            List<Target> candidates = new ArrayList<>();
+            List<String> expected = new ArrayList<>();
+            int index = 0;
+            for (double s = 1 + random.nextDouble(); s <= len - 1; s += 4) {
+                boolean inside = random.nextBoolean();
+                double offset = inside ? random.nextDouble() * 0.5 : 4.5 + random.nextDouble() * 3.5;
+                double angle = random.nextDouble() * Math.PI * 2;
+                Vec3 center = start.add(dir.scale(s))
+                        .add(u.scale(Math.cos(angle) * offset))
+                        .add(v.scale(Math.sin(angle) * offset));
+                boolean small = random.nextBoolean();
+                String name = "e" + index++;
+                candidates.add(new Target(name, boxAround(center, small ? 0.6 : 1.0, small ? 1.8 : 1.0)));
+                if (inside) {
+                    expected.add(name);
+                }
+            }
+            // Broad phase order is arbitrary, the result must not depend on it
+            Collections.shuffle(candidates, random);
+
+            List<String> stepped = steppedHits(candidates, start, end);
+            assertIterableEquals(expected, stepped, "stepped loop, layout " + layout);
+            assertIterableEquals(stepped, capsuleHits(candidates, start, end), "capsule, layout " + layout);
+        }
+    }
+
+    @Test
+    void cubeCornersOnlyHitBySteppedLoop() {
+        // Diagonally off the beam: within RADIUS on each axis but sqrt(2) away, so only the cube reaches it
+        Vec3 start = new Vec3(0, 0, 0);
+        Vec3 end = new Vec3(10, 0, 0);
+        List<Target> candidates = List.of(new Target("corner", new AABB(5, 1.0, 1.0, 6, 2, 2)));
+
+        assertEquals(List.of("corner"), steppedHits(candidates, start, end));
+        assertEquals(List.of(), capsuleHits(candidates, start, end));
+    }
+
+    @Test
+    void hitsAreOrderedAlongTheSegment() {
+        Vec3 start = new Vec3(0, 0, 0);
+        Vec3 end = new Vec3(20, 0, 0);
+        List<Target> candidates = List.of(
+                new Target("far", boxAround(new Vec3(15, 0, 0), 1, 1)),
+                new Target("near", boxAround(new Vec3(5, 0.5, 0), 1, 1)),
+                new Target("wide", new AABB(2, -3, -3, 12, 3, 3)));
+
+        List<SweptCapsuleQuery.Hit<Target>> hits = SweptCapsuleQuery.intersect(candidates, Target::box, start, end, RADIUS);
+        assertEquals(List.of("wide", "near", "far"), hits.stream().map(h -> h.entity().name()).toList());
+        // Boxes the segment passes through report the point where it enters them
+        assertEquals(2.0, hits.get(0).distance(), 1.0e-9);
+        assertEquals(4.5, hits.get(1).distance(), 1.0e-9);
+        assertEquals(14.5, hits.get(2).distance(), 1.0e-9);
+    }
+
+    @Test
+    void tiesKeepCandidateOrder() {
+        Vec3 start = new Vec3(0, 0, 0);
+        Vec3 end = new Vec3(10, 0, 0);
+        AABB box = boxAround(new Vec3(4, 0, 0), 1, 1);
+        List<Target> candidates = List.of(new Target("b", box), new Target("a", box), new Target("c", box));
+
+        assertEquals(List.of("b", "a", "c"), capsuleHits(candidates, start, end));
+    }
+
+    @Test
+    void segmentDistanceMatchesDenseSampling() {
+        Random random = new Random(42L);
+        double[] out = new double[2];
+        for (int i = 0; i < 500; i++) {
+            Vec3 start = new Vec3(random.nextGaussian() * 5, random.nextGaussian() * 5, random.nextGaussian() * 5);
+            Vec3 end = new Vec3(random.nextGaussian() * 5, random.nextGaussian() * 5, random.nextGaussian() * 5);
+            AABB box = boxAround(new Vec3(random.nextGaussian() * 3, random.nextGaussian() * 3, random.nextGaussian() * 3),
+                    0.5 + random.nextDouble() * 2, 0.5 + random.nextDouble() * 2);
+
+            double best = Double.MAX_VALUE;
+            for (int k = 0; k <= 10000; k++) {
+                best = Math.min(best, pointDistanceSqr(start.lerp(end, k / 10000.0), box));
+            }
+            double exact = SweptCapsuleQuery.segmentDistanceSqr(start, end, box, out);
+            assertTrue(exact <= best + 1.0e-9, "exact distance above sampled minimum");
+            assertEquals(best, exact, 1.0e-3);
+            assertEquals(exact, pointDistanceSqr(start.lerp(end, out[1]), box), 1.0e-9);
+        }
+    }
+
+    private static double pointDistanceSqr(Vec3 p, AABB box) {
+        double dx = Math.max(Math.max(box.minX - p.x, 0), p.x - box.maxX);
+        double dy = Math.max(Math.max(box.minY - p.y, 0), p.y - box.maxY);
+        double dz = Math.max(Math.max(box.minZ - p.z, 0), p.z - box.maxZ);
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
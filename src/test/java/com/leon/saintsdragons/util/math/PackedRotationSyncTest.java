@@ -0,0 +1,136 @@
+package com.leon.saintsdragons.util.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedRotationSyncTest {
+    // Same deadband as DragonEntity.ROTATION_SYNC_DEADBAND
+    private static final int DEADBAND = 2;
+
+    @Test
+    void roundTripWithinOneHalfStep() {
+        Random random = new Random(6L);
+        for (int i = 0; i < 100_000; i++) {
+            float body = (random.nextFloat() * 2 - 1) * 63.9f;
+            float pitch = (random.nextFloat() * 2 - 1) * 31.9f;
+            float yaw = (random.nextFloat() * 2 - 1) * 360.0f;
+            int packed = PackedRotationSync.pack(body, pitch, yaw);
+
+            assertEquals(body, PackedRotationSync.bodyDeviation(packed), PackedRotationSync.DEVIATION_STEP / 2 + 1.0e-4f);
+            assertEquals(pitch, PackedRotationSync.pitchDeviation(packed), PackedRotationSync.DEVIATION_STEP / 2 + 1.0e-4f);
+            assertEquals(yaw, PackedRotationSync.yawVelocity(packed), PackedRotationSync.YAW_VELOCITY_STEP / 2 + 1.0e-4f);
+        }
+    }
+
+    @Test
+    void fieldsDoNotBleedIntoEachOther() {
+        int packed = PackedRotationSync.pack(-0.0625f, -0.0625f, -0.5f);
+        assertEquals(-0.0625f, PackedRotationSync.bodyDeviation(packed), 0.0f);
+        assertEquals(-0.0625f, PackedRotationSync.pitchDeviation(packed), 0.0f);
+        assertEquals(-0.5f, PackedRotationSync.yawVelocity(packed), 0.0f);
+
+        packed = PackedRotationSync.pack(0.0f, 0.0f, -360.0f);
+        assertEquals(0.0f, PackedRotationSync.bodyDeviation(packed), 0.0f);
+        assertEquals(0.0f, PackedRotationSync.pitchDeviation(packed), 0.0f);
+    }
+
+    @Test
+    void yawVelocityCoversAFullTurnEachWay() {
+        // updateServerRotationTargets sends wrapDegrees(yBodyRot - yBodyRotO) * 2, so up to +-360
+        for (float yaw = -360.0f; yaw <= 360.0f; yaw += 0.5f) {
+            int packed = PackedRotationSync.pack(0.0f, 0.0f, yaw);
+            assertEquals(yaw, PackedRotationSync.yawVelocity(packed), 0.0f);
+        }
+    }
+
+    @Test
+    void outOfRangeValuesClampToTheFieldLimits() {
+        int packed = PackedRotationSync.pack(500.0f, 500.0f, 5000.0f);
+        assertEquals(64.0f - PackedRotationSync.DEVIATION_STEP, PackedRotationSync.bodyDeviation(packed), 0.0f);
+        assertEquals(32.0f - PackedRotationSync.DEVIATION_STEP, PackedRotationSync.pitchDeviation(packed), 0.0f);
+        assertEquals(512.0f - PackedRotationSync.YAW_VELOCITY_STEP, PackedRotationSync.yawVelocity(packed), 0.0f);
+
+        packed = PackedRotationSync.pack(-500.0f, -500.0f, -5000.0f);
+        assertEquals(-64.0f, PackedRotationSync.bodyDeviation(packed), 0.0f);
+        assertEquals(-32.0f, PackedRotationSync.pitchDeviation(packed), 0.0f);
+        assertEquals(-512.0f, PackedRotationSync.yawVelocity(packed), 0.0f);
+    }
+
+    @Test
+    void deadband() {
+        int zero = PackedRotationSync.pack(0.0f, 0.0f, 0.0f);
+        int oneStep = PackedRotationSync.pack(0.0625f, 0.0f, 0.0f);
+        int twoSteps = PackedRotationSync.pack(0.125f, 0.0f, 0.0f);
+
+        assertFalse(PackedRotationSync.exceedsDeadband(zero, zero, DEADBAND));
+        assertFalse(PackedRotationSync.exceedsDeadband(zero, oneStep, DEADBAND));
+        assertTrue(PackedRotationSync.exceedsDeadband(zero, twoSteps, DEADBAND));
+        // Settling back to exactly zero is always sent
+        assertTrue(PackedRotationSync.exceedsDeadband(oneStep, zero, DEADBAND));
+        // Yaw counts in its own, coarser steps
+        assertFalse(PackedRotationSync.exceedsDeadband(zero, PackedRotationSync.pack(0.0f, 0.0f, 0.5f), DEADBAND));
+        assertTrue(PackedRotationSync.exceedsDeadband(zero, PackedRotationSync.pack(0.0f, 0.0f, 1.0f), DEADBAND));
+    }
+
+    @Test
+    void idleDragonSendsAlmostNothingOver200Ticks() {
+        // Idle wild dragon: head drifting a few hundredths of a degree per tick around a steady gaze,
+        // body and pitch wobbling by less than a tenth of a degree
+        Random random = new Random(200L);
+        int last = 0;
+        int packets = 0;
+        int floatChanges = 0;
+        float lastBody = 0, lastPitch = 0, lastYaw = 0;
+        for (int tick = 0; tick < 200; tick++) {
+            float headToBody = (float) (Math.sin(tick * 0.05) * 0.05 + random.nextGaussian() * 0.01) * 0.25f;
+            float pitchDelta = (float) (random.nextGaussian() * 0.02) * 0.5f;
+            float bodyYawDelta = (float) (random.nextGaussian() * 0.01) * 2.0f;
+
+            // The three float accessors this replaces were dirtied whenever any value changed
+            if (headToBody != lastBody || pitchDelta != lastPitch || bodyYawDelta != lastYaw) {
+                floatChanges++;
+            }
+            lastBody = headToBody;
+            lastPitch = pitchDelta;
+            lastYaw = bodyYawDelta;
+
+            int packed = PackedRotationSync.pack(headToBody, pitchDelta, bodyYawDelta);
+            if (PackedRotationSync.exceedsDeadband(last, packed, DEADBAND)) {
+                last = packed;
+                packets++;
+            }
+        }
+
+        assertEquals(200, floatChanges);
+        assertTrue(packets <= 2, "idle dragon sent " + packets + " rotation packets");
+    }
+
+    @Test
+    void turningDragonComesToRestAndGoesQuiet() {
+        // Turn 90 degrees, easing out, then stand still for the rest of the 200 ticks
+        int last = 0;
+        int packets = 0;
+        int packetsAfterSettling = 0;
+        float body = 0.0f;
+        float target = 90.0f;
+        for (int tick = 0; tick < 200; tick++) {
+            float previous = body;
+            body += (target - body) * 0.2f;
+            int packed = PackedRotationSync.pack(0.0f, 0.0f, (body - previous) * 2.0f);
+            if (PackedRotationSync.exceedsDeadband(last, packed, DEADBAND)) {
+                last = packed;
+                packets++;
+                if (tick >= 60) packetsAfterSettling++;
+            }
+        }
+
+        assertEquals(0.0f, PackedRotationSync.yawVelocity(last), 0.0f, "client must end at rest");
+        assertEquals(0, packetsAfterSettling);
+        assertTrue(packets <= 30, "turn sent " + packets + " rotation packets");
+    }
+}